@@ -25,6 +25,7 @@ import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.listener.OnChartDataUpdateListener;
 import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.xxmassdeveloper.mpchartexample.notimportant.DemoBase;
@@ -94,6 +95,20 @@ public class RealtimeLineChartActivity extends DemoBase implements
         YAxis rightAxis = chart.getAxisRight();
         rightAxis.setEnabled(false);
 
+        // called once per frame, after all entries added since the last frame are applied
+        chart.setOnChartDataUpdateListener(new OnChartDataUpdateListener() {
+
+            @Override
+            public void onChartDataUpdated(int updateCount) {
+
+                // limit the number of visible entries
+                chart.setVisibleXRangeMaximum(120);
+                // chart.setVisibleYRange(30, AxisDependency.LEFT);
+
+                // move to the latest entry
+                chart.moveViewToX(chart.getData().getEntryCount());
+            }
+        });
     }
 
     private void addEntry() {
@@ -111,21 +126,10 @@ public class RealtimeLineChartActivity extends DemoBase implements
             }
 
             data.addEntry(new Entry(set.getEntryCount(), (float) (Math.random() * 40) + 30f), 0);
-            data.notifyDataChanged();
-
-            // let the chart know it's data has changed
-            chart.notifyDataSetChanged();
-
-            // limit the number of visible entries
-            chart.setVisibleXRangeMaximum(120);
-            // chart.setVisibleYRange(30, AxisDependency.LEFT);
-
-            // move to the latest entry
-            chart.moveViewToX(data.getEntryCount());
 
-            // this automatically refreshes the chart (calls invalidate())
-            // chart.moveViewTo(data.getXValCount()-7, 55f,
-            // AxisDependency.LEFT);
+            // let the chart know it's data has changed, all entries added within one frame
+            // are applied together, see the OnChartDataUpdateListener
+            chart.postDataSetChanged();
         }
     }
 
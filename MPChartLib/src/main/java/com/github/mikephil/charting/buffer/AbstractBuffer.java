@@ -16,7 +16,10 @@ public abstract class AbstractBuffer<T> {
     protected int index = 0;
 
     /** float-buffer that holds the data points to draw, order: x,y,x,y,... */
-    public final float[] buffer;
+    public float[] buffer;
+
+    /** number of values written into the buffer by the last feed */
+    protected int mSize = 0;
 
     /** animation phase x-axis */
     protected float phaseX = 1f;
@@ -28,7 +31,7 @@ public abstract class AbstractBuffer<T> {
     protected int mFrom = 0;
 
     /** indicates to which x-index the visible data ranges */
-    protected int mTo = 0;
+    protected int mTo = Integer.MAX_VALUE;
 
     /**
      * Initialization with buffer-size.
@@ -55,19 +58,41 @@ public abstract class AbstractBuffer<T> {
     }
 
     /**
-     * Resets the buffer index to 0 and makes the buffer reusable.
+     * Returns the first x-index the buffer is fed with.
+     *
+     * @return
+     */
+    public int getLimitFrom() {
+        return mFrom;
+    }
+
+    /**
+     * Grows the buffer array if it cannot hold the given number of values.
+     *
+     * @param size
+     */
+    protected void ensureCapacity(int size) {
+        if (buffer.length < size)
+            buffer = new float[size];
+    }
+
+    /**
+     * Resets the buffer index to 0 and makes the buffer reusable. The number
+     * of values written so far is kept as the size of the buffer.
      */
     public void reset() {
+        mSize = index;
         index = 0;
     }
 
     /**
-     * Returns the size (length) of the buffer array.
+     * Returns the number of values the buffer was filled with by the last
+     * feed, this can be less than the length of the buffer array.
      * 
      * @return
      */
     public int size() {
-        return buffer.length;
+        return mSize;
     }
 
     /**
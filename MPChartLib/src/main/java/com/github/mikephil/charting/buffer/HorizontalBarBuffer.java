@@ -13,10 +13,15 @@ public class HorizontalBarBuffer extends BarBuffer {
     @Override
     public void feed(IBarDataSet data) {
 
-        float size = data.getEntryCount() * phaseX;
+        final int from = mFrom;
+        final int to = Math.min(mTo,
+                Math.min((int) Math.ceil(data.getEntryCount() * phaseX), data.getEntryCount()) - 1);
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        ensureCapacity(Math.max(to - from + 1, 0) * 4
+                * (mContainsStacks ? Math.max(data.getStackSize(), 1) : 1));
+
+        for (int i = from; i <= to; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
@@ -103,6 +103,20 @@ public class BarChart extends BarLineChartBase<BarData> implements BarDataProvid
         }
     }
 
+    @Override
+    public Highlight getHighlightByTouchPoint(float x, float y, Highlight outputHighlight) {
+
+        Highlight h = super.getHighlightByTouchPoint(x, y, outputHighlight);
+        if (h == null || !isHighlightFullBarEnabled()) return h;
+
+        // For isHighlightFullBarEnabled, remove stackIndex
+        h.set(h.getX(), h.getY(),
+                h.getXPx(), h.getYPx(),
+                h.getDataSetIndex(), -1, h.getAxis());
+
+        return h;
+    }
+
     /**
      * Returns the bounding box of the specified Entry in the specified DataSet. Returns null if the Entry could not be
      * found in the charts data.  Performance-intensive code should use void getBarBounds(BarEntry, RectF) instead.
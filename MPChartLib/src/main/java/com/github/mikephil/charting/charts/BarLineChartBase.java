@@ -4,6 +4,7 @@ package com.github.mikephil.charting.charts;
 import android.annotation.SuppressLint;
 import android.annotation.TargetApi;
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Matrix;
@@ -36,6 +37,8 @@ import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 
+import java.util.Arrays;
+
 /**
  * Base-class of LineChart, BarChart, ScatterChart and CandleStickChart.
  *
@@ -115,6 +118,29 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     protected OnDrawListener mDrawListener;
 
+    /**
+     * if true, everything below and above the highlight is kept in layer bitmaps
+     */
+    protected boolean mLayeredRenderingEnabled = false;
+
+    /**
+     * the layer bitmaps and the canvases drawing into them
+     */
+    private Bitmap mLayerBelowHighlight;
+    private Bitmap mLayerAboveHighlight;
+    private Canvas mLayerBelowHighlightCanvas;
+    private Canvas mLayerAboveHighlightCanvas;
+
+    private boolean mLayersValid = false;
+
+    /**
+     * touch matrix, content rect and axis ranges the layers were drawn for
+     */
+    private float[] mLayerState = new float[19];
+    private float[] mLayerStateBuffer = new float[19];
+
+    private int mLayerRedrawCount = 0;
+
     /**
      * the object representing the labels on the left y-axis
      */
@@ -192,9 +218,6 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         long starttime = System.currentTimeMillis();
 
-        // execute all drawing commands
-        drawGridBackground(canvas);
-
         if (mAutoScaleMinMaxEnabled) {
             autoScale();
         }
@@ -208,6 +231,53 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mXAxis.isEnabled())
             mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
 
+        if (mLayeredRenderingEnabled && !isAnimating() && prepareLayers()) {
+
+            if (!mLayersValid) {
+
+                mLayerBelowHighlight.eraseColor(Color.TRANSPARENT);
+                mLayerAboveHighlight.eraseColor(Color.TRANSPARENT);
+
+                drawBelowHighlight(mLayerBelowHighlightCanvas);
+                drawAboveHighlight(mLayerAboveHighlightCanvas);
+
+                mLayersValid = true;
+                mLayerRedrawCount++;
+            }
+
+            canvas.drawBitmap(mLayerBelowHighlight, 0f, 0f, null);
+            drawHighlightOverlay(canvas);
+            canvas.drawBitmap(mLayerAboveHighlight, 0f, 0f, null);
+
+        } else {
+
+            drawBelowHighlight(canvas);
+            drawHighlightOverlay(canvas);
+            drawAboveHighlight(canvas);
+        }
+
+        drawMarkers(canvas);
+
+        if (mLogEnabled) {
+            long drawtime = (System.currentTimeMillis() - starttime);
+            totalTime += drawtime;
+            drawCycles += 1;
+            long average = totalTime / drawCycles;
+            Log.i(LOG_TAG, "Drawtime: " + drawtime + " ms, average: " + average + " ms, cycles: "
+                    + drawCycles);
+        }
+    }
+
+    /**
+     * Draws everything that lies below the highlight: grid background, axis lines, grid lines
+     * and limit lines behind the data, the data and the grid lines in front of it.
+     *
+     * @param canvas
+     */
+    protected void drawBelowHighlight(Canvas canvas) {
+
+        drawGridBackground(canvas);
+
         mXAxisRenderer.renderAxisLine(canvas);
         mAxisRendererLeft.renderAxisLine(canvas);
         mAxisRendererRight.renderAxisLine(canvas);
@@ -245,12 +315,36 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (!mAxisRight.isDrawGridLinesBehindDataEnabled())
             mAxisRendererRight.renderGridLines(canvas);
 
+        // Removes clipping rectangle
+        canvas.restoreToCount(clipRestoreCount);
+    }
+
+    /**
+     * Draws the highlighted values, clipped to the content rect.
+     *
+     * @param canvas
+     */
+    protected void drawHighlightOverlay(Canvas canvas) {
+
         // if highlighting is enabled
-        if (valuesToHighlight())
+        if (valuesToHighlight()) {
+
+            int clipRestoreCount = canvas.save();
+            canvas.clipRect(mViewPortHandler.getContentRect());
+
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
 
-        // Removes clipping rectangle
-        canvas.restoreToCount(clipRestoreCount);
+            canvas.restoreToCount(clipRestoreCount);
+        }
+    }
+
+    /**
+     * Draws everything that lies above the highlight: extras, limit lines in front of the data,
+     * axis labels, values, legend and description.
+     *
+     * @param canvas
+     */
+    protected void drawAboveHighlight(Canvas canvas) {
 
         mRenderer.drawExtras(canvas);
 
@@ -268,7 +362,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mAxisRendererRight.renderAxisLabels(canvas);
 
         if (isClipValuesToContentEnabled()) {
-            clipRestoreCount = canvas.save();
+            int clipRestoreCount = canvas.save();
             canvas.clipRect(mViewPortHandler.getContentRect());
 
             mRenderer.drawValues(canvas);
@@ -281,17 +375,135 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mLegendRenderer.renderLegend(canvas);
 
         drawDescription(canvas);
+    }
 
-        drawMarkers(canvas);
+    /**
+     * Returns true if an animation is running, layers are not used while animating.
+     *
+     * @return
+     */
+    private boolean isAnimating() {
+        return mAnimator.getPhaseX() < 1f || mAnimator.getPhaseY() < 1f;
+    }
 
-        if (mLogEnabled) {
-            long drawtime = (System.currentTimeMillis() - starttime);
-            totalTime += drawtime;
-            drawCycles += 1;
-            long average = totalTime / drawCycles;
-            Log.i(LOG_TAG, "Drawtime: " + drawtime + " ms, average: " + average + " ms, cycles: "
-                    + drawCycles);
+    /**
+     * Creates the layer bitmaps if needed and checks whether they are still valid for the
+     * current viewport, axis ranges and chart size. Returns false if no bitmaps can be created.
+     *
+     * @return
+     */
+    private boolean prepareLayers() {
+
+        final int width = getWidth();
+        final int height = getHeight();
+
+        if (width <= 0 || height <= 0)
+            return false;
+
+        if (mLayerBelowHighlight == null
+                || mLayerBelowHighlight.getWidth() != width
+                || mLayerBelowHighlight.getHeight() != height) {
+
+            releaseLayers();
+
+            try {
+                mLayerBelowHighlight = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+                mLayerAboveHighlight = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            } catch (OutOfMemoryError e) {
+                Log.e(LOG_TAG, "Not enough memory for the layer bitmaps, drawing directly.");
+                releaseLayers();
+                return false;
+            }
+
+            mLayerBelowHighlightCanvas = new Canvas(mLayerBelowHighlight);
+            mLayerAboveHighlightCanvas = new Canvas(mLayerAboveHighlight);
+        }
+
+        // the viewport, the axis ranges and the content rect the layers were drawn for
+        final float[] state = mLayerStateBuffer;
+
+        mViewPortHandler.getMatrixTouch().getValues(state);
+
+        final RectF content = mViewPortHandler.getContentRect();
+        state[9] = content.left;
+        state[10] = content.top;
+        state[11] = content.right;
+        state[12] = content.bottom;
+        state[13] = mAxisLeft.mAxisMinimum;
+        state[14] = mAxisLeft.mAxisMaximum;
+        state[15] = mAxisRight.mAxisMinimum;
+        state[16] = mAxisRight.mAxisMaximum;
+        state[17] = mXAxis.mAxisMinimum;
+        state[18] = mXAxis.mAxisMaximum;
+
+        if (!Arrays.equals(state, mLayerState)) {
+            System.arraycopy(state, 0, mLayerState, 0, state.length);
+            mLayersValid = false;
         }
+
+        return true;
+    }
+
+    private void releaseLayers() {
+
+        if (mLayerBelowHighlight != null)
+            mLayerBelowHighlight.recycle();
+
+        if (mLayerAboveHighlight != null)
+            mLayerAboveHighlight.recycle();
+
+        mLayerBelowHighlight = null;
+        mLayerAboveHighlight = null;
+        mLayerBelowHighlightCanvas = null;
+        mLayerAboveHighlightCanvas = null;
+        mLayersValid = false;
+    }
+
+    /**
+     * Enables / disables layered rendering. If enabled, everything the chart draws below and
+     * above the highlight is kept in two bitmaps of the size of the chart. Redrawing the chart
+     * for a new highlight or marker position then only draws the bitmaps, the highlight and the
+     * markers. The layers are drawn again when the viewport, the axis ranges, the chart size or
+     * the data (notifyDataSetChanged()) change. After changing the appearance of the chart
+     * otherwise (colors, labels, ...), call invalidateLayers(). Layers are not used while
+     * animating. Needs memory for two ARGB_8888 bitmaps of the size of the chart.
+     * Default: disabled
+     *
+     * @param enabled
+     */
+    public void setLayeredRenderingEnabled(boolean enabled) {
+        mLayeredRenderingEnabled = enabled;
+
+        if (!enabled)
+            releaseLayers();
+    }
+
+    public boolean isLayeredRenderingEnabled() {
+        return mLayeredRenderingEnabled;
+    }
+
+    /**
+     * Forces the layers to be drawn again on the next redraw, and redraws the chart.
+     */
+    public void invalidateLayers() {
+        mLayersValid = false;
+        invalidate();
+    }
+
+    /**
+     * Returns the number of times the layers were drawn, redraws that only drew the layer
+     * bitmaps are not counted.
+     *
+     * @return
+     */
+    public int getLayerRedrawCount() {
+        return mLayerRedrawCount;
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        releaseLayers();
     }
 
     /**
@@ -341,6 +553,13 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         calcMinMax();
 
+        mLayersValid = false;
+
+        // the labels may be formatted from the data
+        mAxisRendererLeft.invalidateAxisValues();
+        mAxisRendererRight.invalidateAxisValues();
+        mXAxisRenderer.invalidateAxisValues();
+
         mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
         mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum, mAxisRight.isInverted());
         mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
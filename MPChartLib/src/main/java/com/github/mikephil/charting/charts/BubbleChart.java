@@ -5,6 +5,7 @@ import android.content.Context;
 import android.util.AttributeSet;
 
 import com.github.mikephil.charting.data.BubbleData;
+import com.github.mikephil.charting.highlight.SpatialHighlighter;
 import com.github.mikephil.charting.interfaces.dataprovider.BubbleDataProvider;
 import com.github.mikephil.charting.renderer.BubbleChartRenderer;
 
@@ -35,6 +36,7 @@ public class BubbleChart extends BarLineChartBase<BubbleData> implements BubbleD
         super.init();
 
         mRenderer = new BubbleChartRenderer(this, mAnimator, mViewPortHandler);
+        setHighlighter(new SpatialHighlighter(this));
     }
 
     public BubbleData getBubbleData() {
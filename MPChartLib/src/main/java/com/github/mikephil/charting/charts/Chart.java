@@ -20,6 +20,7 @@ import androidx.annotation.RequiresApi;
 import android.text.TextUtils;
 import android.util.AttributeSet;
 import android.util.Log;
+import android.view.Choreographer;
 import android.view.View;
 import android.view.ViewGroup;
 import android.view.ViewParent;
@@ -41,6 +42,7 @@ import com.github.mikephil.charting.highlight.IHighlighter;
 import com.github.mikephil.charting.interfaces.dataprovider.ChartInterface;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.listener.ChartTouchListener;
+import com.github.mikephil.charting.listener.OnChartDataUpdateListener;
 import com.github.mikephil.charting.listener.OnChartGestureListener;
 import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
 import com.github.mikephil.charting.renderer.DataRenderer;
@@ -149,6 +151,40 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     private OnChartGestureListener mGestureListener;
 
+    /**
+     * listener that is called after coalesced data updates have been applied
+     */
+    private OnChartDataUpdateListener mDataUpdateListener;
+
+    /**
+     * true if a coalesced data update is scheduled for the next frame
+     */
+    private boolean mDataUpdateScheduled = false;
+
+    /**
+     * the number of postDataSetChanged() calls since the scheduled update was posted, and the
+     * total number of calls that did not cause a recalculation of their own
+     */
+    private int mPendingUpdateCount = 0;
+    private long mCoalescedUpdateCount = 0;
+
+    /**
+     * the Choreographer.FrameCallback that applies the scheduled update, typed as Object
+     * because the class does not exist before API level 16
+     */
+    private Object mDataUpdateFrameCallback;
+
+    /**
+     * applies the scheduled update on API levels without Choreographer
+     */
+    private Runnable mDataUpdateRunnable = new Runnable() {
+
+        @Override
+        public void run() {
+            flushDataSetChanged();
+        }
+    };
+
     protected LegendRenderer mLegendRenderer;
 
     /**
@@ -351,6 +387,124 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     public abstract void notifyDataSetChanged();
 
+    /**
+     * Schedules notifyDataChanged() on the data object, notifyDataSetChanged() and invalidate()
+     * to run once with the next display frame, instead of on every call. Use this instead of
+     * calling these methods for every value when data arrives at a high rate: all calls made
+     * until the next frame are applied by a single recalculation. The data itself may be
+     * modified right away. Must be called on the UI thread.
+     */
+    public void postDataSetChanged() {
+
+        mPendingUpdateCount++;
+
+        if (mDataUpdateScheduled) {
+            mCoalescedUpdateCount++;
+            return;
+        }
+
+        mDataUpdateScheduled = true;
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN)
+            postDataUpdateFrameCallback();
+        else
+            postDelayed(mDataUpdateRunnable, ValueAnimator.getFrameDelay());
+    }
+
+    @RequiresApi(Build.VERSION_CODES.JELLY_BEAN)
+    private void postDataUpdateFrameCallback() {
+
+        if (mDataUpdateFrameCallback == null) {
+            mDataUpdateFrameCallback = new Choreographer.FrameCallback() {
+
+                @Override
+                public void doFrame(long frameTimeNanos) {
+                    flushDataSetChanged();
+                }
+            };
+        }
+
+        Choreographer.getInstance().postFrameCallback((Choreographer.FrameCallback) mDataUpdateFrameCallback);
+    }
+
+    /**
+     * Applies the updates scheduled with postDataSetChanged() right away, instead of waiting
+     * for the next frame. Does nothing if no update is pending.
+     */
+    public void flushDataSetChanged() {
+
+        if (mPendingUpdateCount == 0)
+            return;
+
+        if (mDataUpdateScheduled) {
+
+            mDataUpdateScheduled = false;
+
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN)
+                removeDataUpdateFrameCallback();
+            else
+                removeCallbacks(mDataUpdateRunnable);
+        }
+
+        int updateCount = mPendingUpdateCount;
+        mPendingUpdateCount = 0;
+
+        if (mData != null) {
+            mData.notifyDataChanged();
+            notifyDataSetChanged();
+        }
+
+        if (mDataUpdateListener != null)
+            mDataUpdateListener.onChartDataUpdated(updateCount);
+
+        invalidate();
+    }
+
+    @RequiresApi(Build.VERSION_CODES.JELLY_BEAN)
+    private void removeDataUpdateFrameCallback() {
+
+        if (mDataUpdateFrameCallback != null)
+            Choreographer.getInstance().removeFrameCallback((Choreographer.FrameCallback) mDataUpdateFrameCallback);
+    }
+
+    /**
+     * Returns true if updates requested with postDataSetChanged() wait for the next frame.
+     *
+     * @return
+     */
+    public boolean isDataUpdatePending() {
+        return mPendingUpdateCount > 0;
+    }
+
+    /**
+     * Returns the total number of postDataSetChanged() calls that were merged into an already
+     * scheduled update, i.e. the number of recalculations that were saved.
+     *
+     * @return
+     */
+    public long getCoalescedUpdateCount() {
+        return mCoalescedUpdateCount;
+    }
+
+    /**
+     * Sets a listener that is called after the updates requested with postDataSetChanged()
+     * have been applied.
+     *
+     * @param l
+     */
+    public void setOnChartDataUpdateListener(OnChartDataUpdateListener l) {
+        this.mDataUpdateListener = l;
+    }
+
+    /**
+     * Returns the listener that is called after coalesced data updates have been applied.
+     *
+     * @return
+     */
+    public OnChartDataUpdateListener getOnChartDataUpdateListener() {
+        return mDataUpdateListener;
+    }
+
     /**
      * Calculates the offsets of the chart to the border depending on the
      * position of an eventual legend or depending on the length of the y-axis
@@ -382,6 +536,10 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
 
         // setup the formatter with a new number of digits
         mDefaultValueFormatter.setup(digits);
+
+        // labels cached with the old number of digits are outdated
+        if (mData != null)
+            mData.clearLabelCache();
     }
 
     /**
@@ -657,6 +815,14 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         invalidate();
     }
 
+    /**
+     * true if a subclass overrides getHighlightByTouchPoint(float, float) but not
+     * getHighlightByTouchPoint(float, float, Highlight)
+     */
+    protected final boolean mLegacyTouchPointHighlight = Utils.isLegacyOverloadOverridden(getClass(),
+            "getHighlightByTouchPoint", new Class<?>[]{float.class, float.class},
+            new Class<?>[]{float.class, float.class, Highlight.class});
+
     /**
      * Returns the Highlight object (contains x-index and DataSet index) of the
      * selected value at the given touch point inside the Line-, Scatter-, or
@@ -675,6 +841,39 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
             return getHighlighter().getHighlight(x, y);
     }
 
+    /**
+     * Like getHighlightByTouchPoint(x, y), but copies the result into the given Highlight
+     * instead of creating a new one, e.g. for highlighting on every move of a drag. Returns
+     * outputHighlight, or null if nothing was found. Goes through getHighlightByTouchPoint(x, y)
+     * if a subclass overrides only that one.
+     *
+     * @param x
+     * @param y
+     * @param outputHighlight
+     * @return
+     */
+    public Highlight getHighlightByTouchPoint(float x, float y, Highlight outputHighlight) {
+
+        if (mData == null) {
+            Log.e(LOG_TAG, "Can't select by touch. No data set.");
+            return null;
+        }
+
+        IHighlighter highlighter = getHighlighter();
+
+        if (highlighter instanceof ChartHighlighter && !mLegacyTouchPointHighlight)
+            return ((ChartHighlighter) highlighter).getHighlight(x, y, outputHighlight);
+
+        Highlight h = mLegacyTouchPointHighlight
+                ? getHighlightByTouchPoint(x, y) : highlighter.getHighlight(x, y);
+
+        if (h == null)
+            return null;
+
+        outputHighlight.set(h);
+        return outputHighlight;
+    }
+
     /**
      * Set a new (e.g. custom) ChartTouchListener NOTE: make sure to
      * setTouchEnabled(true); if you need touch gestures on the chart
@@ -1705,6 +1904,9 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
 
         //Log.i(LOG_TAG, "Detaching...");
 
+        // no frames are drawn anymore, don't leave the data half-updated
+        flushDataSetChanged();
+
         if (mUnbind)
             unbindDrawables(this);
     }
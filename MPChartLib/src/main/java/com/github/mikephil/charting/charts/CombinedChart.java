@@ -123,6 +123,20 @@ public class CombinedChart extends BarLineChartBase<CombinedData> implements Com
         }
     }
 
+    @Override
+    public Highlight getHighlightByTouchPoint(float x, float y, Highlight outputHighlight) {
+
+        Highlight h = super.getHighlightByTouchPoint(x, y, outputHighlight);
+        if (h == null || !isHighlightFullBarEnabled()) return h;
+
+        // For isHighlightFullBarEnabled, remove stackIndex
+        h.set(h.getX(), h.getY(),
+                h.getXPx(), h.getYPx(),
+                h.getDataSetIndex(), -1, h.getAxis());
+
+        return h;
+    }
+
     @Override
     public LineData getLineData() {
         if (mData == null)
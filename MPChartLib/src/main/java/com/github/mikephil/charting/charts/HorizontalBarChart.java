@@ -9,8 +9,10 @@ import com.github.mikephil.charting.components.XAxis.XAxisPosition;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.highlight.ChartHighlighter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.HorizontalBarHighlighter;
+import com.github.mikephil.charting.highlight.IHighlighter;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 import com.github.mikephil.charting.renderer.HorizontalBarChartRenderer;
 import com.github.mikephil.charting.renderer.XAxisRendererHorizontalBarChart;
@@ -208,6 +210,33 @@ public class HorizontalBarChart extends BarChart {
             return getHighlighter().getHighlight(y, x); // switch x and y
     }
 
+    @Override
+    public Highlight getHighlightByTouchPoint(float x, float y, Highlight outputHighlight) {
+
+        // goes through getHighlightByTouchPoint(x, y) of the subclass
+        if (mLegacyTouchPointHighlight)
+            return super.getHighlightByTouchPoint(x, y, outputHighlight);
+
+        if (mData == null) {
+            if (mLogEnabled)
+                Log.e(LOG_TAG, "Can't select by touch. No data set.");
+            return null;
+        }
+
+        IHighlighter highlighter = getHighlighter();
+
+        if (highlighter instanceof ChartHighlighter) // switch x and y
+            return ((ChartHighlighter) highlighter).getHighlight(y, x, outputHighlight);
+
+        Highlight h = highlighter.getHighlight(y, x);
+
+        if (h == null)
+            return null;
+
+        outputHighlight.set(h);
+        return outputHighlight;
+    }
+
     @Override
     public float getLowestVisibleX() {
         getTransformer(AxisDependency.LEFT).getValuesByTouchPoint(mViewPortHandler.contentLeft(),
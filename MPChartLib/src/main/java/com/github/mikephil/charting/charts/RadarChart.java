@@ -110,6 +110,10 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
 
         calcMinMax();
 
+        // the labels may be formatted from the data
+        mYAxisRenderer.invalidateAxisValues();
+        mXAxisRenderer.invalidateAxisValues();
+
         mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum, mYAxis.isInverted());
         mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
 
@@ -5,6 +5,7 @@ import android.content.Context;
 import android.util.AttributeSet;
 
 import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.highlight.SpatialHighlighter;
 import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
 import com.github.mikephil.charting.renderer.ScatterChartRenderer;
 
@@ -35,6 +36,7 @@ public class ScatterChart extends BarLineChartBase<ScatterData> implements Scatt
         super.init();
 
         mRenderer = new ScatterChartRenderer(this, mAnimator, mViewPortHandler);
+        setHighlighter(new SpatialHighlighter(this));
 
         getXAxis().setSpaceMin(0.5f);
         getXAxis().setSpaceMax(0.5f);
@@ -2,6 +2,8 @@ package com.github.mikephil.charting.components;
 
 import android.graphics.Color;
 import android.graphics.DashPathEffect;
+import android.graphics.Paint;
+import android.graphics.Typeface;
 import android.util.Log;
 
 import com.github.mikephil.charting.formatter.DefaultAxisValueFormatter;
@@ -51,6 +53,21 @@ public abstract class AxisBase extends ComponentBase {
      */
     public int mDecimals;
 
+    /**
+     * the formatted labels of the entries and their measured widths (-1 if not measured yet),
+     * the index of the longest label (-1 if there is none)
+     */
+    private String[] mLabels = new String[0];
+    private int[] mLabelWidths = new int[0];
+    private int mLongestLabelIndex = -1;
+    private boolean mLabelsValid = false;
+
+    /**
+     * the text size and typeface the label widths were measured with
+     */
+    private float mLabelWidthTextSize = -1f;
+    private Typeface mLabelWidthTypeface = null;
+
     /**
      * the number of label entries the axis should have, default 6
      */
@@ -468,24 +485,108 @@ public abstract class AxisBase extends ComponentBase {
      */
     public String getLongestLabel() {
 
-        String longest = "";
+        validateLabels();
 
-        for (int i = 0; i < mEntries.length; i++) {
-            String text = getFormattedLabel(i);
+        return mLongestLabelIndex < 0 ? "" : mLabels[mLongestLabelIndex];
+    }
 
-            if (text != null && longest.length() < text.length())
-                longest = text;
-        }
+    /**
+     * Returns the width of the longest formatted label (in terms of characters), as measured
+     * by Utils.calcTextWidth(...) with the given paint. The width is kept like the widths of
+     * getLabelWidth(...).
+     *
+     * @param paint
+     * @return
+     */
+    public int getLongestLabelWidth(Paint paint) {
+
+        validateLabels();
 
-        return longest;
+        return mLongestLabelIndex < 0 ? 0 : getLabelWidth(mLongestLabelIndex, paint);
     }
 
     public String getFormattedLabel(int index) {
 
         if (index < 0 || index >= mEntries.length)
             return "";
-        else
-            return getValueFormatter().getAxisLabel(mEntries[index], this);
+
+        validateLabels();
+
+        return mLabels[index];
+    }
+
+    /**
+     * Returns the width of the formatted label at the given index, as measured by
+     * Utils.calcTextWidth(...) with the given paint. The width is measured once per label and
+     * paint text size / typeface.
+     *
+     * @param index
+     * @param paint
+     * @return
+     */
+    public int getLabelWidth(int index, Paint paint) {
+
+        if (index < 0 || index >= mEntries.length)
+            return 0;
+
+        validateLabels();
+
+        if (paint.getTextSize() != mLabelWidthTextSize || paint.getTypeface() != mLabelWidthTypeface) {
+
+            for (int i = 0; i < mLabelWidths.length; i++)
+                mLabelWidths[i] = -1;
+
+            mLabelWidthTextSize = paint.getTextSize();
+            mLabelWidthTypeface = paint.getTypeface();
+        }
+
+        if (mLabelWidths[index] < 0)
+            mLabelWidths[index] = Utils.calcTextWidth(paint, mLabels[index]);
+
+        return mLabelWidths[index];
+    }
+
+    /**
+     * Discards the formatted labels and their widths, they are formatted again when they are
+     * requested next. Called whenever the axis values are computed, call it after changing
+     * the entries or reconfiguring the formatter in between.
+     */
+    public void invalidateLabels() {
+        mLabelsValid = false;
+    }
+
+    /**
+     * Formats the labels of all entries if they were invalidated. Only checks a flag if they
+     * are valid.
+     */
+    private void validateLabels() {
+
+        if (mLabelsValid && mLabels.length == mEntries.length)
+            return;
+
+        final ValueFormatter formatter = getValueFormatter();
+        final int count = mEntries.length;
+
+        if (mLabels.length != count) {
+            mLabels = new String[count];
+            mLabelWidths = new int[count];
+        }
+
+        int longest = -1;
+
+        for (int i = 0; i < count; i++) {
+
+            String text = formatter.getAxisLabel(mEntries[i], this);
+
+            mLabels[i] = text;
+            mLabelWidths[i] = -1;
+
+            if (text != null && (longest < 0 || mLabels[longest].length() < text.length()))
+                longest = i;
+        }
+
+        mLongestLabelIndex = longest;
+        mLabelsValid = true;
     }
 
     /**
@@ -503,6 +604,8 @@ public abstract class AxisBase extends ComponentBase {
             mAxisValueFormatter = new DefaultAxisValueFormatter(mDecimals);
         else
             mAxisValueFormatter = f;
+
+        invalidateLabels();
     }
 
     /**
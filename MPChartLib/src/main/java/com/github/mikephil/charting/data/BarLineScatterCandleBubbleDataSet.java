@@ -4,6 +4,7 @@ package com.github.mikephil.charting.data;
 import android.graphics.Color;
 
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
+import com.github.mikephil.charting.utils.KdTree;
 
 import java.util.List;
 
@@ -21,6 +22,16 @@ public abstract class BarLineScatterCandleBubbleDataSet<T extends Entry>
      */
     protected int mHighLightColor = Color.rgb(255, 187, 115);
 
+    /**
+     * optional tree over the x- and y-values of all entries, used for highlighting
+     */
+    protected KdTree mSpatialIndex = null;
+
+    /**
+     * true if the spatial index has to be rebuilt before it is used
+     */
+    protected boolean mSpatialIndexDirty = true;
+
     public BarLineScatterCandleBubbleDataSet(List<T> yVals, String label) {
         super(yVals, label);
     }
@@ -41,8 +52,60 @@ public abstract class BarLineScatterCandleBubbleDataSet<T extends Entry>
         return mHighLightColor;
     }
 
+    /**
+     * If set to true, a two-dimensional index over the x- and y-values of all entries is kept,
+     * which lets the highlighter find the entry closest to a touch position without scanning
+     * all entries with a similar x-value. Useful for scatter and bubble charts with many
+     * entries. The index is rebuilt lazily after the entries have changed. Default: false
+     *
+     * @param enabled
+     */
+    public void setSpatialIndexEnabled(boolean enabled) {
+
+        if (enabled && mSpatialIndex == null) {
+            mSpatialIndex = new KdTree();
+            mSpatialIndexDirty = true;
+        } else if (!enabled)
+            mSpatialIndex = null;
+    }
+
+    public boolean isSpatialIndexEnabled() {
+        return mSpatialIndex != null;
+    }
+
+    /**
+     * Returns the up to date spatial index of this DataSet, null if it is not enabled.
+     *
+     * @return
+     */
+    public KdTree getSpatialIndex() {
+
+        if (mSpatialIndex == null)
+            return null;
+
+        if (mSpatialIndexDirty) {
+            mSpatialIndex.build(this);
+            mSpatialIndexDirty = false;
+        }
+
+        return mSpatialIndex;
+    }
+
+    @Override
+    public void calcMinMax() {
+        mSpatialIndexDirty = true;
+        super.calcMinMax();
+    }
+
+    @Override
+    protected void calcMinMax(T e) {
+        mSpatialIndexDirty = true;
+        super.calcMinMax(e);
+    }
+
     protected void copy(BarLineScatterCandleBubbleDataSet barLineScatterCandleBubbleDataSet) {
         super.copy(barLineScatterCandleBubbleDataSet);
         barLineScatterCandleBubbleDataSet.mHighLightColor = mHighLightColor;
+        barLineScatterCandleBubbleDataSet.setSpatialIndexEnabled(isSpatialIndexEnabled());
     }
 }
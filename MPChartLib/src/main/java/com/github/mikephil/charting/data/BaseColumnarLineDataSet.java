@@ -0,0 +1,400 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IColumnarLineDataSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class of the LineDataSets that store their values in primitive columns instead of a
+ * List of Entry objects. It implements the search, the min / max calculation and the Entry
+ * based part of the DataSet API on top of getXForIndex(...) and getYForIndex(...), subclasses
+ * only provide the storage.
+ * <p/>
+ * The values must always be sorted by x. Entry objects returned by this DataSet are created on
+ * demand and are not backed by the DataSet, changing them has no effect. Entry data and icons
+ * are not supported.
+ */
+public abstract class BaseColumnarLineDataSet extends LineDataSet implements IColumnarLineDataSet {
+
+    /**
+     * the number of values that are currently stored in the columns
+     */
+    protected int mCount = 0;
+
+    public BaseColumnarLineDataSet(String label) {
+        super(null, label);
+    }
+
+    /**
+     * Adds a value with the given x-value, as the chart sees it, to the DataSet. Used by
+     * addEntry(Entry) and addEntryOrdered(Entry).
+     *
+     * @param x
+     * @param y
+     */
+    protected abstract void addValue(float x, float y);
+
+    /**
+     * Returns the x-value at the given index in the precision it is stored in. The search for
+     * x-values is done on these values.
+     *
+     * @param index
+     * @return
+     */
+    protected double getXForSearch(int index) {
+        return getXForIndex(index);
+    }
+
+    /**
+     * Updates the min and max x and y value of this DataSet based on the given values.
+     *
+     * @param x
+     * @param y
+     */
+    protected void calcMinMax(float x, float y) {
+
+        if (x < mXMin)
+            mXMin = x;
+
+        if (x > mXMax)
+            mXMax = x;
+
+        calcMinMaxY(y);
+    }
+
+    protected void calcMinMaxY(float y) {
+
+        if (y < mYMin)
+            mYMin = y;
+
+        if (y > mYMax)
+            mYMax = y;
+    }
+
+    /**
+     * Resets the min and max x and y value to the state of a DataSet without values.
+     */
+    protected void resetMinMax() {
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        mYRangeIndexDirty = true;
+        invalidateLevelOfDetail();
+
+        resetMinMax();
+
+        for (int i = 0; i < mCount; i++) {
+            calcMinMax(getXForIndex(i), getYForIndex(i));
+        }
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+
+        if (mCount == 0)
+            return;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        if (mYRangeIndex != null) {
+            queryYRangeIndex(indexFrom, indexTo);
+            return;
+        }
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+            calcMinMaxY(getYForIndex(i));
+        }
+    }
+
+    /**
+     * Applies the y-range of the values from index "from" to index "to" using the y-range
+     * index.
+     *
+     * @param from
+     * @param to
+     */
+    protected void queryYRangeIndex(int from, int to) {
+
+        if (mYRangeIndexDirty)
+            rebuildYRangeIndex();
+
+        mYRangeIndex.query(from, to, mYRangeBuffer);
+
+        mYMin = mYRangeBuffer[0];
+        mYMax = mYRangeBuffer[1];
+    }
+
+    @Override
+    protected void rebuildYRangeIndex() {
+
+        mYRangeIndex.clear();
+
+        for (int i = 0; i < mCount; i++) {
+            float y = getYForIndex(i);
+            mYRangeIndex.add(y, y);
+        }
+
+        mYRangeIndexDirty = false;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mCount;
+    }
+
+    /**
+     * Returns a new list containing an Entry for every value of this DataSet.
+     * IMPORTANT: This creates one Entry object per value, do not use in performance
+     * critical situations.
+     *
+     * @return
+     */
+    @Override
+    public List<Entry> getValues() {
+
+        List<Entry> entries = new ArrayList<>(mCount);
+
+        for (int i = 0; i < mCount; i++) {
+            entries.add(getEntryForIndex(i));
+        }
+
+        return entries;
+    }
+
+    @Override
+    public String toSimpleString() {
+        return "DataSet, label: " + (getLabel() == null ? "" : getLabel()) + ", entries: " + mCount + "\n";
+    }
+
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append(toSimpleString());
+        for (int i = 0; i < mCount; i++) {
+            buffer.append("Entry, x: " + getXForIndex(i) + " y: " + getYForIndex(i) + " ");
+        }
+        return buffer.toString();
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        addValue(e.getX(), e.getY());
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+
+        if (e == null)
+            return;
+
+        addValue(e.getX(), e.getY());
+    }
+
+    @Override
+    public void clear() {
+        mCount = 0;
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public boolean removeEntry(Entry e) {
+        return removeEntry(getEntryIndex(e));
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mCount - 1);
+    }
+
+    @Override
+    public boolean contains(Entry e) {
+        return getEntryIndex(e) > -1;
+    }
+
+    @Override
+    public int getIndexInEntries(int xIndex) {
+
+        for (int i = 0; i < mCount; i++) {
+            if (xIndex == getXForIndex(i))
+                return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first value with the same x- and y-value as the provided entry.
+     * Returns -1 if no such value exists.
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public int getEntryIndex(Entry e) {
+
+        if (e == null || mCount == 0)
+            return -1;
+
+        int index = getEntryIndex(e.getX(), Float.NaN, Rounding.CLOSEST);
+
+        if (getXForIndex(index) != e.getX())
+            return -1;
+
+        while (index > 0 && getXForIndex(index - 1) == e.getX())
+            index--;
+
+        for (; index < mCount && getXForIndex(index) == e.getX(); index++) {
+            if (getYForIndex(index) == e.getY())
+                return index;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public Entry getEntryForXValue(float xValue, float closestToY, Rounding rounding) {
+
+        int index = getEntryIndex(xValue, closestToY, rounding);
+        if (index > -1)
+            return getEntryForIndex(index);
+        return null;
+    }
+
+    @Override
+    public Entry getEntryForIndex(int index) {
+
+        if (index < 0 || index >= mCount)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mCount);
+
+        return new Entry(getXForIndex(index), getYForIndex(index));
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+        return findEntryIndex(xValue, closestToY, rounding);
+    }
+
+    /**
+     * Returns the index of the value closest to the given x-value, compared with the values
+     * returned by getXForSearch(...). Returns -1 if the DataSet is empty.
+     *
+     * @param xValue     the x-value in the precision and reference of getXForSearch(...)
+     * @param closestToY If there are multiple values at the same x-value, the closest one to
+     *                   this y-value is taken, pass Float.NaN to ignore.
+     * @param rounding   determine whether to round up/down/closest if there is no value
+     *                   exactly at the given x-value
+     * @return
+     */
+    protected int findEntryIndex(double xValue, float closestToY, Rounding rounding) {
+
+        if (mCount == 0)
+            return -1;
+
+        int low = 0;
+        int high = mCount - 1;
+        int closest = high;
+
+        while (low < high) {
+            int m = (low + high) / 2;
+
+            final double d1 = getXForSearch(m) - xValue,
+                    d2 = getXForSearch(m + 1) - xValue,
+                    ad1 = Math.abs(d1), ad2 = Math.abs(d2);
+
+            if (ad2 < ad1) {
+                // [m + 1] is closer to xValue
+                low = m + 1;
+            } else if (ad1 < ad2) {
+                // [m] is closer to xValue
+                high = m;
+            } else {
+                // We have multiple sequential x-value with same distance
+                if (d1 >= 0.0) {
+                    high = m;
+                } else {
+                    low = m + 1;
+                }
+            }
+
+            closest = high;
+        }
+
+        double closestXValue = getXForSearch(closest);
+
+        if (rounding == Rounding.UP) {
+            if (closestXValue < xValue && closest < mCount - 1) {
+                ++closest;
+            }
+        } else if (rounding == Rounding.DOWN) {
+            if (closestXValue > xValue && closest > 0) {
+                --closest;
+            }
+        }
+
+        // Search by closest to y-value
+        if (!Float.isNaN(closestToY)) {
+            while (closest > 0 && getXForSearch(closest - 1) == closestXValue)
+                closest -= 1;
+
+            float closestYValue = getYForIndex(closest);
+            int closestYIndex = closest;
+
+            while (true) {
+                closest += 1;
+                if (closest >= mCount || getXForSearch(closest) != closestXValue)
+                    break;
+
+                if (Math.abs(getYForIndex(closest) - closestToY) < Math.abs(closestYValue - closestToY)) {
+                    closestYValue = getYForIndex(closest);
+                    closestYIndex = closest;
+                }
+            }
+
+            closest = closestYIndex;
+        }
+
+        return closest;
+    }
+
+    @Override
+    public void getEntriesForXValue(float xValue, List<Entry> entries) {
+
+        entries.clear();
+
+        if (mCount == 0)
+            return;
+
+        int index = getEntryIndex(xValue, Float.NaN, Rounding.CLOSEST);
+
+        if (getXForIndex(index) != xValue)
+            return;
+
+        while (index > 0 && getXForIndex(index - 1) == xValue)
+            index--;
+
+        for (; index < mCount && getXForIndex(index) == xValue; index++) {
+            entries.add(getEntryForIndex(index));
+        }
+    }
+}
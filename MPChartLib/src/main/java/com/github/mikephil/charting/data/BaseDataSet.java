@@ -29,6 +29,11 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     protected List<Integer> mColors = null;
 
+    /**
+     * the colors of mColors as primitive array, for renderers that look up a color per entry
+     */
+    protected int[] mColorArray = new int[0];
+
     protected GradientColor mGradientColor = null;
 
     protected List<GradientColor> mGradientColors = null;
@@ -103,6 +108,8 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         // default color
         mColors.add(Color.rgb(140, 234, 255));
         mValueColors.add(Color.BLACK);
+
+        updateColorArray();
     }
 
     /**
@@ -132,6 +139,66 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         return mColors;
     }
 
+    /**
+     * Returns the colors of this DataSet as primitive array. The array is compared with the
+     * list returned by getColors() on every call, at a cost proportional to the number of
+     * colors, and replaced by a new one if the colors were changed in any way. It must not be
+     * modified.
+     *
+     * @return
+     */
+    @Override
+    public int[] getColorArray() {
+
+        if (mColors == null)
+            return mColorArray;
+
+        if (!isColorArrayCurrent())
+            updateColorArray();
+
+        return mColorArray;
+    }
+
+    /**
+     * Returns true if the color array holds the colors of the color list.
+     *
+     * @return
+     */
+    private boolean isColorArrayCurrent() {
+
+        final int size = mColors.size();
+
+        if (mColorArray.length != size)
+            return false;
+
+        for (int i = 0; i < size; i++) {
+            if (mColorArray[i] != mColors.get(i))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Copies the colors of the color list into a new primitive array. A new array is created
+     * because copies of this DataSet share it.
+     */
+    protected void updateColorArray() {
+
+        if (mColors == null) {
+            mColorArray = new int[0];
+            return;
+        }
+
+        int[] colors = new int[mColors.size()];
+
+        for (int i = 0; i < colors.length; i++) {
+            colors[i] = mColors.get(i);
+        }
+
+        mColorArray = colors;
+    }
+
     public List<Integer> getValueColors() {
         return mValueColors;
     }
@@ -176,6 +243,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void setColors(List<Integer> colors) {
         this.mColors = colors;
+        updateColorArray();
     }
 
     /**
@@ -189,6 +257,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void setColors(int... colors) {
         this.mColors = ColorTemplate.createColors(colors);
+        updateColorArray();
     }
 
     /**
@@ -212,6 +281,8 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         for (int color : colors) {
             mColors.add(c.getResources().getColor(color));
         }
+
+        updateColorArray();
     }
 
     /**
@@ -223,6 +294,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         if (mColors == null)
             mColors = new ArrayList<Integer>();
         mColors.add(color);
+        updateColorArray();
     }
 
     /**
@@ -234,6 +306,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     public void setColor(int color) {
         resetColors();
         mColors.add(color);
+        updateColorArray();
     }
 
     /**
@@ -286,6 +359,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
             mColors = new ArrayList<Integer>();
         }
         mColors.clear();
+        updateColorArray();
     }
 
     /**
@@ -478,6 +552,12 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         return -1;
     }
 
+    @Override
+    public void getEntryIndexRange(float fromX, float toX, int[] range) {
+        range[0] = Math.max(getEntryIndex(fromX, Float.NaN, DataSet.Rounding.DOWN), 0);
+        range[1] = Math.max(getEntryIndex(toX, Float.NaN, DataSet.Rounding.UP), 0);
+    }
+
     @Override
     public boolean removeFirst() {
 
@@ -528,6 +608,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     protected void copy(BaseDataSet baseDataSet) {
         baseDataSet.mAxisDependency = mAxisDependency;
         baseDataSet.mColors = mColors;
+        baseDataSet.mColorArray = mColorArray;
         baseDataSet.mDrawIcons = mDrawIcons;
         baseDataSet.mDrawValues = mDrawValues;
         baseDataSet.mForm = mForm;
@@ -4,11 +4,13 @@ import android.graphics.Typeface;
 import android.util.Log;
 
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
+import com.github.mikephil.charting.formatter.CachingValueFormatter;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 
 /**
@@ -53,6 +55,22 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
      */
     protected List<T> mDataSets;
 
+    /**
+     * if true, the labels of the values are cached per formatter
+     */
+    protected boolean mLabelCacheEnabled = false;
+
+    /**
+     * the maximum number of labels cached per formatter
+     */
+    protected int mLabelCacheSize = 256;
+
+    /**
+     * the label caches of all formatters the values were drawn with
+     */
+    protected IdentityHashMap<ValueFormatter, CachingValueFormatter> mLabelCaches =
+            new IdentityHashMap<>();
+
     /**
      * Default constructor.
      */
@@ -104,6 +122,7 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
      */
     public void notifyDataChanged() {
         calcMinMax();
+        clearLabelCache();
     }
 
     /**
@@ -668,6 +687,105 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         }
     }
 
+    /**
+     * Enables / disables caching of the value labels. If enabled, the labels created by the
+     * formatters of the DataSets are memoized per formatter, together with their measured
+     * widths, so that drawing the same values again neither formats nor measures them. Only
+     * labels that depend on the value alone are cached. Default: disabled
+     *
+     * @param enabled
+     */
+    public void setLabelCacheEnabled(boolean enabled) {
+        mLabelCacheEnabled = enabled;
+
+        if (!enabled)
+            mLabelCaches.clear();
+    }
+
+    public boolean isLabelCacheEnabled() {
+        return mLabelCacheEnabled;
+    }
+
+    /**
+     * Sets the maximum number of labels cached per formatter, the least recently used labels
+     * are dropped first. Default: 256
+     *
+     * @param size
+     */
+    public void setLabelCacheSize(int size) {
+        mLabelCacheSize = Math.max(1, size);
+        mLabelCaches.clear();
+    }
+
+    public int getLabelCacheSize() {
+        return mLabelCacheSize;
+    }
+
+    /**
+     * Returns the formatter the values of a DataSet with the given formatter should be drawn
+     * with: the caching formatter wrapping it if the label cache is enabled, the given
+     * formatter otherwise.
+     *
+     * @param formatter
+     * @return
+     */
+    public ValueFormatter getLabelFormatter(ValueFormatter formatter) {
+
+        if (!mLabelCacheEnabled || formatter instanceof CachingValueFormatter)
+            return formatter;
+
+        CachingValueFormatter cache = mLabelCaches.get(formatter);
+
+        if (cache == null) {
+            cache = new CachingValueFormatter(formatter, mLabelCacheSize);
+            mLabelCaches.put(formatter, cache);
+        }
+
+        return cache;
+    }
+
+    /**
+     * Removes all cached labels, e.g. after a formatter was reconfigured. The hit and miss
+     * counters are kept.
+     */
+    public void clearLabelCache() {
+        for (CachingValueFormatter cache : mLabelCaches.values()) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Returns the number of value labels that were taken from the label cache.
+     *
+     * @return
+     */
+    public long getLabelCacheHitCount() {
+
+        long count = 0;
+
+        for (CachingValueFormatter cache : mLabelCaches.values()) {
+            count += cache.getHitCount();
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the number of value labels that had to be formatted because they were not cached.
+     *
+     * @return
+     */
+    public long getLabelCacheMissCount() {
+
+        long count = 0;
+
+        for (CachingValueFormatter cache : mLabelCaches.values()) {
+            count += cache.getMissCount();
+        }
+
+        return count;
+    }
+
     /**
      * Sets the color of the value-text (color in which the value-labels are
      * drawn) for all DataSets this data object contains.
@@ -0,0 +1,228 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.EntryXComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * LineDataSet that holds its values in two parallel float arrays (x and y) instead of a
+ * List of Entry objects. Use this for very large line series (hundreds of thousands of
+ * points), where the per-Entry object overhead dominates memory usage.
+ * <p/>
+ * The values are always kept sorted by x. Entry objects returned by this DataSet are created
+ * on demand and are not backed by the DataSet, changing them has no effect. Entry data and
+ * icons are not supported.
+ */
+public class ColumnarLineDataSet extends BaseColumnarLineDataSet {
+
+    /**
+     * default capacity of the value columns
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * the x-values of this DataSet
+     */
+    protected float[] mXValues;
+
+    /**
+     * the y-values of this DataSet
+     */
+    protected float[] mYValues;
+
+    /**
+     * Creates a new, empty ColumnarLineDataSet with the given initial capacity.
+     *
+     * @param initialCapacity
+     * @param label
+     */
+    public ColumnarLineDataSet(int initialCapacity, String label) {
+        super(label);
+
+        mXValues = new float[Math.max(initialCapacity, 1)];
+        mYValues = new float[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * Creates a new ColumnarLineDataSet from the given x- and y-values. The arrays are copied,
+     * the x-values must be sorted in ascending order.
+     *
+     * @param xValues
+     * @param yValues
+     * @param label
+     */
+    public ColumnarLineDataSet(float[] xValues, float[] yValues, String label) {
+        super(label);
+
+        if (xValues.length != yValues.length)
+            throw new IllegalArgumentException("x- and y-values must have the same length");
+
+        mXValues = Arrays.copyOf(xValues, Math.max(xValues.length, 1));
+        mYValues = Arrays.copyOf(yValues, Math.max(yValues.length, 1));
+        mCount = xValues.length;
+
+        calcMinMax();
+    }
+
+    /**
+     * Creates a new ColumnarLineDataSet from the given entries. The entries are sorted by
+     * their x-value, only x and y are kept.
+     *
+     * @param entries
+     * @param label
+     */
+    public ColumnarLineDataSet(List<Entry> entries, String label) {
+        this(entries == null ? DEFAULT_CAPACITY : entries.size(), label);
+        setValues(entries);
+    }
+
+    /**
+     * Makes sure the columns can hold at least the given number of values.
+     *
+     * @param capacity
+     */
+    public void ensureCapacity(int capacity) {
+
+        if (capacity <= mXValues.length)
+            return;
+
+        int newCapacity = Math.max(capacity, mXValues.length + (mXValues.length >> 1));
+
+        mXValues = Arrays.copyOf(mXValues, newCapacity);
+        mYValues = Arrays.copyOf(mYValues, newCapacity);
+    }
+
+    /**
+     * Adds a value to the DataSet. If the x-value is smaller than the last x-value, the value
+     * is inserted at its ordered position. Updates the minimum and maximum values.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntry(float x, float y) {
+
+        ensureCapacity(mCount + 1);
+
+        if (mCount > 0 && mXValues[mCount - 1] > x) {
+
+            // insert behind all values with an x-value smaller or equal to x
+            int low = 0;
+            int high = mCount - 1;
+
+            while (low < high) {
+                int m = (low + high) / 2;
+
+                if (mXValues[m] > x)
+                    high = m;
+                else
+                    low = m + 1;
+            }
+
+            int index = high;
+
+            System.arraycopy(mXValues, index, mXValues, index + 1, mCount - index);
+            System.arraycopy(mYValues, index, mYValues, index + 1, mCount - index);
+
+            mXValues[index] = x;
+            mYValues[index] = y;
+            mYRangeIndexDirty = true;
+            mEditCount++;
+        } else {
+            mXValues[mCount] = x;
+            mYValues[mCount] = y;
+
+            if (mYRangeIndex != null && !mYRangeIndexDirty)
+                mYRangeIndex.add(y, y);
+        }
+
+        mCount++;
+        invalidateLevelOfDetail();
+
+        calcMinMax(x, y);
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        return mXValues[index];
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        return mYValues[index];
+    }
+
+    @Override
+    public int copyValues(float[] buffer, int offset, int from, int to, float phaseY) {
+
+        int j = offset;
+
+        for (int i = from; i <= to; i++) {
+            buffer[j++] = mXValues[i];
+            buffer[j++] = mYValues[i] * phaseY;
+        }
+
+        return j - offset;
+    }
+
+    /**
+     * Replaces the values of this DataSet with the x- and y-values of the given entries and
+     * calls notifyDataSetChanged().
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(List<Entry> values) {
+
+        mCount = 0;
+
+        if (values != null) {
+
+            List<Entry> sorted = new ArrayList<>(values);
+            Collections.sort(sorted, new EntryXComparator());
+
+            ensureCapacity(sorted.size());
+
+            for (Entry e : sorted) {
+                mXValues[mCount] = e.getX();
+                mYValues[mCount] = e.getY();
+                mCount++;
+            }
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        ColumnarLineDataSet copied = new ColumnarLineDataSet(
+                Arrays.copyOf(mXValues, mCount), Arrays.copyOf(mYValues, mCount), getLabel());
+        copy(copied);
+        return copied;
+    }
+
+    @Override
+    protected void addValue(float x, float y) {
+        addEntry(x, y);
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (index < 0 || index >= mCount)
+            return false;
+
+        System.arraycopy(mXValues, index + 1, mXValues, index, mCount - index - 1);
+        System.arraycopy(mYValues, index + 1, mYValues, index, mCount - index - 1);
+        mCount--;
+
+        if (index > 0)
+            mEditCount++;
+
+        calcMinMax();
+
+        return true;
+    }
+}
@@ -168,6 +168,15 @@ public class CombinedData extends BarLineScatterCandleBubbleData<IBarLineScatter
         calcMinMax(); // recalculate everything
     }
 
+    @Override
+    public void clearLabelCache() {
+        super.clearLabelCache();
+
+        for (BarLineScatterCandleBubbleData data : getAllData()) {
+            data.clearLabelCache();
+        }
+    }
+
     /**
      * Get the Entry for a corresponding highlight object
      *
@@ -1,6 +1,8 @@
 
 package com.github.mikephil.charting.data;
 
+import com.github.mikephil.charting.utils.MinMaxSegmentTree;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -39,6 +41,27 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected float mXMin = Float.MAX_VALUE;
 
+    /**
+     * optional index over the y-range of all entries, used by calcMinMaxY(fromX, toX)
+     */
+    protected MinMaxSegmentTree mYRangeIndex = null;
+
+    /**
+     * flag that indicates if the y-range index has to be rebuilt before it can be used
+     */
+    protected boolean mYRangeIndexDirty = true;
+
+    /**
+     * buffer for y-range index queries
+     */
+    protected float[] mYRangeBuffer = new float[2];
+
+    /**
+     * counter of the changes other than appending entries and removing the first entry, see
+     * getEditCount()
+     */
+    protected int mEditCount = 0;
+
 
     /**
      * Creates a new DataSet object with the given values (entries) it represents. Also, a
@@ -61,6 +84,8 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     @Override
     public void calcMinMax() {
 
+        mYRangeIndexDirty = true;
+
         if (mValues == null || mValues.isEmpty())
             return;
 
@@ -80,12 +105,24 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mValues == null || mValues.isEmpty())
             return;
 
-        mYMax = -Float.MAX_VALUE;
-        mYMin = Float.MAX_VALUE;
-
         int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
         int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
 
+        if (mYRangeIndex != null) {
+
+            if (mYRangeIndexDirty)
+                rebuildYRangeIndex();
+
+            mYRangeIndex.query(indexFrom, indexTo, mYRangeBuffer);
+
+            mYMin = mYRangeBuffer[0];
+            mYMax = mYRangeBuffer[1];
+            return;
+        }
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
         for (int i = indexFrom; i <= indexTo; i++) {
 
             // only recalculate y
@@ -126,6 +163,79 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
             mYMax = e.getY();
     }
 
+    /**
+     * Enables / disables the y-range index of this DataSet. If enabled, the y-extrema of every
+     * x-range requested by calcMinMaxY(fromX, toX) (used by the autoScaleMinMax feature) are
+     * answered in O(log n) instead of iterating all entries in that range. Appending entries
+     * keeps the index up to date, all other modifications rebuild it once on the next query.
+     * The index needs memory for up to eight floats per entry. Default: disabled
+     *
+     * @param enabled
+     */
+    public void setYRangeIndexEnabled(boolean enabled) {
+
+        if (!enabled) {
+            mYRangeIndex = null;
+        } else if (mYRangeIndex == null) {
+            mYRangeIndex = new MinMaxSegmentTree(getEntryCount());
+            mYRangeIndexDirty = true;
+        }
+    }
+
+    /**
+     * Returns true if the y-range index of this DataSet is enabled.
+     *
+     * @return
+     */
+    public boolean isYRangeIndexEnabled() {
+        return mYRangeIndex != null;
+    }
+
+    /**
+     * Fills the y-range index with the y-range of every entry.
+     */
+    protected void rebuildYRangeIndex() {
+
+        mYRangeIndex.clear();
+
+        for (int i = 0; i < mValues.size(); i++) {
+            addToYRangeIndex(mValues.get(i));
+        }
+
+        mYRangeIndexDirty = false;
+    }
+
+    /**
+     * Appends the y-range of the given entry to the y-range index.
+     *
+     * @param e
+     */
+    protected void addToYRangeIndex(T e) {
+        mYRangeIndex.add(getEntryYMin(e), getEntryYMax(e));
+    }
+
+    /**
+     * Returns the lowest y-value the given entry covers, the same value calcMinMaxY(T) takes
+     * into account. Used by the y-range index.
+     *
+     * @param e
+     * @return
+     */
+    protected float getEntryYMin(T e) {
+        return e.getY();
+    }
+
+    /**
+     * Returns the highest y-value the given entry covers, the same value calcMinMaxY(T) takes
+     * into account. Used by the y-range index.
+     *
+     * @param e
+     * @return
+     */
+    protected float getEntryYMax(T e) {
+        return e.getY();
+    }
+
     @Override
     public int getEntryCount() {
         return mValues.size();
@@ -208,6 +318,25 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         return mXMax;
     }
 
+    /**
+     * Returns a counter that changes whenever the entries change in any other way than by
+     * appending entries at the end or removing the first entry through this DataSet. Changes
+     * made to the entries or to the list returned by getValues() directly are only counted
+     * when notifyDataSetChanged() is called afterwards.
+     *
+     * @return
+     */
+    public int getEditCount() {
+        return mEditCount;
+    }
+
+    @Override
+    public void notifyDataSetChanged() {
+        // the entries may have changed in any way
+        mEditCount++;
+        super.notifyDataSetChanged();
+    }
+
     @Override
     public void addEntryOrdered(T e) {
 
@@ -223,8 +352,27 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mValues.size() > 0 && mValues.get(mValues.size() - 1).getX() > e.getX()) {
             int closestIndex = getEntryIndex(e.getX(), e.getY(), Rounding.UP);
             mValues.add(closestIndex, e);
+            mYRangeIndexDirty = true;
+            mEditCount++;
         } else {
             mValues.add(e);
+            onEntryAppended(e);
+        }
+    }
+
+    /**
+     * Keeps the y-range index up to date after an entry was added to the end of the values.
+     *
+     * @param e
+     */
+    protected void onEntryAppended(T e) {
+
+        if (mYRangeIndex != null && !mYRangeIndexDirty) {
+
+            if (mYRangeIndex.size() == mValues.size() - 1)
+                addToYRangeIndex(e);
+            else
+                mYRangeIndexDirty = true;
         }
     }
 
@@ -248,7 +396,12 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         calcMinMax(e);
 
         // add the entry
-        return values.add(e);
+        boolean added = values.add(e);
+
+        if (added && values == mValues)
+            onEntryAppended(e);
+
+        return added;
     }
 
     @Override
@@ -260,14 +413,20 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mValues == null)
             return false;
 
+        int index = mValues.indexOf(e);
+
+        if (index < 0)
+            return false;
+
         // remove the entry
-        boolean removed = mValues.remove(e);
+        mValues.remove(index);
 
-        if (removed) {
-            calcMinMax();
-        }
+        if (index > 0)
+            mEditCount++;
+
+        calcMinMax();
 
-        return removed;
+        return true;
     }
 
     @Override
@@ -383,6 +542,15 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     public List<T> getEntriesForXValue(float xValue) {
 
         List<T> entries = new ArrayList<T>();
+        getEntriesForXValue(xValue, entries);
+
+        return entries;
+    }
+
+    @Override
+    public void getEntriesForXValue(float xValue, List<T> entries) {
+
+        entries.clear();
 
         int low = 0;
         int high = mValues.size() - 1;
@@ -416,8 +584,6 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
                     high = m - 1;
             }
         }
-
-        return entries;
     }
 
     /**
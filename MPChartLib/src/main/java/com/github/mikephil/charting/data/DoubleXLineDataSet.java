@@ -0,0 +1,315 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IDoubleXLineDataSet;
+import com.github.mikephil.charting.utils.EntryXComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * LineDataSet that holds its values in two parallel arrays like the ColumnarLineDataSet, but
+ * keeps the x-values as double. Use this for x-values that do not fit into a float without
+ * losing precision, e.g. epoch timestamps in milliseconds.
+ * <p/>
+ * The chart sees the x-values relative to the x-origin: getXForIndex(...), the x-values of the
+ * returned entries, getXMin() and getXMax() are the absolute x-values minus the origin, and so
+ * are the values the x-axis formatter receives. Entries that are added are expected relative to
+ * the origin as well, use addEntry(double, float) for absolute x-values. All DataSets of a
+ * chart should use the same origin.
+ * <p/>
+ * The values are always kept sorted by x. Entry objects returned by this DataSet are created
+ * on demand and are not backed by the DataSet, changing them has no effect. Entry data and
+ * icons are not supported.
+ */
+public class DoubleXLineDataSet extends BaseColumnarLineDataSet implements IDoubleXLineDataSet {
+
+    /**
+     * default capacity of the value columns
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * the absolute x-values of this DataSet
+     */
+    protected double[] mXValues;
+
+    /**
+     * the y-values of this DataSet
+     */
+    protected float[] mYValues;
+
+    /**
+     * the absolute x-value that corresponds to the relative x-value 0
+     */
+    protected double mXOrigin;
+
+    /**
+     * Creates a new, empty DoubleXLineDataSet with the given x-origin and initial capacity.
+     *
+     * @param xOrigin
+     * @param initialCapacity
+     * @param label
+     */
+    public DoubleXLineDataSet(double xOrigin, int initialCapacity, String label) {
+        super(label);
+
+        mXOrigin = xOrigin;
+        mXValues = new double[Math.max(initialCapacity, 1)];
+        mYValues = new float[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * Creates a new DoubleXLineDataSet from the given absolute x- and y-values. The arrays are
+     * copied, the x-values must be sorted in ascending order.
+     *
+     * @param xOrigin
+     * @param xValues
+     * @param yValues
+     * @param label
+     */
+    public DoubleXLineDataSet(double xOrigin, double[] xValues, float[] yValues, String label) {
+        super(label);
+
+        if (xValues.length != yValues.length)
+            throw new IllegalArgumentException("x- and y-values must have the same length");
+
+        mXOrigin = xOrigin;
+        mXValues = Arrays.copyOf(xValues, Math.max(xValues.length, 1));
+        mYValues = Arrays.copyOf(yValues, Math.max(yValues.length, 1));
+        mCount = xValues.length;
+
+        calcMinMax();
+    }
+
+    /**
+     * Creates a new DoubleXLineDataSet from the given entries, whose x-values are relative to
+     * the given origin. The entries are sorted by their x-value, only x and y are kept.
+     *
+     * @param xOrigin
+     * @param entries
+     * @param label
+     */
+    public DoubleXLineDataSet(double xOrigin, List<Entry> entries, String label) {
+        this(xOrigin, entries == null ? DEFAULT_CAPACITY : entries.size(), label);
+        setValues(entries);
+    }
+
+    @Override
+    public double getXOrigin() {
+        return mXOrigin;
+    }
+
+    /**
+     * Sets the absolute x-value that corresponds to the relative x-value 0, and recalculates
+     * the x-range. Call notifyDataSetChanged() on the chart afterwards.
+     *
+     * @param xOrigin
+     */
+    public void setXOrigin(double xOrigin) {
+        mXOrigin = xOrigin;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Converts the given absolute x-value into an x-value relative to the origin.
+     *
+     * @param x
+     * @return
+     */
+    public float toRelativeX(double x) {
+        return (float) (x - mXOrigin);
+    }
+
+    /**
+     * Converts the given x-value relative to the origin, e.g. the value passed to an axis
+     * formatter, into an absolute x-value.
+     *
+     * @param x
+     * @return
+     */
+    public double toAbsoluteX(float x) {
+        return mXOrigin + x;
+    }
+
+    /**
+     * Makes sure the columns can hold at least the given number of values.
+     *
+     * @param capacity
+     */
+    public void ensureCapacity(int capacity) {
+
+        if (capacity <= mXValues.length)
+            return;
+
+        int newCapacity = Math.max(capacity, mXValues.length + (mXValues.length >> 1));
+
+        mXValues = Arrays.copyOf(mXValues, newCapacity);
+        mYValues = Arrays.copyOf(mYValues, newCapacity);
+    }
+
+    /**
+     * Adds a value with an absolute x-value to the DataSet. If the x-value is smaller than the
+     * last x-value, the value is inserted at its ordered position. Updates the minimum and
+     * maximum values.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntry(double x, float y) {
+
+        ensureCapacity(mCount + 1);
+
+        if (mCount > 0 && mXValues[mCount - 1] > x) {
+
+            // insert behind all values with an x-value smaller or equal to x
+            int low = 0;
+            int high = mCount - 1;
+
+            while (low < high) {
+                int m = (low + high) / 2;
+
+                if (mXValues[m] > x)
+                    high = m;
+                else
+                    low = m + 1;
+            }
+
+            int index = high;
+
+            System.arraycopy(mXValues, index, mXValues, index + 1, mCount - index);
+            System.arraycopy(mYValues, index, mYValues, index + 1, mCount - index);
+
+            mXValues[index] = x;
+            mYValues[index] = y;
+            mYRangeIndexDirty = true;
+            mEditCount++;
+        } else {
+            mXValues[mCount] = x;
+            mYValues[mCount] = y;
+
+            if (mYRangeIndex != null && !mYRangeIndexDirty)
+                mYRangeIndex.add(y, y);
+        }
+
+        mCount++;
+        invalidateLevelOfDetail();
+
+        calcMinMax(toRelativeX(x), y);
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        return (float) (mXValues[index] - mXOrigin);
+    }
+
+    @Override
+    public double getXDoubleForIndex(int index) {
+        return mXValues[index];
+    }
+
+    /**
+     * The search is done on the absolute double x-values.
+     */
+    @Override
+    protected double getXForSearch(int index) {
+        return mXValues[index];
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        return mYValues[index];
+    }
+
+    @Override
+    public int copyValues(float[] buffer, int offset, int from, int to, float phaseY) {
+
+        final double origin = mXOrigin;
+
+        int j = offset;
+
+        for (int i = from; i <= to; i++) {
+            buffer[j++] = (float) (mXValues[i] - origin);
+            buffer[j++] = mYValues[i] * phaseY;
+        }
+
+        return j - offset;
+    }
+
+    /**
+     * Replaces the values of this DataSet with the x- and y-values of the given entries, whose
+     * x-values are relative to the origin, and calls notifyDataSetChanged().
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(List<Entry> values) {
+
+        mCount = 0;
+
+        if (values != null) {
+
+            List<Entry> sorted = new ArrayList<>(values);
+            Collections.sort(sorted, new EntryXComparator());
+
+            ensureCapacity(sorted.size());
+
+            for (Entry e : sorted) {
+                mXValues[mCount] = toAbsoluteX(e.getX());
+                mYValues[mCount] = e.getY();
+                mCount++;
+            }
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        DoubleXLineDataSet copied = new DoubleXLineDataSet(mXOrigin,
+                Arrays.copyOf(mXValues, mCount), Arrays.copyOf(mYValues, mCount), getLabel());
+        copy(copied);
+        return copied;
+    }
+
+    /**
+     * Adds a value with an x-value relative to the origin.
+     */
+    @Override
+    protected void addValue(float x, float y) {
+        addEntry(toAbsoluteX(x), y);
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (index < 0 || index >= mCount)
+            return false;
+
+        System.arraycopy(mXValues, index + 1, mXValues, index, mCount - index - 1);
+        System.arraycopy(mYValues, index + 1, mYValues, index, mCount - index - 1);
+        mCount--;
+
+        if (index > 0)
+            mEditCount++;
+
+        calcMinMax();
+
+        return true;
+    }
+
+    /**
+     * Returns the position of the value closest to the given x-value relative to the origin.
+     * The search is done on the double x-values.
+     */
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+        return findEntryIndex(toAbsoluteX(xValue), closestToY, rounding);
+    }
+
+    @Override
+    public int getEntryIndex(double xValue, float closestToY, Rounding rounding) {
+        return findEntryIndex(xValue, closestToY, rounding);
+    }
+}
@@ -6,10 +6,12 @@ import android.graphics.Color;
 import android.graphics.DashPathEffect;
 import android.util.Log;
 
+import com.github.mikephil.charting.data.filter.IDownsampler;
 import com.github.mikephil.charting.formatter.DefaultFillFormatter;
 import com.github.mikephil.charting.formatter.IFillFormatter;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
+import com.github.mikephil.charting.utils.LevelOfDetailPyramid;
 import com.github.mikephil.charting.utils.Utils;
 
 import java.util.ArrayList;
@@ -64,6 +66,25 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
 
     private boolean mDrawCircleHole = true;
 
+    /**
+     * if true, pixel columns are collapsed to their entry, minimum, maximum and exit points
+     */
+    private boolean mPixelDecimationEnabled = false;
+
+    /**
+     * downsampler the visible points are reduced with before drawing, null if disabled
+     */
+    private IDownsampler mDownsampler = null;
+
+    /**
+     * min/max pyramid used for drawing zoomed-out lines, null if disabled
+     */
+    private LevelOfDetailPyramid mLevelOfDetail = null;
+
+    /**
+     * true if the values have changed since the pyramid was built
+     */
+    private boolean mLevelOfDetailDirty = true;
 
     public LineDataSet(List<Entry> yVals, String label) {
         super(yVals, label);
@@ -105,6 +126,21 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         lineDataSet.mDrawCircles = mDrawCircleHole;
         lineDataSet.mFillFormatter = mFillFormatter;
         lineDataSet.mMode = mMode;
+        lineDataSet.mDownsampler = mDownsampler;
+        lineDataSet.mPixelDecimationEnabled = mPixelDecimationEnabled;
+        lineDataSet.setLevelOfDetailEnabled(isLevelOfDetailEnabled());
+    }
+
+    @Override
+    public void calcMinMax() {
+        super.calcMinMax();
+        invalidateLevelOfDetail();
+    }
+
+    @Override
+    protected void onEntryAppended(Entry e) {
+        super.onEntryAppended(e);
+        invalidateLevelOfDetail();
     }
 
     /**
@@ -408,6 +444,85 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         return mFillFormatter;
     }
 
+    /**
+     * Enables / disables pixel-column decimation for linear lines and their fill. If enabled,
+     * all visible points that fall into the same pixel column are collapsed to the points that
+     * enter and leave the column and the ones with the minimum and maximum y-value, after they
+     * have been transformed. The drawn line looks the same, but columns with thousands of
+     * points cost at most four. Not used for multi-colored lines. Default: disabled
+     *
+     * @param enabled
+     */
+    public void setPixelDecimationEnabled(boolean enabled) {
+        mPixelDecimationEnabled = enabled;
+    }
+
+    @Override
+    public boolean isPixelDecimationEnabled() {
+        return mPixelDecimationEnabled;
+    }
+
+    /**
+     * Sets a downsampler (e.g. LttbDownsampler or M4Downsampler) for drawing linear lines. If
+     * set, the visible points are reduced to a number of points derived from the width of the
+     * chart content before they are transformed and drawn. Only used for single-colored lines,
+     * takes precedence over the level-of-detail pyramid. Set null to disable (default).
+     *
+     * @param downsampler
+     */
+    public void setDownsampler(IDownsampler downsampler) {
+        mDownsampler = downsampler;
+    }
+
+    @Override
+    public IDownsampler getDownsampler() {
+        return mDownsampler;
+    }
+
+    /**
+     * Enables / disables the level-of-detail pyramid for this DataSet. If enabled, zoomed-out
+     * linear lines are drawn from the minimum and maximum of the entries that fall into the
+     * same pixel column, which keeps the drawing cost proportional to the width of the chart
+     * instead of the number of entries, without losing any spike. Needs memory for about four
+     * values per entry and is rebuilt after the values have changed. Default: disabled
+     *
+     * @param enabled
+     */
+    public void setLevelOfDetailEnabled(boolean enabled) {
+
+        if (!enabled) {
+            mLevelOfDetail = null;
+        } else if (mLevelOfDetail == null) {
+            mLevelOfDetail = new LevelOfDetailPyramid();
+            mLevelOfDetailDirty = true;
+        }
+    }
+
+    public boolean isLevelOfDetailEnabled() {
+        return mLevelOfDetail != null;
+    }
+
+    /**
+     * Marks the level-of-detail pyramid as outdated, it is rebuilt the next time it is needed.
+     */
+    protected void invalidateLevelOfDetail() {
+        mLevelOfDetailDirty = true;
+    }
+
+    @Override
+    public LevelOfDetailPyramid getLevelOfDetail() {
+
+        if (mLevelOfDetail == null)
+            return null;
+
+        if (mLevelOfDetailDirty || mLevelOfDetail.getEntryCount() != getEntryCount()) {
+            mLevelOfDetail.build(this);
+            mLevelOfDetailDirty = false;
+        }
+
+        return mLevelOfDetail;
+    }
+
     public enum Mode {
         LINEAR,
         STEPPED,
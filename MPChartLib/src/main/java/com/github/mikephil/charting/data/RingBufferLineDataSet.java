@@ -0,0 +1,387 @@
+package com.github.mikephil.charting.data;
+
+import java.util.List;
+
+/**
+ * LineDataSet with a fixed capacity for streaming (real-time) data. The values are stored in a
+ * ring buffer of primitive x- and y-columns. Appending a value to a full DataSet evicts the
+ * oldest value, both in O(1) without shifting any array.
+ * <p/>
+ * The minimum and maximum y-values are tracked with two monotonic deques, which makes them
+ * available in amortized O(1) after every append or eviction, without rescanning the values.
+ * Values must be appended in ascending x-order, so the minimum and maximum x-values are always
+ * the first and the last value.
+ * <p/>
+ * Entry objects returned by this DataSet are created on demand and are not backed by the
+ * DataSet, changing them has no effect. Entry data and icons are not supported.
+ */
+public class RingBufferLineDataSet extends BaseColumnarLineDataSet {
+
+    /**
+     * the x-values of this DataSet, stored as a ring buffer
+     */
+    protected float[] mXValues;
+
+    /**
+     * the y-values of this DataSet, stored as a ring buffer
+     */
+    protected float[] mYValues;
+
+    /**
+     * position of the oldest value in the columns
+     */
+    protected int mHead = 0;
+
+    /**
+     * deque of column positions with decreasing y-values, the first one holds the maximum
+     */
+    private int[] mMaxDeque;
+    private int mMaxDequeHead = 0;
+    private int mMaxDequeSize = 0;
+
+    /**
+     * deque of column positions with increasing y-values, the first one holds the minimum
+     */
+    private int[] mMinDeque;
+    private int mMinDequeHead = 0;
+    private int mMinDequeSize = 0;
+
+    /**
+     * Creates a new, empty RingBufferLineDataSet that holds at most the given number of values.
+     *
+     * @param capacity
+     * @param label
+     */
+    public RingBufferLineDataSet(int capacity, String label) {
+        super(label);
+
+        if (capacity < 1)
+            throw new IllegalArgumentException("capacity must be at least 1");
+
+        mXValues = new float[capacity];
+        mYValues = new float[capacity];
+        mMaxDeque = new int[capacity];
+        mMinDeque = new int[capacity];
+    }
+
+    /**
+     * Returns the maximum number of values this DataSet can hold.
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return mXValues.length;
+    }
+
+    /**
+     * Returns true if the DataSet holds as many values as its capacity allows, the next append
+     * will evict the oldest value.
+     *
+     * @return
+     */
+    public boolean isFull() {
+        return mCount == mXValues.length;
+    }
+
+    /**
+     * Appends a value to the end of the DataSet. If the DataSet is full, the oldest value is
+     * evicted. The x-value must not be smaller than the x-value of the last value.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntry(float x, float y) {
+
+        if (mCount > 0 && x < mXValues[physical(mCount - 1)])
+            throw new IllegalArgumentException("Values must be added in ascending x-order, "
+                    + x + " < " + mXValues[physical(mCount - 1)]);
+
+        if (mCount == mXValues.length)
+            evictFirst();
+
+        int position = physical(mCount);
+
+        mXValues[position] = x;
+        mYValues[position] = y;
+        mCount++;
+
+        // the index is kept by column position, evicted positions are simply overwritten
+        if (mYRangeIndex != null && !mYRangeIndexDirty)
+            mYRangeIndex.set(position, y, y);
+
+        invalidateLevelOfDetail();
+
+        pushDeques(position);
+        updateMinMax();
+    }
+
+    /**
+     * Maps a logical index (0 = oldest value) to the position in the columns.
+     *
+     * @param index
+     * @return
+     */
+    private int physical(int index) {
+        int position = mHead + index;
+        return position >= mXValues.length ? position - mXValues.length : position;
+    }
+
+    /**
+     * Removes the oldest value, O(1).
+     */
+    private void evictFirst() {
+
+        if (mMaxDequeSize > 0 && mMaxDeque[mMaxDequeHead] == mHead) {
+            mMaxDequeHead = next(mMaxDequeHead);
+            mMaxDequeSize--;
+        }
+
+        if (mMinDequeSize > 0 && mMinDeque[mMinDequeHead] == mHead) {
+            mMinDequeHead = next(mMinDequeHead);
+            mMinDequeSize--;
+        }
+
+        mHead = next(mHead);
+        mCount--;
+    }
+
+    private int next(int position) {
+        return position + 1 == mXValues.length ? 0 : position + 1;
+    }
+
+    /**
+     * Adds the value at the given column position to the back of both deques, dropping all
+     * values from the back that can never become the minimum or maximum again.
+     *
+     * @param position
+     */
+    private void pushDeques(int position) {
+
+        final float y = mYValues[position];
+        final int capacity = mXValues.length;
+
+        while (mMaxDequeSize > 0
+                && mYValues[mMaxDeque[(mMaxDequeHead + mMaxDequeSize - 1) % capacity]] <= y)
+            mMaxDequeSize--;
+
+        mMaxDeque[(mMaxDequeHead + mMaxDequeSize) % capacity] = position;
+        mMaxDequeSize++;
+
+        while (mMinDequeSize > 0
+                && mYValues[mMinDeque[(mMinDequeHead + mMinDequeSize - 1) % capacity]] >= y)
+            mMinDequeSize--;
+
+        mMinDeque[(mMinDequeHead + mMinDequeSize) % capacity] = position;
+        mMinDequeSize++;
+    }
+
+    /**
+     * Applies the minimum and maximum values of the deques and the x-range of the buffer.
+     */
+    private void updateMinMax() {
+
+        if (mCount == 0) {
+            resetMinMax();
+            return;
+        }
+
+        mXMin = mXValues[mHead];
+        mXMax = mXValues[physical(mCount - 1)];
+        mYMin = mYValues[mMinDeque[mMinDequeHead]];
+        mYMax = mYValues[mMaxDeque[mMaxDequeHead]];
+    }
+
+    /**
+     * Rebuilds the deques from all values. This is O(n) and only needed after a value other
+     * than the oldest one has been removed.
+     */
+    @Override
+    public void calcMinMax() {
+
+        mYRangeIndexDirty = true;
+        invalidateLevelOfDetail();
+
+        // called by the super constructor before the columns exist
+        if (mXValues == null)
+            return;
+
+        mMaxDequeHead = 0;
+        mMaxDequeSize = 0;
+        mMinDequeHead = 0;
+        mMinDequeSize = 0;
+
+        for (int i = 0; i < mCount; i++) {
+            pushDeques(physical(i));
+        }
+
+        updateMinMax();
+    }
+
+    /**
+     * Applies the y-range of the values from index "from" to index "to" using the y-range
+     * index. A range that wraps around the end of the columns is queried in two parts.
+     *
+     * @param from
+     * @param to
+     */
+    @Override
+    protected void queryYRangeIndex(int from, int to) {
+
+        if (mYRangeIndexDirty)
+            rebuildYRangeIndex();
+
+        int positionFrom = physical(from);
+        int positionTo = physical(to);
+
+        if (positionFrom <= positionTo) {
+            mYRangeIndex.query(positionFrom, positionTo, mYRangeBuffer);
+
+            mYMin = mYRangeBuffer[0];
+            mYMax = mYRangeBuffer[1];
+        } else {
+            mYRangeIndex.query(positionFrom, mXValues.length - 1, mYRangeBuffer);
+
+            mYMin = mYRangeBuffer[0];
+            mYMax = mYRangeBuffer[1];
+
+            mYRangeIndex.query(0, positionTo, mYRangeBuffer);
+
+            mYMin = Math.min(mYMin, mYRangeBuffer[0]);
+            mYMax = Math.max(mYMax, mYRangeBuffer[1]);
+        }
+    }
+
+    @Override
+    protected void rebuildYRangeIndex() {
+
+        mYRangeIndex.clear();
+
+        for (int i = 0; i < mCount; i++) {
+            int position = physical(i);
+            mYRangeIndex.set(position, mYValues[position], mYValues[position]);
+        }
+
+        mYRangeIndexDirty = false;
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        return mXValues[physical(index)];
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        return mYValues[physical(index)];
+    }
+
+    @Override
+    public int copyValues(float[] buffer, int offset, int from, int to, float phaseY) {
+
+        int j = offset;
+        int position = physical(from);
+
+        for (int i = from; i <= to; i++) {
+            buffer[j++] = mXValues[position];
+            buffer[j++] = mYValues[position] * phaseY;
+            position = next(position);
+        }
+
+        return j - offset;
+    }
+
+    /**
+     * Replaces the values of this DataSet with the given entries, which must be sorted by
+     * x-value. If there are more entries than the capacity, only the newest ones are kept.
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(List<Entry> values) {
+
+        mHead = 0;
+        mCount = 0;
+
+        if (values != null) {
+            for (int i = Math.max(values.size() - mXValues.length, 0); i < values.size(); i++) {
+                Entry e = values.get(i);
+                mXValues[mCount] = e.getX();
+                mYValues[mCount] = e.getY();
+                mCount++;
+            }
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+
+        RingBufferLineDataSet copied = new RingBufferLineDataSet(mXValues.length, getLabel());
+
+        for (int i = 0; i < mCount; i++) {
+            copied.addEntry(getXForIndex(i), getYForIndex(i));
+        }
+
+        copy(copied);
+        return copied;
+    }
+
+    @Override
+    protected void addValue(float x, float y) {
+        addEntry(x, y);
+    }
+
+    @Override
+    public void clear() {
+        mHead = 0;
+        super.clear();
+    }
+
+    /**
+     * Removes the oldest value in O(1).
+     *
+     * @return
+     */
+    @Override
+    public boolean removeFirst() {
+
+        if (mCount == 0)
+            return false;
+
+        evictFirst();
+        updateMinMax();
+
+        return true;
+    }
+
+    /**
+     * Removes the value at the given index. Removing the oldest value is O(1), all other
+     * positions shift the newer values and rebuild the minimum and maximum in O(n).
+     *
+     * @param index
+     * @return
+     */
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (index < 0 || index >= mCount)
+            return false;
+
+        if (index == 0)
+            return removeFirst();
+
+        for (int i = index; i < mCount - 1; i++) {
+            int to = physical(i);
+            int from = physical(i + 1);
+            mXValues[to] = mXValues[from];
+            mYValues[to] = mYValues[from];
+        }
+
+        mCount--;
+        mEditCount++;
+
+        calcMinMax();
+
+        return true;
+    }
+}
@@ -5,6 +5,7 @@ import android.annotation.TargetApi;
 import android.os.Build;
 
 import java.util.Arrays;
+import java.util.BitSet;
 
 /**
  * Implemented according to Wiki-Pseudocode {@link}
@@ -14,6 +15,111 @@ import java.util.Arrays;
  */
 public class Approximator {
 
+    /**
+     * marks the points kept by the iterative reduction
+     */
+    private BitSet mKeep = new BitSet();
+
+    /**
+     * explicit stack of (start, end) point index pairs for the iterative reduction
+     */
+    private int[] mStack = new int[32];
+
+    /**
+     * Iterative, allocation-free version of the Douglas-Peucker reduction. Reduces the points
+     * from point index "from" to point index "to" (both inclusive) of the given array and
+     * writes the kept points into the output array, which must be large enough to hold all
+     * points of the range. Uses an explicit stack instead of recursion, so pathological input
+     * cannot overflow the call stack. The buffers are reused between calls, an Approximator
+     * must therefore not be shared between threads. Returns the number of points written.
+     *
+     * @param points    x- and y-values of the points, [x1, y1, x2, y2, ...]
+     * @param from      index of the first point
+     * @param to        index of the last point
+     * @param tolerance
+     * @param out
+     * @return
+     */
+    public int reduceWithDouglasPeucker(float[] points, int from, int to, float tolerance,
+                                        float[] out) {
+
+        if (to - from < 2) {
+            int count = Math.max(to - from + 1, 0);
+            System.arraycopy(points, from * 2, out, 0, count * 2);
+            return count;
+        }
+
+        final BitSet keep = mKeep;
+        keep.clear();
+        keep.set(from);
+        keep.set(to);
+
+        int top = 0;
+        mStack[top++] = from;
+        mStack[top++] = to;
+
+        while (top > 0) {
+
+            final int end = mStack[--top];
+            final int start = mStack[--top];
+
+            final float x1 = points[start * 2];
+            final float y1 = points[start * 2 + 1];
+            final float x2 = points[end * 2];
+            final float y2 = points[end * 2 + 1];
+
+            final float dx = x1 - x2;
+            final float dy = y1 - y2;
+            final float cross = x1 * y2 - x2 * y1;
+            final float length = (float) Math.sqrt(dx * dx + dy * dy);
+
+            int greatestIndex = 0;
+            float greatestDistance = 0f;
+
+            for (int i = start + 1; i < end; i++) {
+
+                final float x = points[i * 2];
+                final float y = points[i * 2 + 1];
+
+                // distance to the line, or to the start point if the line has no length
+                final float distance = length > 0f
+                        ? Math.abs(dy * x - dx * y + cross) / length
+                        : (float) Math.sqrt((x - x1) * (x - x1) + (y - y1) * (y - y1));
+
+                if (distance > greatestDistance) {
+                    greatestDistance = distance;
+                    greatestIndex = i;
+                }
+            }
+
+            if (greatestDistance > tolerance) {
+
+                keep.set(greatestIndex);
+
+                if (top + 4 > mStack.length)
+                    mStack = Arrays.copyOf(mStack, mStack.length * 2);
+
+                if (greatestIndex - start > 1) {
+                    mStack[top++] = start;
+                    mStack[top++] = greatestIndex;
+                }
+
+                if (end - greatestIndex > 1) {
+                    mStack[top++] = greatestIndex;
+                    mStack[top++] = end;
+                }
+            }
+        }
+
+        int j = 0;
+        for (int i = keep.nextSetBit(from); i >= 0 && i <= to; i = keep.nextSetBit(i + 1)) {
+            out[j++] = points[i * 2];
+            out[j++] = points[i * 2 + 1];
+        }
+
+        return j / 2;
+    }
+
     @TargetApi(Build.VERSION_CODES.GINGERBREAD)
     public float[] reduceWithDouglasPeucker(float[] points, float tolerance) {
 
@@ -0,0 +1,31 @@
+package com.github.mikephil.charting.data.filter;
+
+/**
+ * Interface for reducing the visible points of a line to a number of points that depends on
+ * the width of the chart, before they are transformed and drawn. Points are passed as a flat
+ * array of x- and y-values, ordered by x.
+ */
+public interface IDownsampler {
+
+    /**
+     * Returns the number of points the visible points are reduced to for a chart content of
+     * the given width in pixels.
+     *
+     * @param pixelWidth
+     * @return
+     */
+    int getTargetPointCount(int pixelWidth);
+
+    /**
+     * Reduces the given points to at most targetCount points and writes them into the output
+     * array, which must hold at least targetCount * 2 values. The first and the last point are
+     * always kept. Returns the number of points written.
+     *
+     * @param points      x- and y-values of the points, [x1, y1, x2, y2, ...]
+     * @param pointCount  the number of points in the array
+     * @param targetCount
+     * @param out
+     * @return
+     */
+    int downsample(float[] points, int pointCount, int targetCount, float[] out);
+}
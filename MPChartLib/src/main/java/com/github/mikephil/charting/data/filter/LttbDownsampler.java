@@ -0,0 +1,109 @@
+package com.github.mikephil.charting.data.filter;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling (Sveinn Steinarsson, 2013). The points between
+ * the first and the last one are divided into buckets of equal point count, from every bucket
+ * the point that forms the largest triangle with the previously selected point and the average
+ * of the next bucket is selected. Keeps the visual shape of the line with few points.
+ */
+public class LttbDownsampler implements IDownsampler {
+
+    /**
+     * the number of points kept per pixel of the chart content
+     */
+    private float mPointsPerPixel;
+
+    public LttbDownsampler() {
+        this(2f);
+    }
+
+    /**
+     * @param pointsPerPixel the number of points kept per pixel of the chart content
+     */
+    public LttbDownsampler(float pointsPerPixel) {
+        mPointsPerPixel = pointsPerPixel;
+    }
+
+    @Override
+    public int getTargetPointCount(int pixelWidth) {
+        return Math.max((int) (pixelWidth * mPointsPerPixel), 3);
+    }
+
+    @Override
+    public int downsample(float[] points, int pointCount, int targetCount, float[] out) {
+
+        if (targetCount >= pointCount || targetCount < 3) {
+            int count = Math.min(pointCount, Math.max(targetCount, 2));
+            int last = (pointCount - 1) * 2;
+
+            if (count == pointCount) {
+                System.arraycopy(points, 0, out, 0, pointCount * 2);
+            } else {
+                out[0] = points[0];
+                out[1] = points[1];
+                out[2] = points[last];
+                out[3] = points[last + 1];
+            }
+            return count;
+        }
+
+        // the first and the last point are kept, the others are divided into buckets
+        final double bucketSize = (double) (pointCount - 2) / (targetCount - 2);
+
+        out[0] = points[0];
+        out[1] = points[1];
+
+        int j = 2;
+        int selected = 0;
+
+        for (int bucket = 0; bucket < targetCount - 2; bucket++) {
+
+            // average of the next bucket, the last point for the last bucket
+            int nextFrom = (int) ((bucket + 1) * bucketSize) + 1;
+            int nextTo = Math.min((int) ((bucket + 2) * bucketSize) + 1, pointCount);
+
+            float avgX = 0f;
+            float avgY = 0f;
+
+            for (int i = nextFrom; i < nextTo; i++) {
+                avgX += points[i * 2];
+                avgY += points[i * 2 + 1];
+            }
+
+            int nextCount = nextTo - nextFrom;
+            avgX /= nextCount;
+            avgY /= nextCount;
+
+            // the point of this bucket with the largest triangle
+            int from = (int) (bucket * bucketSize) + 1;
+            int to = (int) ((bucket + 1) * bucketSize) + 1;
+
+            float ax = points[selected * 2];
+            float ay = points[selected * 2 + 1];
+
+            float maxArea = -1f;
+            int maxIndex = from;
+
+            for (int i = from; i < to; i++) {
+
+                float area = Math.abs((ax - avgX) * (points[i * 2 + 1] - ay)
+                        - (ax - points[i * 2]) * (avgY - ay));
+
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+
+            out[j++] = points[maxIndex * 2];
+            out[j++] = points[maxIndex * 2 + 1];
+
+            selected = maxIndex;
+        }
+
+        out[j++] = points[(pointCount - 1) * 2];
+        out[j++] = points[(pointCount - 1) * 2 + 1];
+
+        return j / 2;
+    }
+}
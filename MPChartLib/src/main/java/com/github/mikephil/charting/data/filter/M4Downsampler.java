@@ -0,0 +1,95 @@
+package com.github.mikephil.charting.data.filter;
+
+/**
+ * M4 downsampling (Jugel et al., 2014). The x-range of the points is divided into columns of
+ * equal width, from every column the first, the last and the points with the minimum and
+ * maximum y-value are kept. With one column per pixel, the drawn line is visually identical
+ * to the line through all points.
+ */
+public class M4Downsampler implements IDownsampler {
+
+    @Override
+    public int getTargetPointCount(int pixelWidth) {
+        return Math.max(pixelWidth, 1) * 4;
+    }
+
+    @Override
+    public int downsample(float[] points, int pointCount, int targetCount, float[] out) {
+
+        final int columns = targetCount / 4;
+
+        if (pointCount <= targetCount || columns < 1) {
+            int count = Math.min(pointCount, targetCount);
+            System.arraycopy(points, 0, out, 0, count * 2);
+            return count;
+        }
+
+        final float xMin = points[0];
+        final float columnWidth = (points[(pointCount - 1) * 2] - xMin) / columns;
+
+        int j = 0;
+
+        int column = -1;
+        int first = 0, last = 0, min = 0, max = 0;
+
+        for (int i = 0; i < pointCount; i++) {
+
+            int c = columnWidth > 0f
+                    ? Math.min((int) ((points[i * 2] - xMin) / columnWidth), columns - 1) : 0;
+
+            if (c != column) {
+
+                if (column >= 0)
+                    j = writeColumn(points, first, min, max, last, out, j);
+
+                column = c;
+                first = last = min = max = i;
+                continue;
+            }
+
+            last = i;
+
+            float y = points[i * 2 + 1];
+
+            if (y < points[min * 2 + 1])
+                min = i;
+
+            if (y > points[max * 2 + 1])
+                max = i;
+        }
+
+        j = writeColumn(points, first, min, max, last, out, j);
+
+        return j / 2;
+    }
+
+    /**
+     * Writes the first, minimum, maximum and last point of a column in their original order,
+     * without duplicates. Returns the new position in the output array.
+     */
+    private int writeColumn(float[] points, int first, int min, int max, int last,
+                            float[] out, int j) {
+
+        int low = Math.min(min, max);
+        int high = Math.max(min, max);
+
+        j = writePoint(points, first, out, j);
+
+        if (low > first)
+            j = writePoint(points, low, out, j);
+
+        if (high > low && high > first)
+            j = writePoint(points, high, out, j);
+
+        if (last > high)
+            j = writePoint(points, last, out, j);
+
+        return j;
+    }
+
+    private int writePoint(float[] points, int index, float[] out, int j) {
+        out[j++] = points[index * 2];
+        out[j++] = points[index * 2 + 1];
+        return j;
+    }
+}
@@ -0,0 +1,361 @@
+package com.github.mikephil.charting.formatter;
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+
+import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.PieEntry;
+import com.github.mikephil.charting.data.RadarEntry;
+import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * ValueFormatter that wraps another ValueFormatter and memoizes the labels it creates in a
+ * bounded LRU cache, keyed by the bit pattern of the formatted value. Together with every label
+ * the cache stores its measured text width. Looking up a cached label or width allocates
+ * nothing.
+ * <p/>
+ * Only labels that depend on the value alone are cached: a label method that is overridden by
+ * the wrapped formatter (e.g. getBarStackedLabel(...) of the StackedValueFormatter) is always
+ * passed through. The cached labels are only valid as long as the wrapped formatter does not
+ * change, call clear() after reconfiguring it.
+ */
+public class CachingValueFormatter extends ValueFormatter {
+
+    private static final int NONE = -1;
+
+    /**
+     * the formatter that creates the labels
+     */
+    private final ValueFormatter mFormatter;
+
+    /**
+     * flags of the label methods the wrapped formatter overrides
+     */
+    private final int mOverridden;
+
+    /**
+     * float bits, label and measured width (NaN if not measured yet) of every entry
+     */
+    private final int[] mKeys;
+    private final String[] mLabels;
+    private final float[] mWidths;
+
+    /**
+     * hash table: first entry of every bucket and the next entry in the same bucket
+     */
+    private final int[] mBuckets;
+    private final int[] mChain;
+
+    /**
+     * doubly linked recency list, mHead is the most, mTail the least recently used entry
+     */
+    private final int[] mPrevious;
+    private final int[] mNext;
+    private int mHead = NONE;
+    private int mTail = NONE;
+
+    private int mSize = 0;
+
+    /**
+     * the entry of the label that was returned last
+     */
+    private int mLastEntry = NONE;
+
+    /**
+     * the text size and typeface the cached widths were measured with
+     */
+    private float mWidthTextSize = -1f;
+    private Typeface mWidthTypeface = null;
+
+    private long mHitCount = 0;
+    private long mMissCount = 0;
+
+    /**
+     * @param formatter the formatter to cache the labels of
+     * @param capacity  the maximum number of cached labels
+     */
+    public CachingValueFormatter(ValueFormatter formatter, int capacity) {
+
+        if (formatter == null)
+            throw new IllegalArgumentException("Formatter must not be null.");
+
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity must be at least 1.");
+
+        mFormatter = formatter;
+        mOverridden = LabelMethods.findOverridden(formatter.getClass());
+
+        mKeys = new int[capacity];
+        mLabels = new String[capacity];
+        mWidths = new float[capacity];
+        mChain = new int[capacity];
+        mPrevious = new int[capacity];
+        mNext = new int[capacity];
+
+        int buckets = 1;
+        while (buckets < capacity * 2)
+            buckets <<= 1;
+
+        mBuckets = new int[buckets];
+        clear();
+    }
+
+    /**
+     * Returns the formatter whose labels are cached.
+     *
+     * @return
+     */
+    public ValueFormatter getFormatter() {
+        return mFormatter;
+    }
+
+    /**
+     * Removes all cached labels and widths.
+     */
+    public void clear() {
+
+        for (int i = 0; i < mBuckets.length; i++)
+            mBuckets[i] = NONE;
+
+        for (int i = 0; i < mSize; i++)
+            mLabels[i] = null;
+
+        mHead = NONE;
+        mTail = NONE;
+        mSize = 0;
+        mLastEntry = NONE;
+    }
+
+    /**
+     * Returns the number of labels that were taken from the cache.
+     *
+     * @return
+     */
+    public long getHitCount() {
+        return mHitCount;
+    }
+
+    /**
+     * Returns the number of labels that had to be created by the wrapped formatter.
+     *
+     * @return
+     */
+    public long getMissCount() {
+        return mMissCount;
+    }
+
+    /**
+     * Sets the hit and miss counters back to zero.
+     */
+    public void resetCounters() {
+        mHitCount = 0;
+        mMissCount = 0;
+    }
+
+    /**
+     * Returns the width of the given label as measured by Utils.calcTextWidth(...). If the label
+     * is the one this formatter returned last, its width is measured only once and then taken
+     * from the cache. Cached widths are discarded when the text size or typeface of the paint
+     * changes.
+     *
+     * @param paint
+     * @param label
+     * @return
+     */
+    public int getTextWidth(Paint paint, String label) {
+
+        if (mLastEntry == NONE || mLabels[mLastEntry] != label)
+            return Utils.calcTextWidth(paint, label);
+
+        if (paint.getTextSize() != mWidthTextSize || paint.getTypeface() != mWidthTypeface) {
+
+            for (int i = 0; i < mSize; i++)
+                mWidths[i] = Float.NaN;
+
+            mWidthTextSize = paint.getTextSize();
+            mWidthTypeface = paint.getTypeface();
+        }
+
+        if (Float.isNaN(mWidths[mLastEntry]))
+            mWidths[mLastEntry] = Utils.calcTextWidth(paint, label);
+
+        return (int) mWidths[mLastEntry];
+    }
+
+    @Override
+    public String getFormattedValue(float value) {
+
+        final int bits = Float.floatToIntBits(value);
+        final int bucket = bucket(bits);
+
+        for (int i = mBuckets[bucket]; i != NONE; i = mChain[i]) {
+
+            if (mKeys[i] == bits) {
+                mHitCount++;
+                moveToHead(i);
+                mLastEntry = i;
+                return mLabels[i];
+            }
+        }
+
+        mMissCount++;
+
+        final String label = mFormatter.getFormattedValue(value);
+
+        int entry;
+
+        if (mSize < mKeys.length) {
+            entry = mSize++;
+        } else {
+            entry = mTail;
+            unlink(entry);
+            removeFromBucket(entry);
+        }
+
+        mKeys[entry] = bits;
+        mLabels[entry] = label;
+        mWidths[entry] = Float.NaN;
+
+        mChain[entry] = mBuckets[bucket];
+        mBuckets[bucket] = entry;
+
+        linkAsHead(entry);
+        mLastEntry = entry;
+
+        return label;
+    }
+
+    /**
+     * <b>DO NOT USE</b>, only passes the legacy label method of the wrapped formatter through.
+     */
+    @Override
+    @Deprecated
+    public String getFormattedValue(float value, AxisBase axis) {
+        return (mOverridden & LabelMethods.LEGACY_AXIS_LABEL) != 0
+                ? mFormatter.getFormattedValue(value, axis) : getFormattedValue(value);
+    }
+
+    /**
+     * <b>DO NOT USE</b>, only passes the legacy label method of the wrapped formatter through.
+     */
+    @Override
+    @Deprecated
+    public String getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler) {
+        return (mOverridden & LabelMethods.LEGACY_VALUE_LABEL) != 0
+                ? mFormatter.getFormattedValue(value, entry, dataSetIndex, viewPortHandler)
+                : getFormattedValue(value);
+    }
+
+    @Override
+    public String getAxisLabel(float value, AxisBase axis) {
+        return (mOverridden & LabelMethods.AXIS_LABEL) != 0
+                ? mFormatter.getAxisLabel(value, axis) : getFormattedValue(value);
+    }
+
+    @Override
+    public String getBarLabel(BarEntry barEntry) {
+        return (mOverridden & LabelMethods.BAR_LABEL) != 0
+                ? mFormatter.getBarLabel(barEntry) : getFormattedValue(barEntry.getY());
+    }
+
+    @Override
+    public String getBarStackedLabel(float value, BarEntry stackedEntry) {
+        return (mOverridden & LabelMethods.BAR_STACKED_LABEL) != 0
+                ? mFormatter.getBarStackedLabel(value, stackedEntry) : getFormattedValue(value);
+    }
+
+    @Override
+    public String getPointLabel(Entry entry) {
+        return (mOverridden & LabelMethods.POINT_LABEL) != 0
+                ? mFormatter.getPointLabel(entry) : getFormattedValue(entry.getY());
+    }
+
+    @Override
+    public String getPieLabel(float value, PieEntry pieEntry) {
+        return (mOverridden & LabelMethods.PIE_LABEL) != 0
+                ? mFormatter.getPieLabel(value, pieEntry) : getFormattedValue(value);
+    }
+
+    @Override
+    public String getRadarLabel(RadarEntry radarEntry) {
+        return (mOverridden & LabelMethods.RADAR_LABEL) != 0
+                ? mFormatter.getRadarLabel(radarEntry) : getFormattedValue(radarEntry.getY());
+    }
+
+    @Override
+    public String getBubbleLabel(BubbleEntry bubbleEntry) {
+        return (mOverridden & LabelMethods.BUBBLE_LABEL) != 0
+                ? mFormatter.getBubbleLabel(bubbleEntry) : getFormattedValue(bubbleEntry.getSize());
+    }
+
+    @Override
+    public String getCandleLabel(CandleEntry candleEntry) {
+        return (mOverridden & LabelMethods.CANDLE_LABEL) != 0
+                ? mFormatter.getCandleLabel(candleEntry) : getFormattedValue(candleEntry.getHigh());
+    }
+
+    private int bucket(int bits) {
+        int h = bits ^ (bits >>> 16);
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return h & (mBuckets.length - 1);
+    }
+
+    private void removeFromBucket(int entry) {
+
+        final int bucket = bucket(mKeys[entry]);
+
+        if (mBuckets[bucket] == entry) {
+            mBuckets[bucket] = mChain[entry];
+            return;
+        }
+
+        for (int i = mBuckets[bucket]; i != NONE; i = mChain[i]) {
+            if (mChain[i] == entry) {
+                mChain[i] = mChain[entry];
+                return;
+            }
+        }
+    }
+
+    private void moveToHead(int entry) {
+
+        if (entry == mHead)
+            return;
+
+        unlink(entry);
+        linkAsHead(entry);
+    }
+
+    private void linkAsHead(int entry) {
+
+        mPrevious[entry] = NONE;
+        mNext[entry] = mHead;
+
+        if (mHead != NONE)
+            mPrevious[mHead] = entry;
+
+        mHead = entry;
+
+        if (mTail == NONE)
+            mTail = entry;
+    }
+
+    private void unlink(int entry) {
+
+        if (mPrevious[entry] != NONE)
+            mNext[mPrevious[entry]] = mNext[entry];
+        else
+            mHead = mNext[entry];
+
+        if (mNext[entry] != NONE)
+            mPrevious[mNext[entry]] = mPrevious[entry];
+        else
+            mTail = mPrevious[entry];
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.mikephil.charting.formatter;
 
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 
 /**
  * Default formatter used for formatting values inside the chart. Uses a DecimalFormat with
@@ -8,9 +9,21 @@ import java.text.DecimalFormat;
  *
  * @author Philipp Jahoda
  */
-public class DefaultValueFormatter extends ValueFormatter
+public class DefaultValueFormatter extends ValueFormatter implements ICharValueFormatter
 {
 
+    /**
+     * powers of ten up to which scaling a float is exact in double precision
+     */
+    private static final double[] POW_10 = {
+            1, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12
+    };
+
+    /**
+     * largest double up to which every integer is exact
+     */
+    private static final double MAX_EXACT = 9007199254740992.0;
+
     /**
      * DecimalFormat for formatting
      */
@@ -18,6 +31,17 @@ public class DefaultValueFormatter extends ValueFormatter
 
     protected int mDecimalDigits;
 
+    /**
+     * symbols and affixes of the DecimalFormat, used when formatting into char-arrays
+     */
+    protected char mZeroDigit;
+    protected char mDecimalSeparator;
+    protected char mGroupingSeparator;
+    protected String mPositivePrefix;
+    protected String mPositiveSuffix;
+    protected String mNegativePrefix;
+    protected String mNegativeSuffix;
+
     /**
      * Constructor that specifies to how many digits the value should be
      * formatted.
@@ -45,6 +69,15 @@ public class DefaultValueFormatter extends ValueFormatter
         }
 
         mFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+
+        DecimalFormatSymbols symbols = mFormat.getDecimalFormatSymbols();
+        mZeroDigit = symbols.getZeroDigit();
+        mDecimalSeparator = symbols.getDecimalSeparator();
+        mGroupingSeparator = symbols.getGroupingSeparator();
+        mPositivePrefix = mFormat.getPositivePrefix();
+        mPositiveSuffix = mFormat.getPositiveSuffix();
+        mNegativePrefix = mFormat.getNegativePrefix();
+        mNegativeSuffix = mFormat.getNegativeSuffix();
     }
 
     @Override
@@ -56,6 +89,82 @@ public class DefaultValueFormatter extends ValueFormatter
         return mFormat.format(value);
     }
 
+    /**
+     * Formats the value like the DecimalFormat of this formatter, rounding half-even, without
+     * allocating. Digits, separators and the sign affixes, which can be longer than one char
+     * (e.g. in Arabic locales), are taken from the DecimalFormat. Values whose scaled magnitude exceeds the exact integer range of a double fall
+     * back to the DecimalFormat.
+     *
+     * @param value the value to be formatted
+     * @param out   the array to write the label into
+     * @return
+     */
+    @Override
+    public int getFormattedValue(float value, char[] out) {
+
+        final int digits = mDecimalDigits;
+
+        if (Float.isNaN(value) || Float.isInfinite(value) || digits >= POW_10.length)
+            return copy(mFormat.format(value), out);
+
+        // exact, the float mantissa times the power of ten fits into a double
+        double scaled = Math.abs((double) value) * POW_10[digits];
+
+        if (scaled >= MAX_EXACT)
+            return copy(mFormat.format(value), out);
+
+        long number = (long) Math.rint(scaled);
+
+        // integer digits, separators, fraction digits and sign, written backwards
+        int integerDigits = 1;
+        for (long n = number / (long) POW_10[digits]; n >= 10; n /= 10)
+            integerDigits++;
+
+        // the DecimalFormat keeps the sign of values that round to zero
+        final boolean negative = Float.floatToRawIntBits(value) < 0;
+        final String prefix = negative ? mNegativePrefix : mPositivePrefix;
+        final String suffix = negative ? mNegativeSuffix : mPositiveSuffix;
+
+        int length = prefix.length() + digits + integerDigits + (integerDigits - 1) / 3
+                + (digits > 0 ? 1 : 0) + suffix.length();
+
+        if (length > out.length)
+            return -1;
+
+        prefix.getChars(0, prefix.length(), out, 0);
+        suffix.getChars(0, suffix.length(), out, length - suffix.length());
+
+        int index = length - suffix.length() - 1;
+
+        for (int i = 0; i < digits; i++) {
+            out[index--] = (char) (mZeroDigit + number % 10);
+            number /= 10;
+        }
+
+        if (digits > 0)
+            out[index--] = mDecimalSeparator;
+
+        for (int i = 0; i < integerDigits; i++) {
+
+            if (i > 0 && i % 3 == 0)
+                out[index--] = mGroupingSeparator;
+
+            out[index--] = (char) (mZeroDigit + number % 10);
+            number /= 10;
+        }
+
+        return length;
+    }
+
+    private static int copy(String label, char[] out) {
+
+        if (label.length() > out.length)
+            return -1;
+
+        label.getChars(0, label.length(), out, 0);
+        return label.length();
+    }
+
     /**
      * Returns the number of decimal digits this formatter uses.
      *
@@ -0,0 +1,20 @@
+package com.github.mikephil.charting.formatter;
+
+/**
+ * Interface for ValueFormatters that can write their labels into a reusable char-array instead
+ * of creating a new String for every value. Renderers draw the labels of such formatters with
+ * Canvas.drawText(char[], ...), which allows drawing values without any allocation.
+ */
+public interface ICharValueFormatter {
+
+    /**
+     * Writes the label of the given value into the given array, starting at index 0. The label
+     * must be equal to the one returned by getFormattedValue(float). Returns the length of the
+     * label, or -1 if it does not fit into the array.
+     *
+     * @param value the value to be formatted
+     * @param out   the array to write the label into
+     * @return the length of the label, -1 if the array is too small
+     */
+    int getFormattedValue(float value, char[] out);
+}
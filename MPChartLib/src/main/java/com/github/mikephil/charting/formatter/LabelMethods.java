@@ -0,0 +1,98 @@
+package com.github.mikephil.charting.formatter;
+
+import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.PieEntry;
+import com.github.mikephil.charting.data.RadarEntry;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * Flags for the label methods of the ValueFormatter. A label method that is not overridden
+ * returns getFormattedValue(float) of the value it labels, its label therefore only depends on
+ * that value and may be cached or formatted in other ways.
+ */
+public final class LabelMethods {
+
+    public static final int AXIS_LABEL = 1;
+    public static final int BAR_LABEL = 1 << 1;
+    public static final int BAR_STACKED_LABEL = 1 << 2;
+    public static final int POINT_LABEL = 1 << 3;
+    public static final int PIE_LABEL = 1 << 4;
+    public static final int RADAR_LABEL = 1 << 5;
+    public static final int BUBBLE_LABEL = 1 << 6;
+    public static final int CANDLE_LABEL = 1 << 7;
+    public static final int LEGACY_AXIS_LABEL = 1 << 8;
+    public static final int LEGACY_VALUE_LABEL = 1 << 9;
+
+    private LabelMethods() {
+    }
+
+    /**
+     * Returns the flags of the label methods the given formatter class overrides. Uses
+     * reflection, the result should be kept per class.
+     *
+     * @param clazz
+     * @return
+     */
+    public static int findOverridden(Class<?> clazz) {
+
+        int flags = 0;
+
+        if (isOverridden(clazz, "getAxisLabel", float.class, AxisBase.class))
+            flags |= AXIS_LABEL;
+        if (isOverridden(clazz, "getBarLabel", BarEntry.class))
+            flags |= BAR_LABEL;
+        if (isOverridden(clazz, "getBarStackedLabel", float.class, BarEntry.class))
+            flags |= BAR_STACKED_LABEL;
+        if (isOverridden(clazz, "getPointLabel", Entry.class))
+            flags |= POINT_LABEL;
+        if (isOverridden(clazz, "getPieLabel", float.class, PieEntry.class))
+            flags |= PIE_LABEL;
+        if (isOverridden(clazz, "getRadarLabel", RadarEntry.class))
+            flags |= RADAR_LABEL;
+        if (isOverridden(clazz, "getBubbleLabel", BubbleEntry.class))
+            flags |= BUBBLE_LABEL;
+        if (isOverridden(clazz, "getCandleLabel", CandleEntry.class))
+            flags |= CANDLE_LABEL;
+        if (isOverridden(clazz, "getFormattedValue", float.class, AxisBase.class))
+            flags |= LEGACY_AXIS_LABEL;
+        if (isOverridden(clazz, "getFormattedValue", float.class, Entry.class, int.class,
+                ViewPortHandler.class))
+            flags |= LEGACY_VALUE_LABEL;
+
+        return flags;
+    }
+
+    /**
+     * Returns true if the given formatter class writes its labels into char-arrays and they are
+     * formatted by the same class as its String labels, i.e. a subclass did not override only
+     * getFormattedValue(float). Uses reflection, the result should be kept per class.
+     *
+     * @param clazz
+     * @return
+     */
+    public static boolean isCharFormatter(Class<?> clazz) {
+
+        if (!ICharValueFormatter.class.isAssignableFrom(clazz))
+            return false;
+
+        try {
+            return clazz.getMethod("getFormattedValue", float.class).getDeclaringClass()
+                    == clazz.getMethod("getFormattedValue", float.class, char[].class)
+                    .getDeclaringClass();
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static boolean isOverridden(Class<?> clazz, String name, Class<?>... parameterTypes) {
+        try {
+            return clazz.getMethod(name, parameterTypes).getDeclaringClass() != ValueFormatter.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.mikephil.charting.formatter;
 
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 
 /**
  * Predefined value-formatter that formats large numbers in a pretty way.
@@ -12,7 +13,7 @@ import java.text.DecimalFormat;
  * @author Philipp Jahoda
  * @author Oleksandr Tyshkovets <olexandr.tyshkovets@gmail.com>
  */
-public class LargeValueFormatter extends ValueFormatter
+public class LargeValueFormatter extends ValueFormatter implements ICharValueFormatter
 {
 
     private String[] mSuffix = new String[]{
@@ -22,8 +23,30 @@ public class LargeValueFormatter extends ValueFormatter
     private DecimalFormat mFormat;
     private String mText = "";
 
+    /**
+     * symbols of the DecimalFormat, used when formatting into char-arrays
+     */
+    private char mDecimalSeparator;
+    private char mMinusSign;
+
+    /**
+     * false if the DecimalFormat uses other digits than '0' to '9' or other sign affixes than a
+     * single minus sign, labels are then always formatted by getFormattedValue(float)
+     */
+    private boolean mLatinDigits;
+
     public LargeValueFormatter() {
         mFormat = new DecimalFormat("###E00");
+
+        DecimalFormatSymbols symbols = mFormat.getDecimalFormatSymbols();
+        mDecimalSeparator = symbols.getDecimalSeparator();
+        mMinusSign = symbols.getMinusSign();
+
+        mLatinDigits = symbols.getZeroDigit() == '0'
+                && mFormat.getNegativePrefix().equals(String.valueOf(mMinusSign))
+                && mFormat.getNegativeSuffix().isEmpty()
+                && mFormat.getPositivePrefix().isEmpty()
+                && mFormat.getPositiveSuffix().isEmpty();
     }
 
     /**
@@ -41,6 +64,141 @@ public class LargeValueFormatter extends ValueFormatter
         return makePretty(value) + mText;
     }
 
+    /**
+     * Formats the value like getFormattedValue(float) without allocating: the mantissa is
+     * rounded half-even to three significant digits and the exponent, a multiple of three,
+     * selects the suffix. Values below one, values beyond the range of a long and locales with
+     * other digits or sign affixes than the Latin ones fall back to the String version.
+     *
+     * @param value the value to be formatted
+     * @param out   the array to write the label into
+     * @return
+     */
+    @Override
+    public int getFormattedValue(float value, char[] out) {
+
+        final double abs = Math.abs((double) value);
+
+        if (!mLatinDigits || Float.isNaN(value) || Float.isInfinite(value)
+                || (abs != 0 && abs < 1) || abs >= 1e18)
+            return copy(getFormattedValue(value), out);
+
+        // three significant digits and the decimal exponent of the first one
+        long mantissa;
+        int exponent = 0;
+
+        if (abs == 0) {
+            mantissa = 0;
+        } else {
+
+            long pow = 1;
+            while (pow * 10 <= abs) {
+                pow *= 10;
+                exponent++;
+            }
+
+            if (exponent < 2) {
+                // exact, the float times 100 or 10 fits into a double
+                mantissa = (long) Math.rint(abs * (exponent == 0 ? 100 : 10));
+            } else {
+                // exact integers: floats from 2^24 on are integers, smaller ones (>= 1) have no
+                // fraction bits below 2^-23
+                final int shift = abs < 16777216 ? 24 : 0;
+                long number = (long) (abs * (1 << shift));
+                long divisor = (pow / 100) << shift;
+
+                mantissa = number / divisor;
+                long remainder = number % divisor;
+
+                if (remainder * 2 > divisor || (remainder * 2 == divisor && mantissa % 2 != 0))
+                    mantissa++;
+            }
+
+            if (mantissa == 1000) {
+                mantissa = 100;
+                exponent++;
+            }
+        }
+
+        final int suffixIndex = exponent / 3;
+
+        if (suffixIndex >= mSuffix.length)
+            return copy(getFormattedValue(value), out);
+
+        final String suffix = mSuffix[suffixIndex];
+
+        // digits before the decimal separator, the remaining ones without trailing zeros
+        final int integerDigits = exponent % 3 + 1;
+        char d0 = (char) ('0' + mantissa / 100);
+        char d1 = (char) ('0' + mantissa / 10 % 10);
+        char d2 = (char) ('0' + mantissa % 10);
+
+        int fractionDigits = 3 - integerDigits;
+        if (fractionDigits == 2 && d2 == '0')
+            fractionDigits--;
+        if (fractionDigits == 1 && (integerDigits == 1 ? d1 : d2) == '0')
+            fractionDigits--;
+
+        int length = (Float.floatToRawIntBits(value) < 0 ? 1 : 0) + integerDigits
+                + (fractionDigits > 0 ? fractionDigits + 1 : 0) + suffix.length();
+
+        if (length + mText.length() > out.length)
+            return -1;
+
+        int index = 0;
+
+        if (Float.floatToRawIntBits(value) < 0)
+            out[index++] = mMinusSign;
+
+        out[index++] = d0;
+
+        for (int i = 1; i < integerDigits + fractionDigits; i++) {
+
+            if (i == integerDigits)
+                out[index++] = mDecimalSeparator;
+
+            out[index++] = i == 1 ? d1 : d2;
+        }
+
+        suffix.getChars(0, suffix.length(), out, index);
+
+        // shorten like makePretty(...)
+        while (length > mMaxLength || isDigitsDotLetter(out, length)) {
+            out[length - 2] = out[length - 1];
+            length--;
+        }
+
+        mText.getChars(0, mText.length(), out, length);
+
+        return length + mText.length();
+    }
+
+    /**
+     * Returns true if the given chars match "[0-9]+\\.[a-z]".
+     */
+    private static boolean isDigitsDotLetter(char[] chars, int length) {
+
+        if (length < 3 || chars[length - 2] != '.'
+                || chars[length - 1] < 'a' || chars[length - 1] > 'z')
+            return false;
+
+        for (int i = 0; i < length - 2; i++) {
+            if (chars[i] < '0' || chars[i] > '9')
+                return false;
+        }
+
+        return true;
+    }
+
+    private static int copy(String label, char[] out) {
+
+        if (label.length() > out.length)
+            return -1;
+
+        label.getChars(0, label.length(), out, 0);
+        return label.length();
+    }
+
     /**
      * Set an appendix text to be added at the end of the formatted value.
      *
@@ -17,27 +17,30 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
     }
 
     @Override
-    public Highlight getHighlight(float x, float y) {
-        Highlight high = super.getHighlight(x, y);
+    protected Highlight findHighlight(float x, float y) {
+        Highlight high = super.findHighlight(x, y);
 
         if(high == null) {
             return null;
         }
 
-        MPPointD pos = getValsForTouch(x, y);
-
         BarData barData = mChart.getBarData();
 
         IBarDataSet set = barData.getDataSetByIndex(high.getDataSetIndex());
         if (set.isStacked()) {
 
-            return getStackedHighlight(high,
+            MPPointD pos = getValsForTouch(x, y);
+
+            Highlight stackedHigh = getStackedHighlight(high,
                     set,
                     (float) pos.x,
-                    (float) pos.y);
-        }
+                    (float) pos.y,
+                    obtainHighlight());
 
-        MPPointD.recycleInstance(pos);
+            MPPointD.recycleInstance(pos);
+
+            return stackedHigh;
+        }
 
         return high;
     }
@@ -53,6 +56,22 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
      * @return
      */
     public Highlight getStackedHighlight(Highlight high, IBarDataSet set, float xVal, float yVal) {
+        return getStackedHighlight(high, set, xVal, yVal, new Highlight());
+    }
+
+    /**
+     * Like getStackedHighlight(...), but fills in the given Highlight instead of creating a new
+     * one if a value of a stacked BarEntry is selected.
+     *
+     * @param high
+     * @param set
+     * @param xVal
+     * @param yVal
+     * @param outputHighlight
+     * @return
+     */
+    protected Highlight getStackedHighlight(Highlight high, IBarDataSet set, float xVal, float yVal,
+                                            Highlight outputHighlight) {
 
         BarEntry entry = set.getEntryForXValue(xVal, yVal);
 
@@ -70,7 +89,7 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
 
                 MPPointD pixels = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(high.getX(), ranges[stackIndex].to);
 
-                Highlight stackedHigh = new Highlight(
+                outputHighlight.set(
                         entry.getX(),
                         entry.getY(),
                         (float) pixels.x,
@@ -82,7 +101,7 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
 
                 MPPointD.recycleInstance(pixels);
 
-                return stackedHigh;
+                return outputHighlight;
             }
         }
 
@@ -5,8 +5,11 @@ import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IColumnarLineDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.Utils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,13 +30,85 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      */
     protected List<Highlight> mHighlightBuffer = new ArrayList<Highlight>();
 
+    /**
+     * Highlight objects reused by every query, the ones before mHighlightPoolPosition are in
+     * use by the current query
+     */
+    protected List<Highlight> mHighlightPool = new ArrayList<Highlight>();
+    protected int mHighlightPoolPosition = 0;
+
+    /**
+     * buffers for the entries at an x-value and the pixel position of an entry
+     */
+    protected List<Entry> mEntryBuffer = new ArrayList<Entry>();
+    protected float[] mPixelBuffer = new float[2];
+
+    /**
+     * true if a subclass overrides getHighlight(float, float) or buildHighlights(IDataSet, int,
+     * float, Rounding) but not their pooled replacements, queries then go through the
+     * overridden methods
+     */
+    private final boolean mLegacyGetHighlight = Utils.isLegacyOverloadOverridden(getClass(),
+            "getHighlight", new Class<?>[]{float.class, float.class},
+            new Class<?>[]{float.class, float.class, Highlight.class});
+    private final boolean mLegacyBuildHighlights = Utils.isLegacyOverloadOverridden(getClass(),
+            "buildHighlights",
+            new Class<?>[]{IDataSet.class, int.class, float.class, DataSet.Rounding.class},
+            new Class<?>[]{IDataSet.class, int.class, float.class, DataSet.Rounding.class, List.class});
+
     public ChartHighlighter(T chart) {
         this.mChart = chart;
     }
 
+    /**
+     * Returns the Highlight for the given touch position as a new object that can be kept, null
+     * if nothing was found.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
     @Override
     public Highlight getHighlight(float x, float y) {
 
+        Highlight high = findHighlight(x, y);
+        return high == null ? null : new Highlight(high);
+    }
+
+    /**
+     * Like getHighlight(x, y), but copies the result into the given Highlight instead of
+     * creating a new object, so that repeated queries (e.g. while dragging) produce no garbage.
+     * Returns outputHighlight, or null if nothing was found. Goes through getHighlight(x, y) if
+     * a subclass overrides only that one.
+     *
+     * @param x
+     * @param y
+     * @param outputHighlight
+     * @return
+     */
+    public Highlight getHighlight(float x, float y, Highlight outputHighlight) {
+
+        Highlight high = mLegacyGetHighlight ? getHighlight(x, y) : findHighlight(x, y);
+
+        if (high == null)
+            return null;
+
+        outputHighlight.set(high);
+        return outputHighlight;
+    }
+
+    /**
+     * Finds the Highlight for the given touch position. The returned object belongs to the pool
+     * of this highlighter and is reused by the next query, callers must copy it to keep it.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    protected Highlight findHighlight(float x, float y) {
+
+        recycleHighlights();
+
         MPPointD pos = getValsForTouch(x, y);
         float xVal = (float) pos.x;
         MPPointD.recycleInstance(pos);
@@ -42,6 +117,27 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
         return high;
     }
 
+    /**
+     * Returns a Highlight from the pool, to be filled in with set(...). It stays valid until
+     * the next query.
+     *
+     * @return
+     */
+    protected Highlight obtainHighlight() {
+
+        if (mHighlightPoolPosition == mHighlightPool.size())
+            mHighlightPool.add(new Highlight());
+
+        return mHighlightPool.get(mHighlightPoolPosition++);
+    }
+
+    /**
+     * Marks all pooled Highlight objects as free, called at the start of every query.
+     */
+    protected void recycleHighlights() {
+        mHighlightPoolPosition = 0;
+    }
+
     /**
      * Returns a recyclable MPPointD instance.
      * Returns the corresponding xPos for a given touch-position in pixels.
@@ -142,12 +238,32 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
             if (!dataSet.isHighlightEnabled())
                 continue;
 
-            mHighlightBuffer.addAll(buildHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST));
+            addHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST, mHighlightBuffer);
         }
 
         return mHighlightBuffer;
     }
 
+    /**
+     * Adds the Highlight objects of the given DataSet at the selected xValue to the given list,
+     * through buildHighlights(IDataSet, int, float, Rounding) if a subclass overrides only that
+     * one, otherwise as pooled objects.
+     *
+     * @param set
+     * @param dataSetIndex
+     * @param xVal
+     * @param rounding
+     * @param outputHighlights the list to add to, not cleared
+     */
+    protected void addHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding,
+                                 List<Highlight> outputHighlights) {
+
+        if (mLegacyBuildHighlights)
+            outputHighlights.addAll(buildHighlights(set, dataSetIndex, xVal, rounding));
+        else
+            buildHighlights(set, dataSetIndex, xVal, rounding, outputHighlights);
+    }
+
     /**
      * An array of `Highlight` objects corresponding to the selected xValue and dataSetIndex.
      *
@@ -161,32 +277,103 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
 
         ArrayList<Highlight> highlights = new ArrayList<>();
 
+        int poolPosition = mHighlightPoolPosition;
+
+        buildHighlights(set, dataSetIndex, xVal, rounding, highlights);
+
+        // hand out copies and give the pooled objects back
+        for (int i = 0; i < highlights.size(); i++)
+            highlights.set(i, new Highlight(highlights.get(i)));
+
+        mHighlightPoolPosition = poolPosition;
+
+        return highlights;
+    }
+
+    /**
+     * Adds pooled `Highlight` objects for all entries at the selected xValue, or at the closest
+     * x-value if there is none, to the given list.
+     *
+     * @param set
+     * @param dataSetIndex
+     * @param xVal
+     * @param rounding
+     * @param outputHighlights the list to add to, not cleared
+     */
+    protected void buildHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding,
+                                   List<Highlight> outputHighlights) {
+
+        Transformer trans = mChart.getTransformer(set.getAxisDependency());
+
+        if (set instanceof IColumnarLineDataSet) {
+
+            // the values are read from the columns, columnar DataSets create their entries on demand
+            IColumnarLineDataSet columnar = (IColumnarLineDataSet) set;
+
+            int index = set.getEntryIndex(xVal, Float.NaN, rounding);
+
+            if (index < 0)
+                return;
+
+            float entryX = columnar.getXForIndex(index);
+
+            while (index > 0 && columnar.getXForIndex(index - 1) == entryX)
+                index--;
+
+            for (int count = set.getEntryCount(); index < count && columnar.getXForIndex(index) == entryX; index++) {
+                addHighlight(trans, entryX, columnar.getYForIndex(index), dataSetIndex, set.getAxisDependency(),
+                        outputHighlights);
+            }
+
+            return;
+        }
+
+        List<Entry> entries = mEntryBuffer;
+
         //noinspection unchecked
-        List<Entry> entries = set.getEntriesForXValue(xVal);
+        set.getEntriesForXValue(xVal, entries);
         if (entries.size() == 0) {
             // Try to find closest x-value and take all entries for that x-value
             final Entry closest = set.getEntryForXValue(xVal, Float.NaN, rounding);
             if (closest != null)
             {
                 //noinspection unchecked
-                entries = set.getEntriesForXValue(closest.getX());
+                set.getEntriesForXValue(closest.getX(), entries);
             }
         }
 
-        if (entries.size() == 0)
-            return highlights;
+        for (int i = 0; i < entries.size(); i++) {
+            Entry e = entries.get(i);
+            addHighlight(trans, e.getX(), e.getY(), dataSetIndex, set.getAxisDependency(), outputHighlights);
+        }
+
+        // don't hold on to the entries
+        entries.clear();
+    }
 
-        for (Entry e : entries) {
-            MPPointD pixels = mChart.getTransformer(
-                    set.getAxisDependency()).getPixelForValues(e.getX(), e.getY());
+    private void addHighlight(Transformer trans, float x, float y, int dataSetIndex,
+                              YAxis.AxisDependency axis, List<Highlight> outputHighlights) {
 
-            highlights.add(new Highlight(
-                    e.getX(), e.getY(),
-                    (float) pixels.x, (float) pixels.y,
-                    dataSetIndex, set.getAxisDependency()));
-        }
+        getPixelForValues(trans, x, y, mPixelBuffer);
 
-        return highlights;
+        Highlight high = obtainHighlight();
+        high.set(x, y, mPixelBuffer[0], mPixelBuffer[1], dataSetIndex, -1, axis);
+
+        outputHighlights.add(high);
+    }
+
+    /**
+     * Writes the pixel position of the given entry values into the given array.
+     *
+     * @param trans
+     * @param x
+     * @param y
+     * @param pixels
+     */
+    protected void getPixelForValues(Transformer trans, float x, float y, float[] pixels) {
+        pixels[0] = x;
+        pixels[1] = y;
+        trans.pointValuesToPixel(pixels);
     }
 
     /**
@@ -41,7 +41,7 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
 
             // in case of BarData, let the BarHighlighter take over
             if (barHighlighter != null && dataObject instanceof BarData) {
-                Highlight high = barHighlighter.getHighlight(x, y);
+                Highlight high = barHighlighter.findHighlight(x, y);
 
                 if (high != null) {
                     high.setDataIndex(i);
@@ -57,11 +57,13 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
                     if (!dataSet.isHighlightEnabled())
                         continue;
 
-                    List<Highlight> highs = buildHighlights(dataSet, j, xVal, DataSet.Rounding.CLOSEST);
-                    for (Highlight high : highs)
+                    int first = mHighlightBuffer.size();
+
+                    addHighlights(dataSet, j, xVal, DataSet.Rounding.CLOSEST, mHighlightBuffer);
+
+                    for (int k = first; k < mHighlightBuffer.size(); k++)
                     {
-                        high.setDataIndex(i);
-                        mHighlightBuffer.add(high);
+                        mHighlightBuffer.get(k).setDataIndex(i);
                     }
                 }
             }
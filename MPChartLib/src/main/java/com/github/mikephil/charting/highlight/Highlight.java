@@ -60,6 +60,22 @@ public class Highlight {
      */
     private float mDrawY;
 
+    /**
+     * Creates an empty Highlight, to be filled in with set(...) by code that reuses Highlight
+     * objects instead of creating new ones.
+     */
+    public Highlight() {
+    }
+
+    /**
+     * Creates a copy of the given Highlight.
+     *
+     * @param h
+     */
+    public Highlight(Highlight h) {
+        set(h);
+    }
+
     public Highlight(float x, float y, int dataSetIndex) {
         this.mX = x;
         this.mY = y;
@@ -101,6 +117,50 @@ public class Highlight {
         this.mStackIndex = stackIndex;
     }
 
+    /**
+     * Reinitializes this Highlight with the given values, so that it can be reused. The data
+     * index and the draw position are reset.
+     *
+     * @param x            the x-value of the highlighted value
+     * @param y            the y-value of the highlighted value
+     * @param xPx          the x-pixel of the highlight
+     * @param yPx          the y-pixel of the highlight
+     * @param dataSetIndex the index of the DataSet the highlighted value belongs to
+     * @param stackIndex   the highlighted value of a stacked-bar entry, -1 if not stacked
+     * @param axis         the axis the highlighted value belongs to
+     */
+    public void set(float x, float y, float xPx, float yPx, int dataSetIndex, int stackIndex,
+                    YAxis.AxisDependency axis) {
+        this.mX = x;
+        this.mY = y;
+        this.mXPx = xPx;
+        this.mYPx = yPx;
+        this.mDataIndex = -1;
+        this.mDataSetIndex = dataSetIndex;
+        this.mStackIndex = stackIndex;
+        this.axis = axis;
+        this.mDrawX = 0f;
+        this.mDrawY = 0f;
+    }
+
+    /**
+     * Copies all values of the given Highlight into this one.
+     *
+     * @param h
+     */
+    public void set(Highlight h) {
+        this.mX = h.mX;
+        this.mY = h.mY;
+        this.mXPx = h.mXPx;
+        this.mYPx = h.mYPx;
+        this.mDataIndex = h.mDataIndex;
+        this.mDataSetIndex = h.mDataSetIndex;
+        this.mStackIndex = h.mStackIndex;
+        this.axis = h.axis;
+        this.mDrawX = h.mDrawX;
+        this.mDrawY = h.mDrawY;
+    }
+
     /**
      * returns the x-value of the highlighted value
      *
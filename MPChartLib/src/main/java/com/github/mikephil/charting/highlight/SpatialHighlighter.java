@@ -0,0 +1,147 @@
+package com.github.mikephil.charting.highlight;
+
+import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.KdTree;
+import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.Transformer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Highlighter for scatter and bubble charts. For DataSets that keep a spatial index (see
+ * setSpatialIndexEnabled(...)), the entry closest to the touch position in pixels is looked up
+ * in the index instead of scanning all entries close to the touched x-value. Of all DataSets,
+ * the closest entry within the maximum highlight distance is highlighted. If no DataSet keeps
+ * an index, this behaves like the ChartHighlighter.
+ */
+public class SpatialHighlighter extends ChartHighlighter<BarLineScatterCandleBubbleDataProvider> {
+
+    /**
+     * buffers for the pixels per value and the touch position in values
+     */
+    private float[] mScaleBuffer = new float[2];
+    private MPPointD mTouchValue = MPPointD.getInstance(0, 0);
+
+    /**
+     * buffer for the highlights of DataSets without an index
+     */
+    private List<Highlight> mSetHighlights = new ArrayList<Highlight>();
+
+    public SpatialHighlighter(BarLineScatterCandleBubbleDataProvider chart) {
+        super(chart);
+    }
+
+    @Override
+    protected Highlight findHighlight(float x, float y) {
+
+        BarLineScatterCandleBubbleData data = getData();
+
+        if (data == null || !hasSpatialIndex(data))
+            return super.findHighlight(x, y);
+
+        recycleHighlights();
+
+        Highlight closest = null;
+        float closestDistance = mChart.getMaxHighlightDistance();
+
+        for (int i = 0, dataSetCount = data.getDataSetCount(); i < dataSetCount; i++) {
+
+            IDataSet set = data.getDataSetByIndex(i);
+
+            // don't include DataSets that cannot be highlighted
+            if (!set.isHighlightEnabled())
+                continue;
+
+            Transformer trans = mChart.getTransformer(set.getAxisDependency());
+            KdTree index = getSpatialIndex(set);
+
+            Highlight high;
+
+            if (index != null && trans.getPixelsPerValue(mScaleBuffer)) {
+
+                trans.getValuesByTouchPoint(x, y, mTouchValue);
+
+                int entryIndex = index.nearest((float) mTouchValue.x, (float) mTouchValue.y,
+                        mScaleBuffer[0], mScaleBuffer[1], closestDistance);
+
+                if (entryIndex < 0)
+                    continue;
+
+                Entry e = set.getEntryForIndex(entryIndex);
+                getPixelForValues(trans, e.getX(), e.getY(), mPixelBuffer);
+
+                high = obtainHighlight();
+                high.set(e.getX(), e.getY(), mPixelBuffer[0], mPixelBuffer[1],
+                        i, -1, set.getAxisDependency());
+
+            } else {
+
+                MPPointD pos = getValsForTouch(x, y);
+                float xVal = (float) pos.x;
+                MPPointD.recycleInstance(pos);
+
+                mSetHighlights.clear();
+                buildHighlights(set, i, xVal, DataSet.Rounding.CLOSEST, mSetHighlights);
+                high = getClosestHighlightByPixel(mSetHighlights, x, y, null, closestDistance);
+            }
+
+            if (high == null)
+                continue;
+
+            float distance = getDistance(x, y, high.getXPx(), high.getYPx());
+
+            if (distance < closestDistance) {
+                closest = high;
+                closestDistance = distance;
+            }
+        }
+
+        mSetHighlights.clear();
+
+        return closest;
+    }
+
+    /**
+     * Returns true if any DataSet of the given data that can be highlighted keeps a spatial
+     * index.
+     *
+     * @param data
+     * @return
+     */
+    protected boolean hasSpatialIndex(BarLineScatterCandleBubbleData data) {
+
+        for (int i = 0, dataSetCount = data.getDataSetCount(); i < dataSetCount; i++) {
+
+            IDataSet set = data.getDataSetByIndex(i);
+
+            if (set.isHighlightEnabled() && getSpatialIndex(set) != null)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the up to date spatial index of the given DataSet, null if it has none.
+     *
+     * @param set
+     * @return
+     */
+    protected KdTree getSpatialIndex(IDataSet set) {
+
+        if (set instanceof IScatterDataSet)
+            return ((IScatterDataSet) set).getSpatialIndex();
+
+        if (set instanceof IBubbleDataSet)
+            return ((IBubbleDataSet) set).getSpatialIndex();
+
+        return null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.mikephil.charting.interfaces.datasets;
 
 import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.utils.KdTree;
 
 /**
  * Created by philipp on 21/10/15.
@@ -24,4 +25,12 @@ public interface IBubbleDataSet extends IBarLineScatterCandleBubbleDataSet<Bubbl
       * @return
      */
     float getHighlightCircleWidth();
+
+    /**
+     * Returns the index over the x- and y-values of the entries that is used to find the entry
+     * closest to a touch position, null if the DataSet does not keep one.
+     *
+     * @return
+     */
+    KdTree getSpatialIndex();
 }
@@ -0,0 +1,39 @@
+package com.github.mikephil.charting.interfaces.datasets;
+
+/**
+ * Line DataSet that stores its x- and y-values in primitive columns instead of Entry objects.
+ * Renderers and the Transformer check for this interface and read the values directly,
+ * without calling getEntryForIndex(...) for every point.
+ */
+public interface IColumnarLineDataSet extends ILineDataSet {
+
+    /**
+     * Returns the x-value at the given index (NOT xIndex) in the values columns.
+     *
+     * @param index
+     * @return
+     */
+    float getXForIndex(int index);
+
+    /**
+     * Returns the y-value at the given index (NOT xIndex) in the values columns.
+     *
+     * @param index
+     * @return
+     */
+    float getYForIndex(int index);
+
+    /**
+     * Copies the values from index "from" to index "to" (both inclusive) into the provided
+     * buffer as (x, y, x, y, ...) pairs, starting at the given offset. The y-values are
+     * multiplied with phaseY. Returns the number of floats written.
+     *
+     * @param buffer
+     * @param offset
+     * @param from
+     * @param to
+     * @param phaseY
+     * @return
+     */
+    int copyValues(float[] buffer, int offset, int from, int to, float phaseY);
+}
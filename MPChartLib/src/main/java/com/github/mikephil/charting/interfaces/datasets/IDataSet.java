@@ -114,6 +114,15 @@ public interface IDataSet<T extends Entry> {
      */
     List<T> getEntriesForXValue(float xValue);
 
+    /**
+     * Like getEntriesForXValue(float), but clears the given list and adds the entries to it
+     * instead of creating a new list, e.g. for highlighting while dragging.
+     *
+     * @param xValue
+     * @param outputEntries the list to fill, cleared first
+     */
+    void getEntriesForXValue(float xValue, List<T> outputEntries);
+
     /**
      * Returns the Entry object found at the given index (NOT xIndex) in the values array.
      *
@@ -138,6 +147,19 @@ public interface IDataSet<T extends Entry> {
      */
     int getEntryIndex(float xValue, float closestToY, DataSet.Rounding rounding);
 
+    /**
+     * Writes the indices of the entries closest to the given x-range into the provided array,
+     * the index of the first entry (rounded down) to range[0] and the index of the last entry
+     * (rounded up) to range[1]. Both indices are 0 if the DataSet is empty.
+     * This is the index based counterpart to getEntryForXValue(...) with DOWN / UP rounding,
+     * use it whenever the indices are needed to avoid searching the entries a second time.
+     *
+     * @param fromX
+     * @param toX
+     * @param range array of at least size 2 that receives the indices
+     */
+    void getEntryIndexRange(float fromX, float toX, int[] range);
+
     /**
      * Returns the position of the provided entry in the DataSets Entry array.
      * Returns -1 if doesn't exist.
@@ -277,6 +299,15 @@ public interface IDataSet<T extends Entry> {
      */
     List<Integer> getColors();
 
+    /**
+     * Returns the colors that are set for this DataSet as primitive array, e.g. for renderers
+     * that look up a color per entry. Reflects changes made to the list returned by
+     * getColors(). The array must not be modified, call once per draw and not per entry.
+     *
+     * @return
+     */
+    int[] getColorArray();
+
     /**
      * Returns the first color (index 0) of the colors-array this DataSet
      * contains. This is only used for performance reasons when only one color is in the colors array (size == 1)
@@ -0,0 +1,40 @@
+package com.github.mikephil.charting.interfaces.datasets;
+
+import com.github.mikephil.charting.data.DataSet;
+
+/**
+ * Columnar line DataSet that keeps its x-values in double precision, e.g. epoch timestamps in
+ * milliseconds. All float x-values of this DataSet (getXForIndex(...), Entry x-values, the
+ * x-range and with it the x-axis) are relative to the x-origin, the Transformer converts the
+ * double x-values to pixels without the detour over float.
+ */
+public interface IDoubleXLineDataSet extends IColumnarLineDataSet {
+
+    /**
+     * Returns the absolute x-value that corresponds to the relative float x-value 0.
+     *
+     * @return
+     */
+    double getXOrigin();
+
+    /**
+     * Returns the absolute x-value at the given index (NOT xIndex) in the values columns.
+     *
+     * @param index
+     * @return
+     */
+    double getXDoubleForIndex(int index);
+
+    /**
+     * Returns the position of the value closest to the given absolute x-value, see
+     * getEntryIndex(float, float, Rounding).
+     *
+     * @param xValue     the absolute x-value
+     * @param closestToY If there are multiple values at the same x-value, the closest one to
+     *                   this y-value is taken, pass Float.NaN to ignore.
+     * @param rounding   determine whether to round up/down/closest if there is no value
+     *                   exactly at the given x-value
+     * @return
+     */
+    int getEntryIndex(double xValue, float closestToY, DataSet.Rounding rounding);
+}
@@ -4,7 +4,9 @@ import android.graphics.DashPathEffect;
 
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.filter.IDownsampler;
 import com.github.mikephil.charting.formatter.IFillFormatter;
+import com.github.mikephil.charting.utils.LevelOfDetailPyramid;
 
 /**
  * Created by Philpp Jahoda on 21/10/15.
@@ -100,4 +102,37 @@ public interface ILineDataSet extends ILineRadarDataSet<Entry> {
      * @return
      */
     IFillFormatter getFillFormatter();
-}
\ No newline at end of file
+
+    /**
+     * Returns the level-of-detail pyramid of this DataSet, up to date with its values, or null
+     * if drawing with a level-of-detail pyramid is disabled.
+     *
+     * @return
+     */
+    LevelOfDetailPyramid getLevelOfDetail();
+
+    /**
+     * Returns the downsampler the visible points are reduced with before drawing, null if
+     * downsampling is disabled.
+     *
+     * @return
+     */
+    IDownsampler getDownsampler();
+
+    /**
+     * Returns true if pixel columns that contain several points are collapsed to the points
+     * that enter and leave them and their minimum and maximum before drawing.
+     *
+     * @return
+     */
+    boolean isPixelDecimationEnabled();
+
+    /**
+     * Returns a counter that changes whenever the entries change in any other way than by
+     * appending entries at the end or removing the first entry, e.g. when an entry is inserted
+     * or removed, the entries are replaced or notifyDataSetChanged() is called on the DataSet.
+     *
+     * @return
+     */
+    int getEditCount();
+}
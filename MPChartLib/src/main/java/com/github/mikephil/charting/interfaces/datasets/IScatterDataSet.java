@@ -2,6 +2,7 @@ package com.github.mikephil.charting.interfaces.datasets;
 
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.renderer.scatter.IShapeRenderer;
+import com.github.mikephil.charting.utils.KdTree;
 
 /**
  * Created by philipp on 21/10/15.
@@ -35,4 +36,12 @@ public interface IScatterDataSet extends ILineScatterCandleRadarDataSet<Entry> {
      * @return
      */
     IShapeRenderer getShapeRenderer();
+
+    /**
+     * Returns the index over the x- and y-values of the entries that is used to find the entry
+     * closest to a touch position, null if the DataSet does not keep one.
+     *
+     * @return
+     */
+    KdTree getSpatialIndex();
 }
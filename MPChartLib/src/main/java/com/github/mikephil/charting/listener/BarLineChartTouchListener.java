@@ -64,6 +64,11 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
     private MPPointF mDecelerationCurrentPoint = MPPointF.getInstance(0,0);
     private MPPointF mDecelerationVelocity = MPPointF.getInstance(0,0);
 
+    /**
+     * reused for the highlight lookup on every move while dragging
+     */
+    private Highlight mDragHighlight = new Highlight();
+
     /**
      * the distance of movement that will be counted as a drag
      */
@@ -441,11 +446,12 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
      */
     private void performHighlightDrag(MotionEvent e) {
 
-        Highlight h = mChart.getHighlightByTouchPoint(e.getX(), e.getY());
+        Highlight h = mChart.getHighlightByTouchPoint(e.getX(), e.getY(), mDragHighlight);
 
         if (h != null && !h.equalTo(mLastHighlighted)) {
-            mLastHighlighted = h;
-            mChart.highlightValue(h, true);
+            // the chart keeps the highlight, hand it a copy of the reused one
+            mLastHighlighted = new Highlight(h);
+            mChart.highlightValue(mLastHighlighted, true);
         }
     }
 
@@ -0,0 +1,18 @@
+package com.github.mikephil.charting.listener;
+
+/**
+ * Listener for callbacks when the updates requested with postDataSetChanged() have been
+ * applied to the chart.
+ */
+public interface OnChartDataUpdateListener {
+
+    /**
+     * Called once per frame after the derived state of the chart (min / max values, axes,
+     * legend and offsets) has been recalculated for all updates requested since the last
+     * frame. This is the place to move the viewport to newly added values.
+     *
+     * @param updateCount the number of postDataSetChanged() calls applied by this
+     *                    recalculation
+     */
+    void onChartDataUpdated(int updateCount);
+}
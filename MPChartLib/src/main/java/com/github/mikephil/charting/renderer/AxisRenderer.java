@@ -5,8 +5,10 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Paint.Style;
+import android.graphics.Typeface;
 
 import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
@@ -45,6 +47,30 @@ public abstract class AxisRenderer extends Renderer {
      */
     protected Paint mLimitLinePaint;
 
+    /**
+     * the state of the axis and the viewport the axis values were last computed for
+     */
+    private boolean mAxisValuesValid = false;
+    private float mLastMin;
+    private float mLastMax;
+    private int mLastLabelCount;
+    private boolean mLastForceLabels;
+    private boolean mLastGranularityEnabled;
+    private float mLastGranularity;
+    private boolean mLastCenterAxisLabels;
+    private float mLastTextSize;
+    private Typeface mLastTypeface;
+    private ValueFormatter mLastValueFormatter;
+    private float mLastContentLeft;
+    private float mLastContentTop;
+    private float mLastContentRight;
+    private float mLastContentBottom;
+
+    /**
+     * the number of times the axis values were actually computed
+     */
+    private int mAxisValuesComputeCount = 0;
+
     public AxisRenderer(ViewPortHandler viewPortHandler, Transformer trans, AxisBase axis) {
         super(viewPortHandler);
 
@@ -138,7 +164,105 @@ public abstract class AxisRenderer extends Renderer {
             MPPointD.recycleInstance(p2);
         }
 
+        computeAxisValuesIfChanged(min, max);
+    }
+
+    /**
+     * Computes the axis values for the given range, unless they were already computed for the
+     * same range, axis configuration and content rect.
+     *
+     * @param min
+     * @param max
+     */
+    protected void computeAxisValuesIfChanged(float min, float max) {
+
+        if (mAxisValuesValid && !hasAxisChanged(min, max))
+            return;
+
+        mAxisValuesComputeCount++;
+
+        // the formatter may depend on the data or on the computed decimals
+        mAxis.invalidateLabels();
         computeAxisValues(min, max);
+
+        // taken after computing, the formatter and the centering depend on the computed values
+        storeAxisState(min, max);
+        mAxisValuesValid = true;
+    }
+
+    /**
+     * Returns true if the given range, the configuration of the axis or the content rect
+     * differ from the state the axis values were last computed for.
+     *
+     * @param min
+     * @param max
+     * @return
+     */
+    protected boolean hasAxisChanged(float min, float max) {
+
+        if (min != mLastMin
+                || max != mLastMax
+                || mAxis.getLabelCount() != mLastLabelCount
+                || mAxis.isForceLabelsEnabled() != mLastForceLabels
+                || mAxis.isGranularityEnabled() != mLastGranularityEnabled
+                || mAxis.getGranularity() != mLastGranularity
+                || mAxis.isCenterAxisLabelsEnabled() != mLastCenterAxisLabels
+                || mAxis.getTextSize() != mLastTextSize
+                || mAxis.getTypeface() != mLastTypeface
+                || mAxis.getValueFormatter() != mLastValueFormatter)
+            return true;
+
+        return mViewPortHandler != null
+                && (mViewPortHandler.contentLeft() != mLastContentLeft
+                || mViewPortHandler.contentTop() != mLastContentTop
+                || mViewPortHandler.contentRight() != mLastContentRight
+                || mViewPortHandler.contentBottom() != mLastContentBottom);
+    }
+
+    /**
+     * Stores the given range, the configuration of the axis and the content rect as the state
+     * the axis values were computed for.
+     *
+     * @param min
+     * @param max
+     */
+    protected void storeAxisState(float min, float max) {
+
+        mLastMin = min;
+        mLastMax = max;
+        mLastLabelCount = mAxis.getLabelCount();
+        mLastForceLabels = mAxis.isForceLabelsEnabled();
+        mLastGranularityEnabled = mAxis.isGranularityEnabled();
+        mLastGranularity = mAxis.getGranularity();
+        mLastCenterAxisLabels = mAxis.isCenterAxisLabelsEnabled();
+        mLastTextSize = mAxis.getTextSize();
+        mLastTypeface = mAxis.getTypeface();
+        mLastValueFormatter = mAxis.getValueFormatter();
+
+        if (mViewPortHandler != null) {
+            mLastContentLeft = mViewPortHandler.contentLeft();
+            mLastContentTop = mViewPortHandler.contentTop();
+            mLastContentRight = mViewPortHandler.contentRight();
+            mLastContentBottom = mViewPortHandler.contentBottom();
+        }
+    }
+
+    /**
+     * Forces the axis values to be computed on the next call to computeAxis(...), e.g. after
+     * the data the labels are formatted from changed.
+     */
+    public void invalidateAxisValues() {
+        mAxisValuesValid = false;
+    }
+
+    /**
+     * Returns the number of times the axis values were actually computed, calls to
+     * computeAxis(...) that found the axis unchanged are not counted.
+     *
+     * @return
+     */
+    public int getAxisValuesComputeCount() {
+        return mAxisValuesComputeCount;
     }
 
     /**
@@ -10,6 +10,8 @@ import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.buffer.BarBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.formatter.LabelMethods;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.Range;
@@ -20,8 +22,10 @@ import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 import android.graphics.LinearGradient;
+import android.graphics.Matrix;
 import com.github.mikephil.charting.model.GradientColor;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
@@ -64,8 +68,24 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         for (int i = 0; i < mBarBuffers.length; i++) {
             IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new BarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
-                    barData.getDataSetCount(), set.isStacked());
+            // the buffer grows with the number of visible bars
+            mBarBuffers[i] = new BarBuffer(0, barData.getDataSetCount(), set.isStacked());
+        }
+
+        initGradientShaderCaches(barData.getDataSetCount());
+    }
+
+    /**
+     * cached gradient shaders per DataSet
+     */
+    protected GradientShaderCache[] mGradientShaderCaches;
+
+    protected void initGradientShaderCaches(int dataSetCount) {
+
+        mGradientShaderCaches = new GradientShaderCache[dataSetCount];
+
+        for (int i = 0; i < dataSetCount; i++) {
+            mGradientShaderCaches[i] = new GradientShaderCache();
         }
     }
 
@@ -98,6 +118,11 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
+        BarBuffer buffer = mBarBuffers[index];
+
+        // only the visible bars are fed into the buffer
+        limitToVisibleRange(buffer, dataSet);
+
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
             mShadowPaint.setColor(dataSet.getBarShadowColor());
@@ -108,7 +133,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             final float barWidthHalf = barWidth / 2.0f;
             float x;
 
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
+            for (int i = buffer.getLimitFrom(), count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
                 i < count;
                 i++) {
 
@@ -135,7 +160,6 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         }
 
         // initialize the buffer
-        BarBuffer buffer = mBarBuffers[index];
         buffer.setPhases(phaseX, phaseY);
         buffer.setDataSet(index);
         buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
@@ -143,7 +167,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         buffer.feed(dataSet);
 
-        trans.pointValuesToPixel(buffer.buffer);
+        trans.pointValuesToPixel(buffer.buffer, 0, buffer.size() / 2);
 
         final boolean isSingleColor = dataSet.getColors().size() == 1;
 
@@ -151,6 +175,15 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             mRenderPaint.setColor(dataSet.getColor());
         }
 
+        // index of the first bar in the buffer, for colors that are set per bar
+        final int colorOffset = getFirstBarIndex(buffer, dataSet);
+
+        if (mBatchDrawingEnabled && dataSet.getGradientColor() == null
+                && dataSet.getGradientColors() == null) {
+            drawBarsBatched(c, dataSet, buffer, colorOffset, drawBorder);
+            return;
+        }
+
         for (int j = 0; j < buffer.size(); j += 4) {
 
             if (!mViewPortHandler.isInBoundsLeft(buffer.buffer[j + 2]))
@@ -162,32 +195,16 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             if (!isSingleColor) {
                 // Set the color for the currently drawn value. If the index
                 // is out of bounds, reuse colors.
-                mRenderPaint.setColor(dataSet.getColor(j / 4));
+                mRenderPaint.setColor(dataSet.getColor(colorOffset + j / 4));
             }
 
-            if (dataSet.getGradientColor() != null) {
-                GradientColor gradientColor = dataSet.getGradientColor();
-                 mRenderPaint.setShader(
-                    new LinearGradient(
-                        buffer.buffer[j],
-                        buffer.buffer[j + 3],
-                        buffer.buffer[j],
-                        buffer.buffer[j + 1],
-                        gradientColor.getStartColor(),
-                        gradientColor.getEndColor(),
-                        android.graphics.Shader.TileMode.MIRROR));
-            }
+            GradientColor gradientColor = dataSet.getGradientColors() != null
+                    ? dataSet.getGradientColor(colorOffset + j / 4) : dataSet.getGradientColor();
 
-            if (dataSet.getGradientColors() != null) {
-                 mRenderPaint.setShader(
-                    new LinearGradient(
-                        buffer.buffer[j],
-                        buffer.buffer[j + 3],
-                        buffer.buffer[j],
-                        buffer.buffer[j + 1],
-                        dataSet.getGradientColor(j / 4).getStartColor(),
-                        dataSet.getGradientColor(j / 4).getEndColor(),
-                        android.graphics.Shader.TileMode.MIRROR));
+            if (gradientColor != null) {
+                mRenderPaint.setShader(mGradientShaderCaches[index].get(
+                        buffer.buffer[j + 1], buffer.buffer[j + 3],
+                        gradientColor.getStartColor(), gradientColor.getEndColor()));
             }
 
 
@@ -201,6 +218,127 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         }
     }
 
+    /**
+     * batch for the bars of one color, and for the borders of all bars
+     */
+    private LineBatch mBarBatch = new LineBatch();
+
+    /**
+     * Draws the (transformed) bars of the given buffer grouped by color: every bar becomes a
+     * vertical line with a stroke width of the bar width, all bars of one color are drawn
+     * with one drawLines call. The borders of all bars are drawn with one more call.
+     *
+     * @param c
+     * @param dataSet
+     * @param buffer
+     * @param colorOffset the index of the first bar in the buffer, for its color
+     * @param drawBorder
+     */
+    protected void drawBarsBatched(Canvas c, IBarDataSet dataSet, BarBuffer buffer,
+                                   int colorOffset, boolean drawBorder) {
+
+        final float[] bars = buffer.buffer;
+        final int size = buffer.size();
+
+        if (size == 0)
+            return;
+
+        final int[] colors = dataSet.getColorArray();
+        final int colorCount = colors.length;
+
+        final LineBatch batch = mBarBatch;
+
+        final Paint.Style style = mRenderPaint.getStyle();
+        final float strokeWidth = mRenderPaint.getStrokeWidth();
+        final Paint.Cap cap = mRenderPaint.getStrokeCap();
+
+        mRenderPaint.setStyle(Paint.Style.STROKE);
+        mRenderPaint.setStrokeCap(Paint.Cap.BUTT);
+        mRenderPaint.setStrokeWidth(Math.abs(bars[2] - bars[0]));
+
+        // the bars of color i are every colorCount-th bar, starting with the first one of color i
+        for (int color = 0; color < colorCount; color++) {
+
+            batch.reset();
+
+            final int first = ((color - colorOffset % colorCount) + colorCount) % colorCount;
+
+            for (int j = first * 4; j < size; j += colorCount * 4) {
+
+                if (!mViewPortHandler.isInBoundsLeft(bars[j + 2])
+                        || !mViewPortHandler.isInBoundsRight(bars[j]))
+                    continue;
+
+                final float x = (bars[j] + bars[j + 2]) / 2f;
+                batch.add(x, bars[j + 1], x, bars[j + 3]);
+            }
+
+            mRenderPaint.setColor(colors[color]);
+            batch.draw(c, mRenderPaint);
+        }
+
+        mRenderPaint.setStyle(style);
+        mRenderPaint.setStrokeCap(cap);
+        mRenderPaint.setStrokeWidth(strokeWidth);
+
+        if (drawBorder) {
+
+            batch.reset();
+
+            for (int j = 0; j < size; j += 4) {
+
+                if (!mViewPortHandler.isInBoundsLeft(bars[j + 2]))
+                    continue;
+
+                if (!mViewPortHandler.isInBoundsRight(bars[j]))
+                    break;
+
+                batch.addRectOutline(bars[j], bars[j + 1], bars[j + 2], bars[j + 3]);
+            }
+
+            final Paint.Cap borderCap = mBarBorderPaint.getStrokeCap();
+
+            mBarBorderPaint.setStrokeCap(Paint.Cap.SQUARE);
+            batch.draw(c, mBarBorderPaint);
+            mBarBorderPaint.setStrokeCap(borderCap);
+        }
+    }
+
+    /**
+     * buffer for the index range of the visible bars
+     */
+    private int[] mVisibleRangeBuffer = new int[2];
+
+    /**
+     * Limits the given buffer to the entries whose bars are (partly) visible, so that only
+     * the visible bars are converted, transformed and drawn.
+     *
+     * @param buffer
+     * @param dataSet
+     */
+    protected void limitToVisibleRange(BarBuffer buffer, IBarDataSet dataSet) {
+
+        final float barWidthHalf = mChart.getBarData().getBarWidth() / 2f;
+
+        dataSet.getEntryIndexRange(mChart.getLowestVisibleX() - barWidthHalf,
+                mChart.getHighestVisibleX() + barWidthHalf, mVisibleRangeBuffer);
+
+        buffer.limitFrom(mVisibleRangeBuffer[0]);
+        buffer.limitTo(mVisibleRangeBuffer[1]);
+    }
+
+    /**
+     * Returns the index of the first bar in the given buffer, counted over all bars of the
+     * DataSet (stacked entries count as one bar per stack value).
+     *
+     * @param buffer
+     * @param dataSet
+     * @return
+     */
+    protected int getFirstBarIndex(BarBuffer buffer, IBarDataSet dataSet) {
+        return buffer.getLimitFrom() * (dataSet.isStacked() ? dataSet.getStackSize() : 1);
+    }
+
     protected void prepareBarHighlight(float x, float y1, float y2, float barWidthHalf, Transformer trans) {
 
         float left = x - barWidthHalf;
@@ -254,7 +392,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
                 final float phaseY = mAnimator.getPhaseY();
 
-                ValueFormatter formatter = dataSet.getValueFormatter();
+                ValueFormatter formatter = getValueFormatter(mChart.getBarData(), dataSet);
 
                 MPPointF iconsOffset = MPPointF.getInstance(dataSet.getIconsOffset());
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
@@ -263,7 +401,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    final int from = buffer.getLimitFrom();
+
+                    for (int j = 0; j < buffer.size(); j += 4) {
 
                         float x = (buffer.buffer[j] + buffer.buffer[j + 2]) / 2f;
 
@@ -274,14 +414,18 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                 || !mViewPortHandler.isInBoundsLeft(x))
                             continue;
 
-                        BarEntry entry = dataSet.getEntryForIndex(j / 4);
+                        BarEntry entry = dataSet.getEntryForIndex(from + j / 4);
                         float val = entry.getY();
 
                         if (dataSet.isDrawValuesEnabled()) {
-                            drawValue(c, formatter.getBarLabel(entry), x, val >= 0 ?
-                                            (buffer.buffer[j + 1] + posOffset) :
-                                            (buffer.buffer[j + 3] + negOffset),
-                                    dataSet.getValueTextColor(j / 4));
+
+                            float y = val >= 0 ?
+                                    (buffer.buffer[j + 1] + posOffset) :
+                                    (buffer.buffer[j + 3] + negOffset);
+                            int color = dataSet.getValueTextColor(from + j / 4);
+
+                            if (!drawFormattedValue(c, formatter, LabelMethods.BAR_LABEL, val, x, y, color))
+                                drawValue(c, formatter.getBarLabel(entry), x, y, color);
                         }
 
                         if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -312,9 +456,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
                     int bufferIndex = 0;
-                    int index = 0;
+                    int index = buffer.getLimitFrom();
 
-                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+                    while (bufferIndex < buffer.size()) {
 
                         BarEntry entry = dataSet.getEntryForIndex(index);
 
@@ -336,9 +480,13 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                 continue;
 
                             if (dataSet.isDrawValuesEnabled()) {
-                                drawValue(c, formatter.getBarLabel(entry), x, buffer.buffer[bufferIndex + 1] +
-                                                (entry.getY() >= 0 ? posOffset : negOffset),
-                                        color);
+
+                                float y = buffer.buffer[bufferIndex + 1] +
+                                        (entry.getY() >= 0 ? posOffset : negOffset);
+
+                                if (!drawFormattedValue(c, formatter, LabelMethods.BAR_LABEL,
+                                        entry.getY(), x, y, color))
+                                    drawValue(c, formatter.getBarLabel(entry), x, y, color);
                             }
 
                             if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -364,12 +512,17 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                             // draw stack values
                         } else {
 
-                            float[] transformed = new float[vals.length * 2];
+                            final int length = vals.length * 2;
+
+                            if (mStackedValuesBuffer.length < length)
+                                mStackedValuesBuffer = new float[length];
+
+                            final float[] transformed = mStackedValuesBuffer;
 
                             float posY = 0f;
                             float negY = -entry.getNegativeSum();
 
-                            for (int k = 0, idx = 0; k < transformed.length; k += 2, idx++) {
+                            for (int k = 0, idx = 0; k < length; k += 2, idx++) {
 
                                 float value = vals[idx];
                                 float y;
@@ -385,12 +538,13 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                     negY -= value;
                                 }
 
+                                transformed[k] = 0f;
                                 transformed[k + 1] = y * phaseY;
                             }
 
-                            trans.pointValuesToPixel(transformed);
+                            trans.pointValuesToPixel(transformed, 0, vals.length);
 
-                            for (int k = 0; k < transformed.length; k += 2) {
+                            for (int k = 0; k < length; k += 2) {
 
                                 final float val = vals[k / 2];
                                 final boolean drawBelow =
@@ -406,7 +560,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                         || !mViewPortHandler.isInBoundsLeft(x))
                                     continue;
 
-                                if (dataSet.isDrawValuesEnabled()) {
+                                if (dataSet.isDrawValuesEnabled()
+                                        && !drawFormattedValue(c, formatter,
+                                        LabelMethods.BAR_STACKED_LABEL, val, x, y, color)) {
                                     drawValue(c, formatter.getBarStackedLabel(val, entry), x, y, color);
                                 }
 
@@ -435,6 +591,11 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         }
     }
 
+    /**
+     * buffer for the positions of the values of a stacked entry
+     */
+    protected float[] mStackedValuesBuffer = new float[2];
+
     @Override
     public void drawValue(Canvas c, String valueText, float x, float y, int color) {
         mValuePaint.setColor(color);
@@ -453,11 +614,13 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            BarEntry e = set.getEntryForXValue(high.getX(), high.getY());
+            int entryIndex = set.getEntryIndex(high.getX(), high.getY(), DataSet.Rounding.CLOSEST);
 
-            if (!isInBoundsX(e, set))
+            if (!isInBoundsX(entryIndex, set))
                 continue;
 
+            BarEntry e = set.getEntryForIndex(entryIndex);
+
             Transformer trans = mChart.getTransformer(set.getAxisDependency());
 
             mHighlightPaint.setColor(set.getHighLightColor());
@@ -507,4 +670,82 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
     @Override
     public void drawExtras(Canvas c) {
     }
+
+    /**
+     * Cache for the vertical gradient shaders of the bars of a DataSet. One shader is created
+     * per pair of colors, spanning from y = 0 (start color) to y = 1 (end color), and is moved
+     * onto the bar that is drawn with its local matrix, so drawing does not allocate shaders
+     * when bars move or change their height.
+     */
+    protected static class GradientShaderCache {
+
+        private LinearGradient[] mShaders = new LinearGradient[0];
+
+        /**
+         * start and end color of every cached shader
+         */
+        private int[] mColors = new int[0];
+
+        /**
+         * the number of cached shaders
+         */
+        private int mSize = 0;
+
+        /**
+         * matrix that maps the shader onto the bar that is drawn
+         */
+        private Matrix mMatrix = new Matrix();
+
+        /**
+         * Returns the gradient shader for the given colors, positioned from the given bottom
+         * (start color) to the given top (end color). The returned shader is shared and only
+         * valid until the next call.
+         *
+         * @param top
+         * @param bottom
+         * @param startColor
+         * @param endColor
+         * @return
+         */
+        public LinearGradient get(float top, float bottom, int startColor, int endColor) {
+
+            LinearGradient shader = null;
+
+            for (int i = 0; i < mSize; i++) {
+                if (mColors[i * 2] == startColor && mColors[i * 2 + 1] == endColor) {
+                    shader = mShaders[i];
+                    break;
+                }
+            }
+
+            if (shader == null) {
+
+                if (mSize == mShaders.length) {
+                    int capacity = Math.max(4, mShaders.length * 2);
+                    mShaders = Arrays.copyOf(mShaders, capacity);
+                    mColors = Arrays.copyOf(mColors, capacity * 2);
+                }
+
+                shader = new LinearGradient(0f, 0f, 0f, 1f, startColor, endColor,
+                        android.graphics.Shader.TileMode.MIRROR);
+
+                mShaders[mSize] = shader;
+                mColors[mSize * 2] = startColor;
+                mColors[mSize * 2 + 1] = endColor;
+                mSize++;
+            }
+
+            float height = top - bottom;
+
+            // a matrix that scales to zero can not be inverted
+            if (height == 0f)
+                height = -Float.MIN_NORMAL;
+
+            mMatrix.setScale(1f, height);
+            mMatrix.postTranslate(0f, bottom);
+            shader.setLocalMatrix(mMatrix);
+
+            return shader;
+        }
+    }
 }
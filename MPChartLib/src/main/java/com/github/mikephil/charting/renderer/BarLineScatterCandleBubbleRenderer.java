@@ -18,10 +18,33 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
      */
     protected XBounds mXBounds = new XBounds();
 
+    /**
+     * if true, renderers that support it group their shapes by paint state and draw every
+     * group with a single call
+     */
+    protected boolean mBatchDrawingEnabled = false;
+
     public BarLineScatterCandleBubbleRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
     }
 
+    /**
+     * Enables / disables batched drawing. If enabled, the bar and candle renderers group
+     * their rectangles and lines by paint state (e.g. by color) and draw every group with one
+     * drawLines call instead of one call per bar or candle. Bars are then drawn as lines with
+     * a stroke width of the bar width. Bars with gradients are always drawn one by one.
+     * Default: disabled
+     *
+     * @param enabled
+     */
+    public void setBatchDrawingEnabled(boolean enabled) {
+        mBatchDrawingEnabled = enabled;
+    }
+
+    public boolean isBatchDrawingEnabled() {
+        return mBatchDrawingEnabled;
+    }
+
     /**
      * Returns true if the DataSet values should be drawn, false if not.
      *
@@ -44,13 +67,19 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
         if (e == null)
             return false;
 
-        float entryIndex = set.getEntryIndex(e);
+        // binary search instead of the linear getEntryIndex(Entry)
+        return isInBoundsX(set.getEntryIndex(e.getX(), e.getY(), DataSet.Rounding.CLOSEST), set);
+    }
 
-        if (e == null || entryIndex >= set.getEntryCount() * mAnimator.getPhaseX()) {
-            return false;
-        } else {
-            return true;
-        }
+    /**
+     * Checks if the entry at the provided index is in bounds for drawing considering the current animation phase.
+     *
+     * @param entryIndex
+     * @param set
+     * @return
+     */
+    protected boolean isInBoundsX(int entryIndex, IBarLineScatterCandleBubbleDataSet set) {
+        return entryIndex >= 0 && entryIndex < set.getEntryCount() * mAnimator.getPhaseX();
     }
 
     /**
@@ -73,6 +102,11 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
          */
         public int range;
 
+        /**
+         * buffer for the index range returned by the DataSet
+         */
+        private int[] mIndexRangeBuffer = new int[2];
+
         /**
          * Calculates the minimum and maximum x values as well as the range between them.
          *
@@ -85,11 +119,10 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
             float low = chart.getLowestVisibleX();
             float high = chart.getHighestVisibleX();
 
-            Entry entryFrom = dataSet.getEntryForXValue(low, Float.NaN, DataSet.Rounding.DOWN);
-            Entry entryTo = dataSet.getEntryForXValue(high, Float.NaN, DataSet.Rounding.UP);
+            dataSet.getEntryIndexRange(low, high, mIndexRangeBuffer);
 
-            min = entryFrom == null ? 0 : dataSet.getEntryIndex(entryFrom);
-            max = entryTo == null ? 0 : dataSet.getEntryIndex(entryTo);
+            min = mIndexRangeBuffer[0];
+            max = mIndexRangeBuffer[1];
             range = (int) ((max - min) * phaseX);
         }
     }
@@ -8,6 +8,8 @@ import android.graphics.drawable.Drawable;
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.BubbleData;
 import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.formatter.LabelMethods;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BubbleDataProvider;
@@ -150,7 +152,7 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
                 final float alpha = phaseX == 1 ? phaseY : phaseX;
 
-                ValueFormatter formatter = dataSet.getValueFormatter();
+                ValueFormatter formatter = getValueFormatter(mChart.getBubbleData(), dataSet);
 
                 MPPointF iconsOffset = MPPointF.getInstance(dataSet.getIconsOffset());
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
@@ -174,7 +176,9 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
                     BubbleEntry entry = dataSet.getEntryForIndex(j / 2 + mXBounds.min);
 
                     if (dataSet.isDrawValuesEnabled()) {
-                        drawValue(c, formatter.getBubbleLabel(entry), x, y + (0.5f * lineHeight), valueTextColor);
+                        if (!drawFormattedValue(c, formatter, LabelMethods.BUBBLE_LABEL,
+                                entry.getSize(), x, y + (0.5f * lineHeight), valueTextColor))
+                            drawValue(c, formatter.getBubbleLabel(entry), x, y + (0.5f * lineHeight), valueTextColor);
                     }
 
                     if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -222,12 +226,14 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            final BubbleEntry entry = set.getEntryForXValue(high.getX(), high.getY());
+            int entryIndex = set.getEntryIndex(high.getX(), high.getY(), DataSet.Rounding.CLOSEST);
 
-            if (entry.getY() != high.getY())
+            if (!isInBoundsX(entryIndex, set))
                 continue;
 
-            if (!isInBoundsX(entry, set))
+            final BubbleEntry entry = set.getEntryForIndex(entryIndex);
+
+            if (entry.getY() != high.getY())
                 continue;
 
             Transformer trans = mChart.getTransformer(set.getAxisDependency());
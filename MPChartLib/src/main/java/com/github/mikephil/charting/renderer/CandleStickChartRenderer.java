@@ -7,6 +7,8 @@ import android.graphics.drawable.Drawable;
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.CandleData;
 import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.formatter.LabelMethods;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.CandleDataProvider;
@@ -56,6 +58,11 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
     @SuppressWarnings("ResourceAsColor")
     protected void drawDataSet(Canvas c, ICandleDataSet dataSet) {
 
+        if (mBatchDrawingEnabled && canDrawBatched(dataSet)) {
+            drawDataSetBatched(c, dataSet);
+            return;
+        }
+
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
         float phaseY = mAnimator.getPhaseY();
@@ -252,6 +259,194 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
+    private static final int DECREASING = 0;
+    private static final int INCREASING = 1;
+    private static final int NEUTRAL = 2;
+
+    /**
+     * batches for the shadows (or the ranges, open and close lines if no candle bar is shown)
+     * of decreasing, increasing and neutral candles
+     */
+    private LineBatch[] mShadowBatches = new LineBatch[]{
+            new LineBatch(), new LineBatch(), new LineBatch()};
+
+    /**
+     * batches for the filled bodies of decreasing and increasing candles, drawn as lines with
+     * a stroke width of the body width
+     */
+    private LineBatch[] mBodyFillBatches = new LineBatch[]{new LineBatch(), new LineBatch()};
+
+    /**
+     * batches for the outlines of the bodies of decreasing and increasing candles
+     */
+    private LineBatch[] mBodyOutlineBatches = new LineBatch[]{new LineBatch(), new LineBatch()};
+
+    /**
+     * batch for the bodies of neutral candles, which are horizontal lines
+     */
+    private LineBatch mNeutralBodyBatch = new LineBatch();
+
+    private float[] mBodyWidthBuffer = new float[4];
+
+    private Paint.Style[] mBodyStyleBuffer = new Paint.Style[2];
+
+    /**
+     * Returns true if all candles of the given DataSet can be drawn with one color per group of
+     * increasing, decreasing and neutral candles, which is needed for batched drawing.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected boolean canDrawBatched(ICandleDataSet dataSet) {
+
+        if (dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE
+                || dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE
+                || dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE)
+            return false;
+
+        return !dataSet.getShowCandleBar() || dataSet.getShadowColorSameAsCandle()
+                || dataSet.getShadowColor() != ColorTemplate.COLOR_NONE;
+    }
+
+    /**
+     * Draws the candles of the given DataSet grouped into increasing, decreasing and neutral
+     * candles. All shadows of a group are drawn with one drawLines call, so are the bodies,
+     * which are drawn as lines with a stroke width of the body width.
+     *
+     * @param c
+     * @param dataSet
+     */
+    protected void drawDataSetBatched(Canvas c, ICandleDataSet dataSet) {
+
+        Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+
+        final float phaseY = mAnimator.getPhaseY();
+        final float barSpace = dataSet.getBarSpace();
+        final boolean showCandleBar = dataSet.getShowCandleBar();
+        final boolean shadowSameAsCandle = dataSet.getShadowColorSameAsCandle();
+
+        mXBounds.set(mChart, dataSet);
+
+        for (int i = 0; i < 3; i++) {
+            mShadowBatches[i].reset();
+        }
+
+        for (int i = 0; i < 2; i++) {
+            mBodyFillBatches[i].reset();
+            mBodyOutlineBatches[i].reset();
+        }
+
+        mNeutralBodyBatch.reset();
+
+        final Paint.Style[] bodyStyles = mBodyStyleBuffer;
+        bodyStyles[DECREASING] = dataSet.getDecreasingPaintStyle();
+        bodyStyles[INCREASING] = dataSet.getIncreasingPaintStyle();
+
+        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+
+            CandleEntry e = dataSet.getEntryForIndex(j);
+
+            if (e == null)
+                continue;
+
+            final float xPos = e.getX();
+
+            final float open = e.getOpen() * phaseY;
+            final float close = e.getClose() * phaseY;
+            final float high = e.getHigh() * phaseY;
+            final float low = e.getLow() * phaseY;
+
+            final int group = open > close ? DECREASING : open < close ? INCREASING : NEUTRAL;
+
+            if (showCandleBar) {
+
+                LineBatch shadows = mShadowBatches[shadowSameAsCandle ? group : 0];
+
+                shadows.add(xPos, high, xPos, Math.max(open, close));
+                shadows.add(xPos, low, xPos, Math.min(open, close));
+
+                if (group == NEUTRAL) {
+                    mNeutralBodyBatch.add(xPos - 0.5f + barSpace, close,
+                            xPos + 0.5f - barSpace, open);
+                    continue;
+                }
+
+                if (bodyStyles[group] != Paint.Style.STROKE)
+                    mBodyFillBatches[group].add(xPos, close, xPos, open);
+
+                if (bodyStyles[group] != Paint.Style.FILL)
+                    mBodyOutlineBatches[group].addRectOutline(xPos - 0.5f + barSpace, close,
+                            xPos + 0.5f - barSpace, open);
+
+            } else {
+
+                LineBatch lines = mShadowBatches[group];
+
+                lines.add(xPos, high, xPos, low);
+                lines.add(xPos - 0.5f + barSpace, open, xPos, open);
+                lines.add(xPos + 0.5f - barSpace, close, xPos, close);
+            }
+        }
+
+        final float strokeWidth = dataSet.getShadowWidth();
+
+        mRenderPaint.setStyle(Paint.Style.STROKE);
+        mRenderPaint.setStrokeWidth(strokeWidth);
+
+        // the shadows, ranges, open and close lines
+        for (int group = 0; group < 3; group++) {
+
+            mShadowBatches[group].transform(trans);
+
+            mRenderPaint.setColor(showCandleBar && !shadowSameAsCandle
+                    ? dataSet.getShadowColor() : getGroupColor(dataSet, group));
+            mShadowBatches[group].draw(c, mRenderPaint);
+        }
+
+        if (!showCandleBar)
+            return;
+
+        // the bodies
+        mBodyWidthBuffer[0] = -0.5f + barSpace;
+        mBodyWidthBuffer[2] = 0.5f - barSpace;
+        trans.pointValuesToPixel(mBodyWidthBuffer);
+
+        final Paint.Cap cap = mRenderPaint.getStrokeCap();
+
+        for (int group = 0; group < 2; group++) {
+
+            mRenderPaint.setColor(getGroupColor(dataSet, group));
+
+            mBodyFillBatches[group].transform(trans);
+            mRenderPaint.setStrokeWidth(Math.abs(mBodyWidthBuffer[2] - mBodyWidthBuffer[0]));
+            mRenderPaint.setStrokeCap(Paint.Cap.BUTT);
+            mBodyFillBatches[group].draw(c, mRenderPaint);
+
+            mBodyOutlineBatches[group].transform(trans);
+            mRenderPaint.setStrokeWidth(strokeWidth);
+            mRenderPaint.setStrokeCap(Paint.Cap.SQUARE);
+            mBodyOutlineBatches[group].draw(c, mRenderPaint);
+        }
+
+        mRenderPaint.setStrokeCap(cap);
+        mRenderPaint.setColor(getGroupColor(dataSet, NEUTRAL));
+
+        mNeutralBodyBatch.transform(trans);
+        mNeutralBodyBatch.draw(c, mRenderPaint);
+    }
+
+    private int getGroupColor(ICandleDataSet dataSet, int group) {
+
+        switch (group) {
+            case DECREASING:
+                return dataSet.getDecreasingColor();
+            case INCREASING:
+                return dataSet.getIncreasingColor();
+            default:
+                return dataSet.getNeutralColor();
+        }
+    }
+
     @Override
     public void drawValues(Canvas c) {
 
@@ -279,7 +474,7 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
                 float yOffset = Utils.convertDpToPixel(5f);
 
-                ValueFormatter formatter = dataSet.getValueFormatter();
+                ValueFormatter formatter = getValueFormatter(mChart.getCandleData(), dataSet);
 
                 MPPointF iconsOffset = MPPointF.getInstance(dataSet.getIconsOffset());
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
@@ -299,7 +494,9 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                     CandleEntry entry = dataSet.getEntryForIndex(j / 2 + mXBounds.min);
 
                     if (dataSet.isDrawValuesEnabled()) {
-                        drawValue(c, formatter.getCandleLabel(entry), x, y - yOffset, dataSet.getValueTextColor(j / 2));
+                        if (!drawFormattedValue(c, formatter, LabelMethods.CANDLE_LABEL,
+                                entry.getHigh(), x, y - yOffset, dataSet.getValueTextColor(j / 2)))
+                            drawValue(c, formatter.getCandleLabel(entry), x, y - yOffset, dataSet.getValueTextColor(j / 2));
                     }
 
                     if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -343,11 +540,13 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            CandleEntry e = set.getEntryForXValue(high.getX(), high.getY());
+            int entryIndex = set.getEntryIndex(high.getX(), high.getY(), DataSet.Rounding.CLOSEST);
 
-            if (!isInBoundsX(e, set))
+            if (!isInBoundsX(entryIndex, set))
                 continue;
 
+            CandleEntry e = set.getEntryForIndex(entryIndex);
+
             float lowValue = e.getLow() * mAnimator.getPhaseY();
             float highValue = e.getHigh() * mAnimator.getPhaseY();
             float y = (lowValue + highValue) / 2f;
@@ -7,6 +7,11 @@ import android.graphics.Paint.Align;
 import android.graphics.Paint.Style;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.formatter.CachingValueFormatter;
+import com.github.mikephil.charting.formatter.ICharValueFormatter;
+import com.github.mikephil.charting.formatter.LabelMethods;
+import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ChartInterface;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
@@ -68,6 +73,102 @@ public abstract class DataRenderer extends Renderer {
                 * mViewPortHandler.getScaleX();
     }
 
+    /**
+     * Returns the formatter the values of the given DataSet are drawn with, the caching
+     * formatter if the label cache of the given data is enabled.
+     *
+     * @param data
+     * @param set
+     * @return
+     */
+    protected ValueFormatter getValueFormatter(ChartData<?> data, IDataSet set) {
+
+        ValueFormatter formatter = set.getValueFormatter();
+
+        return data != null ? data.getLabelFormatter(formatter) : formatter;
+    }
+
+    /**
+     * buffer for value labels formatted into chars
+     */
+    protected char[] mValueTextBuffer = new char[64];
+
+    /**
+     * the formatter class whose label methods were checked last
+     */
+    private Class<?> mCheckedFormatterClass = null;
+    private int mOverriddenLabelMethods = 0;
+    private boolean mCharFormatter = false;
+
+    private void checkFormatter(ValueFormatter formatter) {
+
+        if (formatter.getClass() != mCheckedFormatterClass) {
+            mCheckedFormatterClass = formatter.getClass();
+            mOverriddenLabelMethods = LabelMethods.findOverridden(mCheckedFormatterClass);
+            mCharFormatter = LabelMethods.isCharFormatter(mCheckedFormatterClass);
+        }
+    }
+
+    /**
+     * Returns true if the given formatter overrides the given label method (one of the flags
+     * of LabelMethods), false if the label only depends on the value.
+     *
+     * @param formatter
+     * @param labelMethod
+     * @return
+     */
+    protected boolean isLabelOverridden(ValueFormatter formatter, int labelMethod) {
+        checkFormatter(formatter);
+        return (mOverriddenLabelMethods & labelMethod) != 0;
+    }
+
+    /**
+     * Draws the label of the given value without creating a String, if the formatter formats
+     * into char-arrays and does not override the given label method. Returns false if the
+     * label was not drawn and has to be drawn via drawValue(Canvas, String, ...).
+     *
+     * @param c
+     * @param formatter
+     * @param labelMethod the label method of the value, one of the flags of LabelMethods
+     * @param value       the value the label method would format
+     * @param x
+     * @param y
+     * @param color
+     * @return
+     */
+    protected boolean drawFormattedValue(Canvas c, ValueFormatter formatter, int labelMethod,
+                                         float value, float x, float y, int color) {
+
+        checkFormatter(formatter);
+
+        if (!mCharFormatter || (mOverriddenLabelMethods & labelMethod) != 0)
+            return false;
+
+        int length = ((ICharValueFormatter) formatter).getFormattedValue(value, mValueTextBuffer);
+
+        if (length < 0)
+            return false;
+
+        drawValue(c, mValueTextBuffer, length, x, y, color);
+        return true;
+    }
+
+    /**
+     * Returns the width of the given value label drawn with the value paint. Takes the width
+     * from the cache if the label was created by a caching formatter.
+     *
+     * @param formatter the formatter that created the label
+     * @param label
+     * @return
+     */
+    protected int calcValueTextWidth(ValueFormatter formatter, String label) {
+
+        if (formatter instanceof CachingValueFormatter)
+            return ((CachingValueFormatter) formatter).getTextWidth(mValuePaint, label);
+
+        return Utils.calcTextWidth(mValuePaint, label);
+    }
+
     /**
      * Returns the Paint object this renderer uses for drawing the values
      * (value-text).
@@ -141,6 +242,22 @@ public abstract class DataRenderer extends Renderer {
      */
     public abstract void drawValue(Canvas c, String valueText, float x, float y, int color);
 
+    /**
+     * Draws the given characters of a value label, used for labels of formatters that format
+     * into char-arrays.
+     *
+     * @param c      canvas
+     * @param text   array holding the label
+     * @param length number of characters of the label, starting at index 0
+     * @param x      position
+     * @param y      position
+     * @param color
+     */
+    public void drawValue(Canvas c, char[] text, int length, float x, float y, int color) {
+        mValuePaint.setColor(color);
+        c.drawText(text, 0, length, x, y, mValuePaint);
+    }
+
     /**
      * Draws any kind of additional information (e.g. line-circles).
      *
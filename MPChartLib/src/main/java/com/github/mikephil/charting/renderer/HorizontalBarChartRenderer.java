@@ -44,9 +44,11 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
         for (int i = 0; i < mBarBuffers.length; i++) {
             IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new HorizontalBarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
-                    barData.getDataSetCount(), set.isStacked());
+            // the buffer grows with the number of visible bars
+            mBarBuffers[i] = new HorizontalBarBuffer(0, barData.getDataSetCount(), set.isStacked());
         }
+
+        initGradientShaderCaches(barData.getDataSetCount());
     }
 
     private RectF mBarShadowRectBuffer = new RectF();
@@ -64,6 +66,11 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
+        BarBuffer buffer = mBarBuffers[index];
+
+        // only the visible bars are fed into the buffer
+        limitToVisibleRange(buffer, dataSet);
+
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
             mShadowPaint.setColor(dataSet.getBarShadowColor());
@@ -74,7 +81,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             final float barWidthHalf = barWidth / 2.0f;
             float x;
 
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
+            for (int i = buffer.getLimitFrom(), count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
                  i < count;
                  i++) {
 
@@ -101,7 +108,6 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
         }
 
         // initialize the buffer
-        BarBuffer buffer = mBarBuffers[index];
         buffer.setPhases(phaseX, phaseY);
         buffer.setDataSet(index);
         buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
@@ -109,7 +115,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
         buffer.feed(dataSet);
 
-        trans.pointValuesToPixel(buffer.buffer);
+        trans.pointValuesToPixel(buffer.buffer, 0, buffer.size() / 2);
 
         final boolean isSingleColor = dataSet.getColors().size() == 1;
 
@@ -117,6 +123,9 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             mRenderPaint.setColor(dataSet.getColor());
         }
 
+        // index of the first bar in the buffer, for colors that are set per bar
+        final int colorOffset = getFirstBarIndex(buffer, dataSet);
+
         for (int j = 0; j < buffer.size(); j += 4) {
 
             if (!mViewPortHandler.isInBoundsTop(buffer.buffer[j + 3]))
@@ -128,7 +137,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             if (!isSingleColor) {
                 // Set the color for the currently drawn value. If the index
                 // is out of bounds, reuse colors.
-                mRenderPaint.setColor(dataSet.getColor(j / 4));
+                mRenderPaint.setColor(dataSet.getColor(colorOffset + j / 4));
             }
 
             c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
@@ -166,7 +175,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                 applyValueTextStyle(dataSet);
                 final float halfTextHeight = Utils.calcTextHeight(mValuePaint, "10") / 2f;
 
-                ValueFormatter formatter = dataSet.getValueFormatter();
+                ValueFormatter formatter = getValueFormatter(mChart.getBarData(), dataSet);
 
                 // get the buffer
                 BarBuffer buffer = mBarBuffers[i];
@@ -180,7 +189,9 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    final int from = buffer.getLimitFrom();
+
+                    for (int j = 0; j < buffer.size(); j += 4) {
 
                         float y = (buffer.buffer[j + 1] + buffer.buffer[j + 3]) / 2f;
 
@@ -193,12 +204,12 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                         if (!mViewPortHandler.isInBoundsBottom(buffer.buffer[j + 1]))
                             continue;
 
-                        BarEntry entry = dataSet.getEntryForIndex(j / 4);
+                        BarEntry entry = dataSet.getEntryForIndex(from + j / 4);
                         float val = entry.getY();
                         String formattedValue = formatter.getBarLabel(entry);
 
                         // calculate the correct offset depending on the draw position of the value
-                        float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
+                        float valueTextWidth = calcValueTextWidth(formatter, formattedValue);
                         posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
                         negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus);
 
@@ -212,7 +223,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                     formattedValue,
                                     buffer.buffer[j + 2] + (val >= 0 ? posOffset : negOffset),
                                     y + halfTextHeight,
-                                    dataSet.getValueTextColor(j / 2));
+                                    dataSet.getValueTextColor(from + j / 4));
                         }
 
                         if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -241,9 +252,9 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
                     int bufferIndex = 0;
-                    int index = 0;
+                    int index = buffer.getLimitFrom();
 
-                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+                    while (bufferIndex < buffer.size()) {
 
                         BarEntry entry = dataSet.getEntryForIndex(index);
 
@@ -267,7 +278,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                             String formattedValue = formatter.getBarLabel(entry);
 
                             // calculate the correct offset depending on the draw position of the value
-                            float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
+                            float valueTextWidth = calcValueTextWidth(formatter, formattedValue);
                             posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
                             negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus);
 
@@ -305,12 +316,17 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
                         } else {
 
-                            float[] transformed = new float[vals.length * 2];
+                            final int length = vals.length * 2;
+
+                            if (mStackedValuesBuffer.length < length)
+                                mStackedValuesBuffer = new float[length];
+
+                            final float[] transformed = mStackedValuesBuffer;
 
                             float posY = 0f;
                             float negY = -entry.getNegativeSum();
 
-                            for (int k = 0, idx = 0; k < transformed.length; k += 2, idx++) {
+                            for (int k = 0, idx = 0; k < length; k += 2, idx++) {
 
                                 float value = vals[idx];
                                 float y;
@@ -327,17 +343,18 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                 }
 
                                 transformed[k] = y * phaseY;
+                                transformed[k + 1] = 0f;
                             }
 
-                            trans.pointValuesToPixel(transformed);
+                            trans.pointValuesToPixel(transformed, 0, vals.length);
 
-                            for (int k = 0; k < transformed.length; k += 2) {
+                            for (int k = 0; k < length; k += 2) {
 
                                 final float val = vals[k / 2];
                                 String formattedValue = formatter.getBarStackedLabel(val, entry);
 
                                 // calculate the correct offset depending on the draw position of the value
-                                float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
+                                float valueTextWidth = calcValueTextWidth(formatter, formattedValue);
                                 posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
                                 negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus);
 
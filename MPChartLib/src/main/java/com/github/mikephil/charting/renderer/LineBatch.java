@@ -0,0 +1,69 @@
+package com.github.mikephil.charting.renderer;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.utils.Transformer;
+
+import java.util.Arrays;
+
+/**
+ * Collects line segments that are drawn with the same paint state, so that they can be
+ * transformed with one call and drawn with a single drawLines call. The buffer is reused
+ * between frames.
+ */
+class LineBatch {
+
+    /**
+     * the line segments, x1, y1, x2, y2, ...
+     */
+    float[] lines = new float[16];
+
+    /**
+     * the number of values in the buffer
+     */
+    int size = 0;
+
+    void reset() {
+        size = 0;
+    }
+
+    private void ensureCapacity(int size) {
+        if (lines.length < size)
+            lines = Arrays.copyOf(lines, Math.max(size, lines.length * 2));
+    }
+
+    void add(float x1, float y1, float x2, float y2) {
+
+        ensureCapacity(size + 4);
+
+        lines[size++] = x1;
+        lines[size++] = y1;
+        lines[size++] = x2;
+        lines[size++] = y2;
+    }
+
+    /**
+     * Adds the four edges of a rectangle. Drawn with a square stroke cap, the edges cover the
+     * same pixels as the stroked rectangle.
+     */
+    void addRectOutline(float left, float top, float right, float bottom) {
+        add(left, top, right, top);
+        add(right, top, right, bottom);
+        add(right, bottom, left, bottom);
+        add(left, bottom, left, top);
+    }
+
+    /**
+     * Transforms all values of the batch from values to pixels.
+     */
+    void transform(Transformer trans) {
+        if (size > 0)
+            trans.pointValuesToPixel(lines, 0, size / 2);
+    }
+
+    void draw(Canvas c, Paint paint) {
+        if (size > 0)
+            c.drawLines(lines, 0, size, paint);
+    }
+}
@@ -9,15 +9,23 @@ import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.filter.IDownsampler;
+import com.github.mikephil.charting.formatter.LabelMethods;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IColumnarLineDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDoubleXLineDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.utils.BezierControlPoints;
+import com.github.mikephil.charting.utils.BitmapPool;
 import com.github.mikephil.charting.utils.ColorTemplate;
+import com.github.mikephil.charting.utils.LevelOfDetailPyramid;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
@@ -27,6 +35,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
 import java.lang.ref.WeakReference;
 import java.util.HashMap;
 import java.util.List;
+import java.util.WeakHashMap;
 
 public class LineChartRenderer extends LineRadarRenderer {
 
@@ -54,6 +63,18 @@ public class LineChartRenderer extends LineRadarRenderer {
      */
     protected Bitmap.Config mBitmapConfig = Bitmap.Config.ARGB_8888;
 
+    /**
+     * the pool the offscreen bitmap is borrowed from for every frame, null if this renderer
+     * keeps its own bitmap
+     */
+    protected BitmapPool mBitmapPool = null;
+
+    /**
+     * if true, the offscreen bitmap is only used if a visible DataSet is dashed or draws a
+     * filled cubic / horizontal bezier line
+     */
+    protected boolean mSkipBitmapIfNotNeeded = false;
+
     protected Path cubicPath = new Path();
     protected Path cubicFillPath = new Path();
 
@@ -77,6 +98,45 @@ public class LineChartRenderer extends LineRadarRenderer {
         int width = (int) mViewPortHandler.getChartWidth();
         int height = (int) mViewPortHandler.getChartHeight();
 
+        LineData lineData = mChart.getLineData();
+
+        if (mSkipBitmapIfNotNeeded && !needsBitmap(lineData)) {
+
+            // everything that would go to the bitmap is drawn directly
+            Canvas bitmapCanvas = mBitmapCanvas;
+            mBitmapCanvas = c;
+
+            try {
+                drawDataSets(c, lineData);
+            } finally {
+                mBitmapCanvas = bitmapCanvas;
+            }
+            return;
+        }
+
+        if (mBitmapPool != null) {
+
+            if (width <= 0 || height <= 0)
+                return;
+
+            Bitmap drawBitmap = mBitmapPool.acquire(width, height, mBitmapConfig);
+
+            if (mBitmapCanvas == null)
+                mBitmapCanvas = new Canvas(drawBitmap);
+            else
+                mBitmapCanvas.setBitmap(drawBitmap);
+
+            try {
+                drawBitmap.eraseColor(Color.TRANSPARENT);
+                drawDataSets(c, lineData);
+                c.drawBitmap(drawBitmap, 0, 0, mRenderPaint);
+            } finally {
+                mBitmapCanvas.setBitmap(null);
+                mBitmapPool.release(drawBitmap);
+            }
+            return;
+        }
+
         Bitmap drawBitmap = mDrawBitmap == null ? null : mDrawBitmap.get();
 
         if (drawBitmap == null
@@ -93,15 +153,56 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         drawBitmap.eraseColor(Color.TRANSPARENT);
 
-        LineData lineData = mChart.getLineData();
+        drawDataSets(c, lineData);
+
+        c.drawBitmap(drawBitmap, 0, 0, mRenderPaint);
+    }
+
+    /**
+     * Draws all visible DataSets of the given data.
+     *
+     * @param c
+     * @param lineData
+     */
+    protected void drawDataSets(Canvas c, LineData lineData) {
 
         for (ILineDataSet set : lineData.getDataSets()) {
 
             if (set.isVisible())
                 drawDataSet(c, set);
         }
+    }
 
-        c.drawBitmap(drawBitmap, 0, 0, mRenderPaint);
+    /**
+     * Returns true if a visible DataSet of the given data is drawn to the offscreen bitmap
+     * because it is dashed or draws a filled cubic / horizontal bezier line.
+     *
+     * @param lineData
+     * @return
+     */
+    protected boolean needsBitmap(LineData lineData) {
+
+        List<ILineDataSet> dataSets = lineData.getDataSets();
+
+        for (int i = 0; i < dataSets.size(); i++) {
+
+            ILineDataSet set = dataSets.get(i);
+
+            if (!set.isVisible())
+                continue;
+
+            if (set.isDashedLineEnabled())
+                return true;
+
+            LineDataSet.Mode mode = set.getMode();
+
+            if (set.isDrawFilledEnabled()
+                    && (mode == LineDataSet.Mode.CUBIC_BEZIER
+                    || mode == LineDataSet.Mode.HORIZONTAL_BEZIER))
+                return true;
+        }
+
+        return false;
     }
 
     protected void drawDataSet(Canvas c, ILineDataSet dataSet) {
@@ -132,137 +233,130 @@ public class LineChartRenderer extends LineRadarRenderer {
     }
 
     protected void drawHorizontalBezier(ILineDataSet dataSet) {
+        drawBezier(dataSet);
+    }
 
-        float phaseY = mAnimator.getPhaseY();
-
-        Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
-
-        mXBounds.set(mChart, dataSet);
-
-        cubicPath.reset();
+    protected void drawCubicBezier(ILineDataSet dataSet) {
+        drawBezier(dataSet);
+    }
 
-        if (mXBounds.range >= 1) {
+    /**
+     * cached control points of all cubic and horizontal bezier datasets
+     */
+    private WeakHashMap<ILineDataSet, BezierControlPoints> mBezierCaches = new WeakHashMap<>();
 
-            Entry prev = dataSet.getEntryForIndex(mXBounds.min);
-            Entry cur = prev;
+    /**
+     * buffer for the pixel positions of the visible bezier segments and the fill line
+     */
+    private float[] mBezierBuffer = new float[0];
 
-            // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+    /**
+     * Draws a cubic or horizontal bezier line. The control points are cached per DataSet in
+     * value space and only extended when entries are appended, so only the visible segments
+     * are transformed and added to the path.
+     *
+     * @param dataSet
+     */
+    protected void drawBezier(ILineDataSet dataSet) {
 
-            for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
+        float phaseY = mAnimator.getPhaseY();
 
-                prev = cur;
-                cur = dataSet.getEntryForIndex(j);
+        Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
-                final float cpx = (prev.getX())
-                        + (cur.getX() - prev.getX()) / 2.0f;
+        mXBounds.set(mChart, dataSet);
 
-                cubicPath.cubicTo(
-                        cpx, prev.getY() * phaseY,
-                        cpx, cur.getY() * phaseY,
-                        cur.getX(), cur.getY() * phaseY);
-            }
-        }
+        cubicPath.reset();
 
-        // if filled is enabled, close the path
-        if (dataSet.isDrawFilledEnabled()) {
+        final boolean drawFilled = dataSet.isDrawFilledEnabled();
 
+        if (drawFilled)
             cubicFillPath.reset();
-            cubicFillPath.addPath(cubicPath);
-            // create a new path, this is bad for performance
-            drawCubicFill(mBitmapCanvas, dataSet, cubicFillPath, trans, mXBounds);
-        }
 
-        mRenderPaint.setColor(dataSet.getColor());
+        if (mXBounds.range >= 1) {
 
-        mRenderPaint.setStyle(Paint.Style.STROKE);
+            BezierControlPoints points = mBezierCaches.get(dataSet);
 
-        trans.pathValueToPixel(cubicPath);
+            if (points == null) {
+                points = new BezierControlPoints();
+                mBezierCaches.put(dataSet, points);
+            }
 
-        mBitmapCanvas.drawPath(cubicPath, mRenderPaint);
+            points.update(dataSet);
 
-        mRenderPaint.setPathEffect(null);
-    }
+            final int first = mXBounds.min;
+            final int last = mXBounds.min + mXBounds.range;
 
-    protected void drawCubicBezier(ILineDataSet dataSet) {
+            // start point, 3 points per segment and the 2 points of the fill line
+            final int size = 2 + (last - first) * 6 + 4;
 
-        float phaseY = mAnimator.getPhaseY();
+            if (mBezierBuffer.length < size)
+                mBezierBuffer = new float[size];
 
-        Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+            final float[] buffer = mBezierBuffer;
 
-        mXBounds.set(mChart, dataSet);
+            int count = points.copySegments(first, last, phaseY, buffer, 0);
 
-        float intensity = dataSet.getCubicIntensity();
+            if (drawFilled) {
 
-        cubicPath.reset();
+                float fillMin = dataSet.getFillFormatter().getFillLinePosition(dataSet, mChart);
 
-        if (mXBounds.range >= 1) {
+                buffer[count] = buffer[count - 2];
+                buffer[count + 1] = fillMin;
+                buffer[count + 2] = buffer[0];
+                buffer[count + 3] = fillMin;
+            }
 
-            float prevDx = 0f;
-            float prevDy = 0f;
-            float curDx = 0f;
-            float curDy = 0f;
+            trans.pointValuesToPixel(buffer, 0, (drawFilled ? count + 4 : count) / 2);
 
-            // Take an extra point from the left, and an extra from the right.
-            // That's because we need 4 points for a cubic bezier (cubic=4), otherwise we get lines moving and doing weird stuff on the edges of the chart.
-            // So in the starting `prev` and `cur`, go -2, -1
-            // And in the `lastIndex`, add +1
+            cubicPath.moveTo(buffer[0], buffer[1]);
 
-            final int firstIndex = mXBounds.min + 1;
-            final int lastIndex = mXBounds.min + mXBounds.range;
+            if (drawFilled)
+                cubicFillPath.moveTo(buffer[0], buffer[1]);
 
-            Entry prevPrev;
-            Entry prev = dataSet.getEntryForIndex(Math.max(firstIndex - 2, 0));
-            Entry cur = dataSet.getEntryForIndex(Math.max(firstIndex - 1, 0));
-            Entry next = cur;
-            int nextIndex = -1;
+            for (int k = 2; k < count; k += 6) {
 
-            if (cur == null) return;
+                cubicPath.cubicTo(buffer[k], buffer[k + 1], buffer[k + 2], buffer[k + 3],
+                        buffer[k + 4], buffer[k + 5]);
 
-            // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+                if (drawFilled)
+                    cubicFillPath.cubicTo(buffer[k], buffer[k + 1], buffer[k + 2], buffer[k + 3],
+                            buffer[k + 4], buffer[k + 5]);
+            }
 
-            for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
+            if (drawFilled) {
 
-                prevPrev = prev;
-                prev = cur;
-                cur = nextIndex == j ? next : dataSet.getEntryForIndex(j);
+                cubicFillPath.lineTo(buffer[count], buffer[count + 1]);
+                cubicFillPath.lineTo(buffer[count + 2], buffer[count + 3]);
+                cubicFillPath.close();
 
-                nextIndex = j + 1 < dataSet.getEntryCount() ? j + 1 : j;
-                next = dataSet.getEntryForIndex(nextIndex);
+                final Drawable drawable = dataSet.getFillDrawable();
+                if (drawable != null) {
 
-                prevDx = (cur.getX() - prevPrev.getX()) * intensity;
-                prevDy = (cur.getY() - prevPrev.getY()) * intensity;
-                curDx = (next.getX() - prev.getX()) * intensity;
-                curDy = (next.getY() - prev.getY()) * intensity;
+                    drawFilledPath(mBitmapCanvas, cubicFillPath, drawable);
+                } else {
 
-                cubicPath.cubicTo(prev.getX() + prevDx, (prev.getY() + prevDy) * phaseY,
-                        cur.getX() - curDx,
-                        (cur.getY() - curDy) * phaseY, cur.getX(), cur.getY() * phaseY);
+                    drawFilledPath(mBitmapCanvas, cubicFillPath, dataSet.getFillColor(), dataSet.getFillAlpha());
+                }
             }
         }
 
-        // if filled is enabled, close the path
-        if (dataSet.isDrawFilledEnabled()) {
-
-            cubicFillPath.reset();
-            cubicFillPath.addPath(cubicPath);
-
-            drawCubicFill(mBitmapCanvas, dataSet, cubicFillPath, trans, mXBounds);
-        }
-
         mRenderPaint.setColor(dataSet.getColor());
 
         mRenderPaint.setStyle(Paint.Style.STROKE);
 
-        trans.pathValueToPixel(cubicPath);
-
         mBitmapCanvas.drawPath(cubicPath, mRenderPaint);
 
         mRenderPaint.setPathEffect(null);
     }
 
-    protected void drawCubicFill(Canvas c, ILineDataSet dataSet, Path spline, Transformer trans, XBounds bounds) {
+    /**
+     * Fills the area below the given cubic spline in value space.
+     *
+     * @deprecated no longer called, drawBezier(...) builds the fill from the cached control
+     * points, only kept for subclasses
+     */
+    @Deprecated
+    protected void drawCubicFill(Canvas c,ILineDataSet dataSet, Path spline, Transformer trans, XBounds bounds) {
 
         float fillMin = dataSet.getFillFormatter()
                 .getFillLinePosition(dataSet, mChart);
@@ -285,6 +379,11 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     private float[] mLineBuffer = new float[4];
 
+    /**
+     * buffer for the pixels per x- and y-value of the transformer
+     */
+    private float[] mPixelsPerValue = new float[2];
+
     /**
      * Draws a normal line.
      *
@@ -320,59 +419,50 @@ public class LineChartRenderer extends LineRadarRenderer {
             drawLinearFill(c, dataSet, trans, mXBounds);
         }
 
-        // more than 1 color
-        if (dataSet.getColors().size() > 1) {
+        final boolean singleColor = dataSet.getColors().size() == 1;
 
-            if (mLineBuffer.length <= pointsPerEntryPair * 2)
-                mLineBuffer = new float[pointsPerEntryPair * 4];
+        final IDownsampler downsampler = singleColor ? dataSet.getDownsampler() : null;
 
-            for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+        LevelOfDetailPyramid lod = null;
 
-                Entry e = dataSet.getEntryForIndex(j);
-                if (e == null) continue;
+        // the pyramid is only used where it results in the same image, and only pays off with
+        // more than two visible entries per pixel column
+        if (!isDrawSteppedEnabled && singleColor && downsampler == null
+                && mXBounds.range + 1 > 2f * mViewPortHandler.contentWidth()
+                && trans.getPixelsPerValue(mPixelsPerValue) && mPixelsPerValue[0] != 0f)
+            lod = dataSet.getLevelOfDetail();
 
-                mLineBuffer[0] = e.getX();
-                mLineBuffer[1] = e.getY() * phaseY;
+        if (downsampler != null) {
 
-                if (j < mXBounds.max) {
+            drawLinearDownsampled(canvas, dataSet, trans, downsampler);
 
-                    e = dataSet.getEntryForIndex(j + 1);
+        } else if (lod != null) {
 
-                    if (e == null) break;
+            // every bucket must be at most one pixel wide, whatever the spacing of the x-values
+            drawLinearLevelOfDetail(canvas, dataSet, trans, lod, 1f / Math.abs(mPixelsPerValue[0]));
 
-                    if (isDrawSteppedEnabled) {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = mLineBuffer[1];
-                        mLineBuffer[4] = mLineBuffer[2];
-                        mLineBuffer[5] = mLineBuffer[3];
-                        mLineBuffer[6] = e.getX();
-                        mLineBuffer[7] = e.getY() * phaseY;
-                    } else {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = e.getY() * phaseY;
-                    }
+        } else if (singleColor && dataSet.isPixelDecimationEnabled()) {
 
-                } else {
-                    mLineBuffer[2] = mLineBuffer[0];
-                    mLineBuffer[3] = mLineBuffer[1];
-                }
+            drawLinearDecimated(canvas, dataSet, trans);
 
-                trans.pointValuesToPixel(mLineBuffer);
+        } else if (dataSet instanceof IColumnarLineDataSet) {
 
-                if (!mViewPortHandler.isInBoundsRight(mLineBuffer[0]))
-                    break;
+            drawLinearColumnar(canvas, (IColumnarLineDataSet) dataSet, trans);
 
-                // make sure the lines don't do shitty things outside
-                // bounds
-                if (!mViewPortHandler.isInBoundsLeft(mLineBuffer[2])
-                        || (!mViewPortHandler.isInBoundsTop(mLineBuffer[1]) && !mViewPortHandler
-                        .isInBoundsBottom(mLineBuffer[3])))
-                    continue;
+        } else if (dataSet.getColors().size() > 1) { // more than 1 color
+
+            final int from = mXBounds.min;
+            final int to = Math.min(mXBounds.min + mXBounds.range + 1, mXBounds.max);
+            final int pointCount = to - from + 1;
 
-                // get the color that is set for this line-segment
-                mRenderPaint.setColor(dataSet.getColor(j));
+            if (pointCount >= 2) {
 
-                canvas.drawLines(mLineBuffer, 0, pointsPerEntryPair * 2, mRenderPaint);
+                final float[] points = copyPoints(dataSet, from, to);
+
+                trans.pointValuesToPixel(points, 0, pointCount);
+
+                drawMultiColorLine(canvas, dataSet, points, pointCount, from,
+                        isDrawSteppedEnabled);
             }
 
         } else { // only one color per dataset
@@ -423,6 +513,403 @@ public class LineChartRenderer extends LineRadarRenderer {
         mRenderPaint.setPathEffect(null);
     }
 
+    /**
+     * buffer for the transformed points of a columnar DataSet
+     */
+    private float[] mPointBuffer = new float[2];
+
+    /**
+     * Draws a normal line for a DataSet that provides its values as primitive columns. The
+     * visible values are copied and transformed in bulk, the line segments are then built
+     * from the transformed points.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     */
+    protected void drawLinearColumnar(Canvas c, IColumnarLineDataSet dataSet, Transformer trans) {
+
+        final boolean isDrawSteppedEnabled = dataSet.getMode() == LineDataSet.Mode.STEPPED;
+
+        // start one entry early so that the line enters the chart from the left
+        final int from = Math.max(mXBounds.min - 1, 0);
+        final int to = mXBounds.min + mXBounds.range;
+        final int pointCount = to - from + 1;
+
+        if (pointCount < 2)
+            return;
+
+        if (mPointBuffer.length < pointCount * 2)
+            mPointBuffer = new float[pointCount * 2];
+
+        final float[] points = mPointBuffer;
+
+        if (dataSet instanceof IDoubleXLineDataSet) {
+            trans.pointValuesToPixel((IDoubleXLineDataSet) dataSet, from, to,
+                    mAnimator.getPhaseY(), points, 0);
+        } else {
+            dataSet.copyValues(points, 0, from, to, mAnimator.getPhaseY());
+            trans.pointValuesToPixel(points, 0, pointCount);
+        }
+
+        // more than 1 color
+        if (dataSet.getColors().size() > 1) {
+
+            drawMultiColorLine(c, dataSet, points, pointCount, from, isDrawSteppedEnabled);
+
+        } else { // only one color per dataset
+
+            mRenderPaint.setColor(dataSet.getColor());
+
+            drawPolyline(c, points, pointCount, isDrawSteppedEnabled);
+        }
+    }
+
+    /**
+     * buffer for the indices of the entries that represent the visible buckets of a pyramid level
+     */
+    private int[] mLevelOfDetailIndices = new int[4];
+
+    /**
+     * Draws a normal single-colored line from the DataSet's level-of-detail pyramid. Where the
+     * buckets of a level are at most maxXSpan wide, only their first, minimum, maximum and last
+     * entry are connected, at most 4 points per pixel column. Around gaps in the x-values the
+     * entries themselves are drawn.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     * @param lod
+     * @param maxXSpan the x-range of one pixel
+     */
+    protected void drawLinearLevelOfDetail(Canvas c, ILineDataSet dataSet, Transformer trans,
+                                           LevelOfDetailPyramid lod, float maxXSpan) {
+
+        // start one entry early so that the line enters the chart from the left
+        final int from = Math.max(mXBounds.min - 1, 0);
+        final int to = mXBounds.min + mXBounds.range;
+
+        int pointCount;
+
+        while ((pointCount = lod.getIndices(dataSet, from, to, maxXSpan, mLevelOfDetailIndices)) < 0)
+            mLevelOfDetailIndices = new int[mLevelOfDetailIndices.length * 2];
+
+        final int[] indices = mLevelOfDetailIndices;
+
+        if (pointCount < 2)
+            return;
+
+        if (mPointBuffer.length < pointCount * 2)
+            mPointBuffer = new float[pointCount * 2];
+
+        final float[] points = mPointBuffer;
+        final float phaseY = mAnimator.getPhaseY();
+
+        if (dataSet instanceof IColumnarLineDataSet) {
+
+            IColumnarLineDataSet columnar = (IColumnarLineDataSet) dataSet;
+
+            for (int i = 0; i < pointCount; i++) {
+                points[i * 2] = columnar.getXForIndex(indices[i]);
+                points[i * 2 + 1] = columnar.getYForIndex(indices[i]) * phaseY;
+            }
+        } else {
+
+            for (int i = 0; i < pointCount; i++) {
+                Entry e = dataSet.getEntryForIndex(indices[i]);
+                points[i * 2] = e.getX();
+                points[i * 2 + 1] = e.getY() * phaseY;
+            }
+        }
+
+        trans.pointValuesToPixel(points, 0, pointCount);
+
+        mRenderPaint.setColor(dataSet.getColor());
+
+        drawPolyline(c, points, pointCount, false);
+    }
+
+    /**
+     * buffer for the points a downsampler reduced the visible points to
+     */
+    private float[] mDownsampleBuffer = new float[2];
+
+    /**
+     * Draws a normal single-colored line from the visible points reduced by the given
+     * downsampler to the number of points it targets for the width of the chart content.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     * @param downsampler
+     */
+    protected void drawLinearDownsampled(Canvas c, ILineDataSet dataSet, Transformer trans,
+                                         IDownsampler downsampler) {
+
+        // start one entry early so that the line enters the chart from the left
+        final int from = Math.max(mXBounds.min - 1, 0);
+        final int to = mXBounds.min + mXBounds.range;
+        int pointCount = to - from + 1;
+
+        if (pointCount < 2)
+            return;
+
+        float[] points = copyPoints(dataSet, from, to);
+
+        final int targetCount = downsampler.getTargetPointCount(
+                (int) mViewPortHandler.contentWidth());
+
+        if (pointCount > targetCount) {
+
+            if (mDownsampleBuffer.length < targetCount * 2)
+                mDownsampleBuffer = new float[targetCount * 2];
+
+            pointCount = downsampler.downsample(points, pointCount, targetCount, mDownsampleBuffer);
+            points = mDownsampleBuffer;
+        }
+
+        trans.pointValuesToPixel(points, 0, pointCount);
+
+        mRenderPaint.setColor(dataSet.getColor());
+
+        drawPolyline(c, points, pointCount, dataSet.getMode() == LineDataSet.Mode.STEPPED);
+    }
+
+    /**
+     * Draws a normal single-colored line with every pixel column collapsed to the points that
+     * enter and leave it and the points with the minimum and maximum y-value in it.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     */
+    protected void drawLinearDecimated(Canvas c, ILineDataSet dataSet, Transformer trans) {
+
+        // start one entry early so that the line enters the chart from the left
+        final int from = Math.max(mXBounds.min - 1, 0);
+        final int to = mXBounds.min + mXBounds.range;
+        int pointCount = to - from + 1;
+
+        if (pointCount < 2)
+            return;
+
+        final float[] points = copyPoints(dataSet, from, to);
+
+        trans.pointValuesToPixel(points, 0, pointCount);
+        pointCount = decimatePixelColumns(points, pointCount);
+
+        mRenderPaint.setColor(dataSet.getColor());
+
+        drawPolyline(c, points, pointCount, dataSet.getMode() == LineDataSet.Mode.STEPPED);
+    }
+
+    /**
+     * Collapses the given transformed points in place: of all consecutive points within the
+     * same pixel column, only the first, the last and the ones with the minimum and maximum
+     * y-value are kept, in their original order. A line through the remaining points covers
+     * the same pixels. Returns the number of remaining points.
+     *
+     * @param points     transformed x- and y-values, ordered by x
+     * @param pointCount
+     * @return
+     */
+    protected int decimatePixelColumns(float[] points, int pointCount) {
+
+        if (pointCount < 5)
+            return pointCount;
+
+        int j = 0;
+        int i = 0;
+
+        while (i < pointCount) {
+
+            final int column = (int) Math.floor(points[i * 2]);
+
+            int first = i, min = i, max = i, last = i;
+
+            for (i++; i < pointCount && (int) Math.floor(points[i * 2]) == column; i++) {
+
+                final float y = points[i * 2 + 1];
+
+                if (y < points[min * 2 + 1])
+                    min = i;
+
+                if (y > points[max * 2 + 1])
+                    max = i;
+
+                last = i;
+            }
+
+            final int low = Math.min(min, max);
+            final int high = Math.max(min, max);
+
+            // the points are moved to the front, never behind an index that is still read
+            j = movePoint(points, first, j);
+
+            if (low > first)
+                j = movePoint(points, low, j);
+
+            if (high > low)
+                j = movePoint(points, high, j);
+
+            if (last > high)
+                j = movePoint(points, last, j);
+        }
+
+        return j;
+    }
+
+    private int movePoint(float[] points, int from, int to) {
+        points[to * 2] = points[from * 2];
+        points[to * 2 + 1] = points[from * 2 + 1];
+        return to + 1;
+    }
+
+    /**
+     * Copies the x- and (animated) y-values of the entries from index "from" to index "to"
+     * into the point buffer and returns it.
+     *
+     * @param dataSet
+     * @param from
+     * @param to
+     * @return
+     */
+    private float[] copyPoints(ILineDataSet dataSet, int from, int to) {
+
+        final int pointCount = to - from + 1;
+
+        if (mPointBuffer.length < pointCount * 2)
+            mPointBuffer = new float[pointCount * 2];
+
+        final float phaseY = mAnimator.getPhaseY();
+
+        if (dataSet instanceof IColumnarLineDataSet) {
+
+            ((IColumnarLineDataSet) dataSet).copyValues(mPointBuffer, 0, from, to, phaseY);
+        } else {
+
+            for (int i = from, j = 0; i <= to; i++) {
+                Entry e = dataSet.getEntryForIndex(i);
+                mPointBuffer[j++] = e.getX();
+                mPointBuffer[j++] = e.getY() * phaseY;
+            }
+        }
+
+        return mPointBuffer;
+    }
+
+    /**
+     * Draws the line segments connecting the given (transformed) points, each segment in the
+     * color of the entry it starts at. Consecutive segments of the same color are collected
+     * and drawn with a single drawLines call, the colors are read from a primitive array.
+     *
+     * @param c
+     * @param dataSet
+     * @param points
+     * @param pointCount
+     * @param firstIndex the entry index of the first point
+     * @param stepped
+     */
+    private void drawMultiColorLine(Canvas c, ILineDataSet dataSet, float[] points,
+                                    int pointCount, int firstIndex, boolean stepped) {
+
+        final int[] colors = dataSet.getColorArray();
+        final int colorCount = colors.length;
+
+        final int size = (pointCount - 1) * (stepped ? 8 : 4);
+
+        if (mLineBuffer.length < size)
+            mLineBuffer = new float[size];
+
+        int j = 0;
+        int runColor = 0;
+
+        for (int i = 2; i < pointCount * 2; i += 2) {
+
+            if (!mViewPortHandler.isInBoundsRight(points[i - 2]))
+                break;
+
+            // make sure the lines don't do shitty things outside
+            // bounds
+            if (!mViewPortHandler.isInBoundsLeft(points[i])
+                    || (!mViewPortHandler.isInBoundsTop(points[i - 1]) && !mViewPortHandler
+                    .isInBoundsBottom(points[i + 1])))
+                continue;
+
+            // get the color that is set for this line-segment
+            final int color = colors[(firstIndex + i / 2 - 1) % colorCount];
+
+            if (color != runColor && j > 0) {
+                mRenderPaint.setColor(runColor);
+                c.drawLines(mLineBuffer, 0, j, mRenderPaint);
+                j = 0;
+            }
+
+            runColor = color;
+            j += fillLineSegment(mLineBuffer, j, points, i, stepped);
+        }
+
+        if (j > 0) {
+            mRenderPaint.setColor(runColor);
+            c.drawLines(mLineBuffer, 0, j, mRenderPaint);
+        }
+    }
+
+    /**
+     * Draws the line segments connecting the given (transformed) points with one drawLines
+     * call, using the current color of the render paint.
+     *
+     * @param c
+     * @param points
+     * @param pointCount
+     * @param stepped
+     */
+    private void drawPolyline(Canvas c, float[] points, int pointCount, boolean stepped) {
+
+        final int size = (pointCount - 1) * (stepped ? 8 : 4);
+
+        if (mLineBuffer.length < size)
+            mLineBuffer = new float[size];
+
+        int j = 0;
+        for (int i = 2; i < pointCount * 2; i += 2) {
+            j += fillLineSegment(mLineBuffer, j, points, i, stepped);
+        }
+
+        c.drawLines(mLineBuffer, 0, j, mRenderPaint);
+    }
+
+    /**
+     * Writes the line segment(s) between the point before the given index and the point at the
+     * given index into the line buffer. Returns the number of floats written.
+     *
+     * @param lines
+     * @param offset
+     * @param points
+     * @param index   index of the x-value of the end point of the segment
+     * @param stepped
+     * @return
+     */
+    private int fillLineSegment(float[] lines, int offset, float[] points, int index, boolean stepped) {
+
+        int j = offset;
+
+        lines[j++] = points[index - 2];
+        lines[j++] = points[index - 1];
+
+        if (stepped) {
+            lines[j++] = points[index];
+            lines[j++] = points[index - 1];
+            lines[j++] = points[index];
+            lines[j++] = points[index - 1];
+        }
+
+        lines[j++] = points[index];
+        lines[j++] = points[index + 1];
+
+        return j - offset;
+    }
+
     protected Path mGenerateFilledPathBuffer = new Path();
 
     /**
@@ -437,6 +924,21 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         final Path filled = mGenerateFilledPathBuffer;
 
+        if (dataSet.isPixelDecimationEnabled()) {
+
+            generateDecimatedFilledPath(dataSet, trans, bounds.min, bounds.min + bounds.range, filled);
+
+            final Drawable drawable = dataSet.getFillDrawable();
+            if (drawable != null) {
+
+                drawFilledPath(c, filled, drawable);
+            } else {
+
+                drawFilledPath(c, filled, dataSet.getFillColor(), dataSet.getFillAlpha());
+            }
+            return;
+        }
+
         final int startingIndex = bounds.min;
         final int endingIndex = bounds.range + bounds.min;
         final int indexInterval = 128;
@@ -490,6 +992,40 @@ public class LineChartRenderer extends LineRadarRenderer {
         final Path filled = outputPath;
         filled.reset();
 
+        if (dataSet instanceof IColumnarLineDataSet) {
+
+            final IColumnarLineDataSet columnar = (IColumnarLineDataSet) dataSet;
+
+            float previousY = columnar.getYForIndex(startIndex) * phaseY;
+
+            filled.moveTo(columnar.getXForIndex(startIndex), fillMin);
+            filled.lineTo(columnar.getXForIndex(startIndex), previousY);
+
+            float x = 0f;
+
+            for (int i = startIndex + 1; i <= endIndex; i++) {
+
+                x = columnar.getXForIndex(i);
+                float y = columnar.getYForIndex(i) * phaseY;
+
+                if (isDrawSteppedEnabled) {
+                    filled.lineTo(x, previousY);
+                }
+
+                filled.lineTo(x, y);
+
+                previousY = y;
+            }
+
+            // close up
+            if (endIndex > startIndex) {
+                filled.lineTo(x, fillMin);
+            }
+
+            filled.close();
+            return;
+        }
+
         final Entry entry = dataSet.getEntryForIndex(startIndex);
 
         filled.moveTo(entry.getX(), fillMin);
@@ -519,6 +1055,64 @@ public class LineChartRenderer extends LineRadarRenderer {
         filled.close();
     }
 
+    /**
+     * buffer for the transformed position of the fill line
+     */
+    private float[] mFillLineBuffer = new float[2];
+
+    /**
+     * Generates the path for filled drawing in pixel coordinates, with every pixel column
+     * collapsed like the line itself (see decimatePixelColumns(...)).
+     *
+     * @param dataSet
+     * @param trans
+     * @param startIndex
+     * @param endIndex
+     * @param outputPath
+     */
+    private void generateDecimatedFilledPath(final ILineDataSet dataSet, Transformer trans,
+                                             final int startIndex, final int endIndex,
+                                             final Path outputPath) {
+
+        final boolean isDrawSteppedEnabled = dataSet.getMode() == LineDataSet.Mode.STEPPED;
+
+        final Path filled = outputPath;
+        filled.reset();
+
+        if (endIndex < startIndex)
+            return;
+
+        mFillLineBuffer[0] = 0f;
+        mFillLineBuffer[1] = dataSet.getFillFormatter().getFillLinePosition(dataSet, mChart);
+        trans.pointValuesToPixel(mFillLineBuffer);
+
+        final float fillMin = mFillLineBuffer[1];
+
+        final float[] points = copyPoints(dataSet, startIndex, endIndex);
+
+        trans.pointValuesToPixel(points, 0, endIndex - startIndex + 1);
+        final int pointCount = decimatePixelColumns(points, endIndex - startIndex + 1);
+
+        filled.moveTo(points[0], fillMin);
+        filled.lineTo(points[0], points[1]);
+
+        for (int i = 2; i < pointCount * 2; i += 2) {
+
+            if (isDrawSteppedEnabled) {
+                filled.lineTo(points[i], points[i - 1]);
+            }
+
+            filled.lineTo(points[i], points[i + 1]);
+        }
+
+        // close up
+        if (pointCount > 1) {
+            filled.lineTo(points[pointCount * 2 - 2], fillMin);
+        }
+
+        filled.close();
+    }
+
     @Override
     public void drawValues(Canvas c) {
 
@@ -548,7 +1142,7 @@ public class LineChartRenderer extends LineRadarRenderer {
 
                 float[] positions = trans.generateTransformedValuesLine(dataSet, mAnimator.getPhaseX(), mAnimator
                         .getPhaseY(), mXBounds.min, mXBounds.max);
-                ValueFormatter formatter = dataSet.getValueFormatter();
+                ValueFormatter formatter = getValueFormatter(mChart.getLineData(), dataSet);
 
                 MPPointF iconsOffset = MPPointF.getInstance(dataSet.getIconsOffset());
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
@@ -568,7 +1162,9 @@ public class LineChartRenderer extends LineRadarRenderer {
                     Entry entry = dataSet.getEntryForIndex(j / 2 + mXBounds.min);
 
                     if (dataSet.isDrawValuesEnabled()) {
-                        drawValue(c, formatter.getPointLabel(entry), x, y - valOffset, dataSet.getValueTextColor(j / 2));
+                        if (!drawFormattedValue(c, formatter, LabelMethods.POINT_LABEL,
+                                entry.getY(), x, y - valOffset, dataSet.getValueTextColor(j / 2)))
+                            drawValue(c, formatter.getPointLabel(entry), x, y - valOffset, dataSet.getValueTextColor(j / 2));
                     }
 
                     if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -662,14 +1258,22 @@ public class LineChartRenderer extends LineRadarRenderer {
 
             int boundsRangeCount = mXBounds.range + mXBounds.min;
 
+            IColumnarLineDataSet columnar = dataSet instanceof IColumnarLineDataSet
+                    ? (IColumnarLineDataSet) dataSet : null;
+
             for (int j = mXBounds.min; j <= boundsRangeCount; j++) {
 
-                Entry e = dataSet.getEntryForIndex(j);
+                if (columnar != null) {
+                    mCirclesBuffer[0] = columnar.getXForIndex(j);
+                    mCirclesBuffer[1] = columnar.getYForIndex(j) * phaseY;
+                } else {
+                    Entry e = dataSet.getEntryForIndex(j);
 
-                if (e == null) break;
+                    if (e == null) break;
 
-                mCirclesBuffer[0] = e.getX();
-                mCirclesBuffer[1] = e.getY() * phaseY;
+                    mCirclesBuffer[0] = e.getX();
+                    mCirclesBuffer[1] = e.getY() * phaseY;
+                }
 
                 trans.pointValuesToPixel(mCirclesBuffer);
 
@@ -701,11 +1305,13 @@ public class LineChartRenderer extends LineRadarRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            Entry e = set.getEntryForXValue(high.getX(), high.getY());
+            int entryIndex = set.getEntryIndex(high.getX(), high.getY(), DataSet.Rounding.CLOSEST);
 
-            if (!isInBoundsX(e, set))
+            if (!isInBoundsX(entryIndex, set))
                 continue;
 
+            Entry e = set.getEntryForIndex(entryIndex);
+
             MPPointD pix = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(e.getX(), e.getY() * mAnimator
                     .getPhaseY());
 
@@ -737,6 +1343,50 @@ public class LineChartRenderer extends LineRadarRenderer {
         return mBitmapConfig;
     }
 
+    /**
+     * Sets the pool the offscreen bitmap is borrowed from. With a pool, the bitmap is only held
+     * while the data is drawn and charts that draw one after the other share the same bitmap.
+     * Use BitmapPool.getShared() to share it with all other charts. Set to null to let this
+     * renderer keep its own bitmap. Default: null
+     *
+     * @param pool
+     */
+    public void setBitmapPool(BitmapPool pool) {
+        releaseBitmap();
+        mBitmapPool = pool;
+    }
+
+    /**
+     * Returns the pool the offscreen bitmap is borrowed from, null if there is none.
+     *
+     * @return
+     */
+    public BitmapPool getBitmapPool() {
+        return mBitmapPool;
+    }
+
+    /**
+     * If set to true, no offscreen bitmap is used for frames in which no visible DataSet is
+     * dashed or draws a filled cubic / horizontal bezier line, the lines are drawn directly to
+     * the chart canvas instead. This saves the memory and the compositing of the bitmap, but
+     * draws unfilled cubic lines in DataSet order instead of above all other DataSets.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setSkipBitmapIfNotNeeded(boolean enabled) {
+        mSkipBitmapIfNotNeeded = enabled;
+    }
+
+    /**
+     * Returns true if the offscreen bitmap is skipped when it is not needed.
+     *
+     * @return
+     */
+    public boolean isSkipBitmapIfNotNeeded() {
+        return mSkipBitmapIfNotNeeded;
+    }
+
     /**
      * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
      */
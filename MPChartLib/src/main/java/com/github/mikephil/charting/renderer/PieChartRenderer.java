@@ -24,6 +24,7 @@ import com.github.mikephil.charting.data.PieEntry;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
+import com.github.mikephil.charting.utils.BitmapPool;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
@@ -67,6 +68,17 @@ public class PieChartRenderer extends DataRenderer {
 
     protected Canvas mBitmapCanvas;
 
+    /**
+     * the pool the bitmap is borrowed from for every frame, null if this renderer keeps its own
+     * bitmap
+     */
+    protected BitmapPool mBitmapPool = null;
+
+    /**
+     * the bitmap borrowed from the pool between drawData(...) and drawExtras(...)
+     */
+    protected Bitmap mPooledBitmap = null;
+
     public PieChartRenderer(PieChart chart, ChartAnimator animator,
                             ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -125,18 +137,38 @@ public class PieChartRenderer extends DataRenderer {
         int width = (int) mViewPortHandler.getChartWidth();
         int height = (int) mViewPortHandler.getChartHeight();
 
-        Bitmap drawBitmap = mDrawBitmap == null ? null : mDrawBitmap.get();
+        Bitmap drawBitmap;
 
-        if (drawBitmap == null
-                || (drawBitmap.getWidth() != width)
-                || (drawBitmap.getHeight() != height)) {
+        if (mBitmapPool != null) {
 
-            if (width > 0 && height > 0) {
-                drawBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_4444);
-                mDrawBitmap = new WeakReference<>(drawBitmap);
-                mBitmapCanvas = new Canvas(drawBitmap);
-            } else
+            if (width <= 0 || height <= 0)
                 return;
+
+            releasePooledBitmap();
+
+            drawBitmap = mBitmapPool.acquire(width, height, Bitmap.Config.ARGB_4444);
+            mPooledBitmap = drawBitmap;
+
+            if (mBitmapCanvas == null)
+                mBitmapCanvas = new Canvas(drawBitmap);
+            else
+                mBitmapCanvas.setBitmap(drawBitmap);
+
+        } else {
+
+            drawBitmap = mDrawBitmap == null ? null : mDrawBitmap.get();
+
+            if (drawBitmap == null
+                    || (drawBitmap.getWidth() != width)
+                    || (drawBitmap.getHeight() != height)) {
+
+                if (width > 0 && height > 0) {
+                    drawBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_4444);
+                    mDrawBitmap = new WeakReference<>(drawBitmap);
+                    mBitmapCanvas = new Canvas(drawBitmap);
+                } else
+                    return;
+            }
         }
 
         drawBitmap.eraseColor(Color.TRANSPARENT);
@@ -464,7 +496,7 @@ public class PieChartRenderer extends DataRenderer {
             float lineHeight = Utils.calcTextHeight(mValuePaint, "Q")
                     + Utils.convertDpToPixel(4f);
 
-            ValueFormatter formatter = dataSet.getValueFormatter();
+            ValueFormatter formatter = getValueFormatter(mChart.getData(), dataSet);
 
             int entryCount = dataSet.getEntryCount();
 
@@ -666,10 +698,56 @@ public class PieChartRenderer extends DataRenderer {
     @Override
     public void drawExtras(Canvas c) {
         drawHole(c);
-        c.drawBitmap(mDrawBitmap.get(), 0, 0, null);
+
+        if (mBitmapPool != null) {
+
+            if (mPooledBitmap != null)
+                c.drawBitmap(mPooledBitmap, 0, 0, null);
+
+            releasePooledBitmap();
+        } else
+            c.drawBitmap(mDrawBitmap.get(), 0, 0, null);
+
         drawCenterText(c);
     }
 
+    /**
+     * Hands the bitmap borrowed for the current frame back to the pool.
+     */
+    private void releasePooledBitmap() {
+
+        if (mPooledBitmap == null)
+            return;
+
+        if (mBitmapCanvas != null)
+            mBitmapCanvas.setBitmap(null);
+
+        mBitmapPool.release(mPooledBitmap);
+        mPooledBitmap = null;
+    }
+
+    /**
+     * Sets the pool the bitmap the slices are drawn to is borrowed from. With a pool, the bitmap
+     * is only held from drawing the data until it is composited in drawExtras(...). Use
+     * BitmapPool.getShared() to share it with all other charts. Set to null to let this
+     * renderer keep its own bitmap. Default: null
+     *
+     * @param pool
+     */
+    public void setBitmapPool(BitmapPool pool) {
+        releaseBitmap();
+        mBitmapPool = pool;
+    }
+
+    /**
+     * Returns the pool the bitmap is borrowed from, null if there is none.
+     *
+     * @return
+     */
+    public BitmapPool getBitmapPool() {
+        return mBitmapPool;
+    }
+
     private Path mHoleCirclePath = new Path();
 
     /**
@@ -678,7 +756,8 @@ public class PieChartRenderer extends DataRenderer {
      */
     protected void drawHole(Canvas c) {
 
-        if (mChart.isDrawHoleEnabled() && mBitmapCanvas != null) {
+        if (mChart.isDrawHoleEnabled() && mBitmapCanvas != null
+                && (mBitmapPool == null || mPooledBitmap != null)) {
 
             float radius = mChart.getRadius();
             float holeRadius = radius * (mChart.getHoleRadius() / 100);
@@ -1044,6 +1123,8 @@ public class PieChartRenderer extends DataRenderer {
      * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
      */
     public void releaseBitmap() {
+        if (mBitmapPool != null)
+            releasePooledBitmap();
         if (mBitmapCanvas != null) {
             mBitmapCanvas.setBitmap(null);
             mBitmapCanvas = null;
@@ -10,6 +10,7 @@ import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.charts.RadarChart;
 import com.github.mikephil.charting.data.RadarData;
 import com.github.mikephil.charting.data.RadarEntry;
+import com.github.mikephil.charting.formatter.LabelMethods;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IRadarDataSet;
@@ -174,7 +175,7 @@ public class RadarChartRenderer extends LineRadarRenderer {
             // apply the text-styling defined by the DataSet
             applyValueTextStyle(dataSet);
 
-            ValueFormatter formatter = dataSet.getValueFormatter();
+            ValueFormatter formatter = getValueFormatter(mChart.getData(), dataSet);
 
             MPPointF iconsOffset = MPPointF.getInstance(dataSet.getIconsOffset());
             iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
@@ -191,7 +192,9 @@ public class RadarChartRenderer extends LineRadarRenderer {
                          pOut);
 
                 if (dataSet.isDrawValuesEnabled()) {
-                    drawValue(c, formatter.getRadarLabel(entry), pOut.x, pOut.y - yoffset, dataSet.getValueTextColor(j));
+                    if (!drawFormattedValue(c, formatter, LabelMethods.RADAR_LABEL,
+                            entry.getY(), pOut.x, pOut.y - yoffset, dataSet.getValueTextColor(j)))
+                        drawValue(c, formatter.getRadarLabel(entry), pOut.x, pOut.y - yoffset, dataSet.getValueTextColor(j));
                 }
 
                 if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -316,11 +319,13 @@ public class RadarChartRenderer extends LineRadarRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            RadarEntry e = set.getEntryForIndex((int) high.getX());
+            int entryIndex = (int) high.getX();
 
-            if (!isInBoundsX(e, set))
+            if (!isInBoundsX(entryIndex, set))
                 continue;
 
+            RadarEntry e = set.getEntryForIndex(entryIndex);
+
             float y = (e.getY() - mChart.getYChartMin());
 
             Utils.getPosition(center,
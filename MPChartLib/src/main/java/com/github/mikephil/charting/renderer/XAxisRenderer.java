@@ -63,7 +63,7 @@ public class XAxisRenderer extends AxisRenderer {
             MPPointD.recycleInstance(p2);
         }
 
-        computeAxisValues(min, max);
+        computeAxisValuesIfChanged(min, max);
     }
 
     @Override
@@ -73,6 +73,23 @@ public class XAxisRenderer extends AxisRenderer {
         computeSize();
     }
 
+    /**
+     * the label rotation the axis values were last computed for
+     */
+    private float mLastLabelRotationAngle;
+
+    @Override
+    protected boolean hasAxisChanged(float min, float max) {
+        return super.hasAxisChanged(min, max)
+                || mXAxis.getLabelRotationAngle() != mLastLabelRotationAngle;
+    }
+
+    @Override
+    protected void storeAxisState(float min, float max) {
+        super.storeAxisState(min, max);
+        mLastLabelRotationAngle = mXAxis.getLabelRotationAngle();
+    }
+
     protected void computeSize() {
 
         String longest = mXAxis.getLongestLabel();
@@ -201,13 +218,13 @@ public class XAxisRenderer extends AxisRenderer {
 
             if (mViewPortHandler.isInBoundsX(x)) {
 
-                String label = mXAxis.getValueFormatter().getAxisLabel(mXAxis.mEntries[i / 2], mXAxis);
+                String label = mXAxis.getFormattedLabel(i / 2);
 
                 if (mXAxis.isAvoidFirstLastClippingEnabled()) {
 
                     // avoid clipping of the last
                     if (i / 2 == mXAxis.mEntryCount - 1 && mXAxis.mEntryCount > 1) {
-                        float width = Utils.calcTextWidth(mAxisLabelPaint, label);
+                        float width = mXAxis.getLabelWidth(i / 2, mAxisLabelPaint);
 
                         if (width > mViewPortHandler.offsetRight() * 2
                                 && x + width > mViewPortHandler.getChartWidth())
@@ -216,7 +233,7 @@ public class XAxisRenderer extends AxisRenderer {
                         // avoid clipping of the first
                     } else if (i == 0) {
 
-                        float width = Utils.calcTextWidth(mAxisLabelPaint, label);
+                        float width = mXAxis.getLabelWidth(i / 2, mAxisLabelPaint);
                         x += width / 2;
                     }
                 }
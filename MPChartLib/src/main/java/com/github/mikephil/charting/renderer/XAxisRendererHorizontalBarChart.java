@@ -54,7 +54,7 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
             MPPointD.recycleInstance(p2);
         }
 
-        computeAxisValues(min, max);
+        computeAxisValuesIfChanged(min, max);
     }
 
     @Override
@@ -155,7 +155,7 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
 
             if (mViewPortHandler.isInBoundsY(y)) {
 
-                String label = mXAxis.getValueFormatter().getAxisLabel(mXAxis.mEntries[i / 2], mXAxis);
+                String label = mXAxis.getFormattedLabel(i / 2);
                 drawLabel(c, label, pos, y, anchor, labelRotationAngleDegrees);
             }
         }
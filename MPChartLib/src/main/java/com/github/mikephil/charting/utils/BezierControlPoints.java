@@ -0,0 +1,250 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IColumnarLineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+
+/**
+ * Cache of the bezier control points of a cubic or horizontal bezier line DataSet, in value
+ * space. The control points of the segment that ends at an entry only depend on the entry and
+ * its neighbours, so they are computed once and extended incrementally when entries are
+ * appended, or shifted when entries are dropped from the front of a streaming DataSet. Every
+ * other change of the entries requires a full recomputation.
+ * <p/>
+ * Whether the entries were only appended to and dropped from the front is told by the edit
+ * count of the DataSet, see ILineDataSet.getEditCount(). Changes made to the entries directly
+ * require a call to notifyDataSetChanged() on the DataSet.
+ */
+public class BezierControlPoints {
+
+    /**
+     * cp1x, cp1y, cp2x, cp2y of the segment ending at each entry index, index 0 is unused
+     */
+    private float[] mPoints = new float[0];
+
+    /**
+     * the number of entries the control points were computed for
+     */
+    private int mCount = 0;
+
+    private LineDataSet.Mode mMode;
+    private float mIntensity;
+    private int mEditCount;
+
+    /**
+     * first and last entry the control points were computed for
+     */
+    private float mFirstX, mFirstY, mLastX, mLastY;
+
+    /**
+     * the number of segments computed so far
+     */
+    private long mComputedSegments = 0;
+
+    /**
+     * the DataSet the control points are currently updated for, and its columnar view
+     */
+    private ILineDataSet mDataSet;
+    private IColumnarLineDataSet mColumnar;
+
+    /**
+     * Brings the control points up to date with the entries of the given DataSet.
+     *
+     * @param dataSet    the DataSet, drawn in CUBIC_BEZIER or HORIZONTAL_BEZIER mode
+     */
+    public void update(ILineDataSet dataSet) {
+
+        mDataSet = dataSet;
+        mColumnar = dataSet instanceof IColumnarLineDataSet ? (IColumnarLineDataSet) dataSet : null;
+
+        final int count = dataSet.getEntryCount();
+        final LineDataSet.Mode mode = dataSet.getMode();
+        final float intensity = mode == LineDataSet.Mode.CUBIC_BEZIER ? dataSet.getCubicIntensity() : 0f;
+        final int editCount = dataSet.getEditCount();
+
+        // an unchanged edit count proves that entries were only appended and dropped
+        final boolean incremental = editCount == mEditCount;
+
+        int shift = -1;
+
+        if (incremental && mCount > 0 && count > 0 && mode == mMode && intensity == mIntensity)
+            shift = findShift(count);
+
+        final int kept = shift < 0 ? 0 : mCount - shift;
+
+        if (kept < 1 || count < kept) {
+
+            ensureCapacity(count);
+            compute(1, count - 1, count, mode, intensity);
+
+        } else {
+
+            if (shift > 0)
+                System.arraycopy(mPoints, shift * 4, mPoints, 0, kept * 4);
+
+            ensureCapacity(count);
+
+            // the first segment had a dropped entry as its left neighbour
+            if (shift > 0)
+                compute(1, Math.min(1, count - 1), count, mode, intensity);
+
+            // the last kept segment had no right neighbour yet
+            if (count > kept)
+                compute(Math.max(shift > 0 ? 2 : 1, kept - 1), count - 1, count, mode, intensity);
+        }
+
+        mCount = count;
+        mMode = mode;
+        mIntensity = intensity;
+        mEditCount = editCount;
+
+        if (count > 0) {
+            mFirstX = getX(0);
+            mFirstY = getY(0);
+            mLastX = getX(count - 1);
+            mLastY = getY(count - 1);
+        }
+    }
+
+    /**
+     * Writes the start point of the entry at index "from" followed by the two control points and
+     * the end point of every segment up to the entry at index "to" into the buffer, as
+     * (x, y, x, y, ...) pairs. The y-values are multiplied with phaseY. Requires a prior call to
+     * update(...). Returns the number of floats written.
+     *
+     * @param from
+     * @param to
+     * @param phaseY
+     * @param buffer
+     * @param offset
+     * @return
+     */
+    public int copySegments(int from, int to, float phaseY, float[] buffer, int offset) {
+
+        int k = offset;
+
+        buffer[k++] = getX(from);
+        buffer[k++] = getY(from) * phaseY;
+
+        for (int j = from + 1; j <= to; j++) {
+
+            final int p = j * 4;
+
+            buffer[k++] = mPoints[p];
+            buffer[k++] = mPoints[p + 1] * phaseY;
+            buffer[k++] = mPoints[p + 2];
+            buffer[k++] = mPoints[p + 3] * phaseY;
+            buffer[k++] = getX(j);
+            buffer[k++] = getY(j) * phaseY;
+        }
+
+        return k - offset;
+    }
+
+    /**
+     * Returns the number of segments whose control points have been computed so far.
+     *
+     * @return
+     */
+    public long getComputedSegmentCount() {
+        return mComputedSegments;
+    }
+
+    /**
+     * Returns the number of entries that were dropped from the front since the last update,
+     * found by locating the last entry of the last update. Returns -1 if the entries changed
+     * in any other way than being appended to and dropped from the front.
+     *
+     * @param count
+     * @return
+     */
+    private int findShift(int count) {
+
+        final int last = mCount - 1;
+
+        if (last < count && getX(last) == mLastX && getY(last) == mLastY)
+            return getX(0) == mFirstX && getY(0) == mFirstY ? 0 : -1;
+
+        int index = mDataSet.getEntryIndex(mLastX, mLastY, DataSet.Rounding.CLOSEST);
+
+        if (index < 0 || index >= last || getX(index) != mLastX || getY(index) != mLastY)
+            return -1;
+
+        // entries can only have been dropped if the first one moved to the right
+        if (getX(0) <= mFirstX)
+            return -1;
+
+        return last - index;
+    }
+
+    /**
+     * Computes the control points of the segments ending at the entries "from" to "to".
+     */
+    private void compute(int from, int to, int count, LineDataSet.Mode mode, float intensity) {
+
+        for (int j = from; j <= to; j++) {
+
+            final int p = j * 4;
+
+            final float prevX = getX(j - 1);
+            final float prevY = getY(j - 1);
+            final float curX = getX(j);
+            final float curY = getY(j);
+
+            if (mode == LineDataSet.Mode.HORIZONTAL_BEZIER) {
+
+                final float cpx = prevX + (curX - prevX) / 2.0f;
+
+                mPoints[p] = cpx;
+                mPoints[p + 1] = prevY;
+                mPoints[p + 2] = cpx;
+                mPoints[p + 3] = curY;
+
+            } else {
+
+                final int prevPrev = Math.max(j - 2, 0);
+                final int next = j + 1 < count ? j + 1 : j;
+
+                final float prevDx = (curX - getX(prevPrev)) * intensity;
+                final float prevDy = (curY - getY(prevPrev)) * intensity;
+                final float curDx = (getX(next) - prevX) * intensity;
+                final float curDy = (getY(next) - prevY) * intensity;
+
+                mPoints[p] = prevX + prevDx;
+                mPoints[p + 1] = prevY + prevDy;
+                mPoints[p + 2] = curX - curDx;
+                mPoints[p + 3] = curY - curDy;
+            }
+
+            mComputedSegments++;
+        }
+    }
+
+    private void ensureCapacity(int count) {
+
+        if (mPoints.length >= count * 4)
+            return;
+
+        float[] points = new float[Math.max(count, mCount + (mCount >> 1)) * 4];
+        System.arraycopy(mPoints, 0, points, 0, Math.min(mPoints.length, mCount * 4));
+        mPoints = points;
+    }
+
+    private float getX(int index) {
+        if (mColumnar != null)
+            return mColumnar.getXForIndex(index);
+
+        Entry e = mDataSet.getEntryForIndex(index);
+        return e.getX();
+    }
+
+    private float getY(int index) {
+        if (mColumnar != null)
+            return mColumnar.getYForIndex(index);
+
+        Entry e = mDataSet.getEntryForIndex(index);
+        return e.getY();
+    }
+}
@@ -0,0 +1,263 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+
+import java.util.ArrayList;
+
+/**
+ * Pool of offscreen bitmaps that renderers borrow for the duration of a single draw call instead
+ * of every chart keeping its own full-size bitmap alive. Bitmap sizes are rounded up to whole
+ * buckets, so that charts of similar size (and a chart that is resized by a few pixels) can
+ * share the same bitmap.
+ * <p/>
+ * Idle bitmaps are kept until the pooled bytes exceed the configured limit, the least recently
+ * returned ones are recycled first. Use getShared() to obtain the pool that is shared by all
+ * chart instances of the process. All methods must be called from the UI thread.
+ */
+public class BitmapPool {
+
+    /**
+     * default limit of the bytes held by idle bitmaps, roughly one full-hd ARGB_8888 screen
+     */
+    public static final long DEFAULT_MAX_POOLED_BYTES = 8L * 1024L * 1024L;
+
+    /**
+     * default bucket size in pixels bitmap dimensions are rounded up to
+     */
+    public static final int DEFAULT_BUCKET_SIZE = 64;
+
+    private static BitmapPool mShared;
+
+    /**
+     * idle bitmaps, the least recently returned first
+     */
+    private final ArrayList<Bitmap> mIdle = new ArrayList<>();
+
+    private long mMaxPooledBytes;
+    private int mBucketSize = DEFAULT_BUCKET_SIZE;
+
+    private long mPooledBytes = 0;
+    private long mAcquiredBytes = 0;
+
+    private long mHitCount = 0;
+    private long mMissCount = 0;
+
+    /**
+     * Returns the pool that is shared by all chart instances.
+     *
+     * @return
+     */
+    public static BitmapPool getShared() {
+
+        if (mShared == null)
+            mShared = new BitmapPool(DEFAULT_MAX_POOLED_BYTES);
+
+        return mShared;
+    }
+
+    /**
+     * @param maxPooledBytes the maximum number of bytes idle bitmaps may hold
+     */
+    public BitmapPool(long maxPooledBytes) {
+        setMaxPooledBytes(maxPooledBytes);
+    }
+
+    /**
+     * Sets the maximum number of bytes the idle bitmaps of this pool may hold. Bitmaps that are
+     * currently acquired are not counted. If the pool holds more, the least recently returned
+     * bitmaps are recycled right away. Set to 0 to recycle every returned bitmap.
+     *
+     * @param maxPooledBytes
+     */
+    public void setMaxPooledBytes(long maxPooledBytes) {
+
+        if (maxPooledBytes < 0)
+            throw new IllegalArgumentException("The maximum pooled bytes must not be negative.");
+
+        mMaxPooledBytes = maxPooledBytes;
+        trimTo(maxPooledBytes);
+    }
+
+    /**
+     * Returns the maximum number of bytes the idle bitmaps of this pool may hold.
+     *
+     * @return
+     */
+    public long getMaxPooledBytes() {
+        return mMaxPooledBytes;
+    }
+
+    /**
+     * Sets the size in pixels the width and height of acquired bitmaps are rounded up to. Larger
+     * buckets let more charts share a bitmap at the cost of unused pixels. Default: 64
+     *
+     * @param bucketSize
+     */
+    public void setBucketSize(int bucketSize) {
+
+        if (bucketSize < 1)
+            throw new IllegalArgumentException("The bucket size must be at least 1.");
+
+        if (bucketSize != mBucketSize) {
+            mBucketSize = bucketSize;
+            clear();
+        }
+    }
+
+    public int getBucketSize() {
+        return mBucketSize;
+    }
+
+    /**
+     * Returns the number of bytes held by the idle bitmaps of this pool.
+     *
+     * @return
+     */
+    public long getPooledBytes() {
+        return mPooledBytes;
+    }
+
+    /**
+     * Returns the number of bytes held by the bitmaps that are currently acquired and not yet
+     * returned.
+     *
+     * @return
+     */
+    public long getAcquiredBytes() {
+        return mAcquiredBytes;
+    }
+
+    /**
+     * Returns the number of idle bitmaps in this pool.
+     *
+     * @return
+     */
+    public int getPooledCount() {
+        return mIdle.size();
+    }
+
+    /**
+     * Returns the number of acquired bitmaps that were taken from the pool.
+     *
+     * @return
+     */
+    public long getHitCount() {
+        return mHitCount;
+    }
+
+    /**
+     * Returns the number of acquired bitmaps that had to be created.
+     *
+     * @return
+     */
+    public long getMissCount() {
+        return mMissCount;
+    }
+
+    /**
+     * Returns a bitmap that is at least width x height pixels large, its dimensions are rounded
+     * up to the bucket size. The content of the bitmap is undefined, callers have to erase it.
+     * The bitmap has to be handed back with release(...) once it is not drawn anymore.
+     *
+     * @param width
+     * @param height
+     * @param config
+     * @return
+     */
+    public Bitmap acquire(int width, int height, Bitmap.Config config) {
+
+        if (width < 1 || height < 1)
+            throw new IllegalArgumentException("Width and height must be at least 1.");
+
+        final int bucketWidth = roundUp(width);
+        final int bucketHeight = roundUp(height);
+
+        Bitmap bitmap = null;
+
+        // prefer the most recently returned bitmap
+        for (int i = mIdle.size() - 1; i >= 0; i--) {
+
+            Bitmap idle = mIdle.get(i);
+
+            if (idle.getWidth() == bucketWidth
+                    && idle.getHeight() == bucketHeight
+                    && idle.getConfig() == config) {
+
+                mIdle.remove(i);
+                mPooledBytes -= getByteCount(idle);
+                bitmap = idle;
+                break;
+            }
+        }
+
+        if (bitmap == null) {
+            mMissCount++;
+            bitmap = Bitmap.createBitmap(bucketWidth, bucketHeight, config);
+        } else
+            mHitCount++;
+
+        mAcquiredBytes += getByteCount(bitmap);
+        return bitmap;
+    }
+
+    /**
+     * Hands a bitmap that was acquired from this pool back. The caller must not draw into or
+     * with the bitmap afterwards.
+     *
+     * @param bitmap
+     */
+    public void release(Bitmap bitmap) {
+
+        if (bitmap == null)
+            return;
+
+        final long bytes = getByteCount(bitmap);
+        mAcquiredBytes = Math.max(0, mAcquiredBytes - bytes);
+
+        if (bitmap.isRecycled())
+            return;
+
+        if (bytes > mMaxPooledBytes
+                || bitmap.getWidth() % mBucketSize != 0
+                || bitmap.getHeight() % mBucketSize != 0) {
+            bitmap.recycle();
+            return;
+        }
+
+        trimTo(mMaxPooledBytes - bytes);
+
+        mIdle.add(bitmap);
+        mPooledBytes += bytes;
+    }
+
+    /**
+     * Recycles all idle bitmaps of this pool. Acquired bitmaps are not affected.
+     */
+    public void clear() {
+        trimTo(0);
+    }
+
+    /**
+     * Recycles the least recently returned idle bitmaps until the pool holds at most the given
+     * number of bytes.
+     *
+     * @param maxBytes
+     */
+    private void trimTo(long maxBytes) {
+
+        while (mPooledBytes > maxBytes && !mIdle.isEmpty()) {
+
+            Bitmap bitmap = mIdle.remove(0);
+            mPooledBytes -= getByteCount(bitmap);
+            bitmap.recycle();
+        }
+    }
+
+    private int roundUp(int size) {
+        return (size + mBucketSize - 1) / mBucketSize * mBucketSize;
+    }
+
+    private static long getByteCount(Bitmap bitmap) {
+        return (long) bitmap.getRowBytes() * bitmap.getHeight();
+    }
+}
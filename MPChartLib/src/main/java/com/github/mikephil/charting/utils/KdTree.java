@@ -0,0 +1,204 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * Two-dimensional tree over the x- and y-values of the entries of a DataSet, used to find the
+ * entry closest to a touch position without looking at every entry. The tree is stored
+ * implicitly in three parallel arrays: every range is split at its middle element, the left
+ * half holds the smaller, the right half the larger coordinates, alternating between x and y.
+ * <p/>
+ * Distances are measured in pixels: the query scales the value differences with the number of
+ * pixels per value of each axis, so the nearest entry is the one that is visually closest.
+ */
+public class KdTree {
+
+    private float[] mX = new float[0];
+    private float[] mY = new float[0];
+
+    /**
+     * the index of each point in the DataSet
+     */
+    private int[] mIndex = new int[0];
+
+    /**
+     * the number of points in the tree, entries with NaN values are left out
+     */
+    private int mSize = 0;
+
+    /**
+     * query state, kept in fields to avoid passing it down the recursion
+     */
+    private float mQueryX, mQueryY, mScaleX, mScaleY;
+    private float mBestDistance;
+    private int mBestIndex;
+
+    /**
+     * Builds the tree from the x- and y-values of all entries of the given DataSet.
+     *
+     * @param set
+     */
+    public void build(IDataSet<? extends Entry> set) {
+
+        final int count = set.getEntryCount();
+
+        if (mX.length < count) {
+            mX = new float[count];
+            mY = new float[count];
+            mIndex = new int[count];
+        }
+
+        mSize = 0;
+
+        for (int i = 0; i < count; i++) {
+
+            Entry e = set.getEntryForIndex(i);
+
+            if (e == null || Float.isNaN(e.getX()) || Float.isNaN(e.getY()))
+                continue;
+
+            mX[mSize] = e.getX();
+            mY[mSize] = e.getY();
+            mIndex[mSize] = i;
+            mSize++;
+        }
+
+        build(0, mSize, true);
+    }
+
+    /**
+     * Returns the number of points in the tree.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Returns the index of the entry closest to the given position, or -1 if no entry is
+     * closer than maxDistance. Distances are the value differences multiplied with the given
+     * scales, e.g. the pixels per value of the x- and y-axis.
+     *
+     * @param x           x-value of the position
+     * @param y           y-value of the position
+     * @param scaleX      pixels per x-value
+     * @param scaleY      pixels per y-value
+     * @param maxDistance the maximum distance, in scaled units
+     * @return
+     */
+    public int nearest(float x, float y, float scaleX, float scaleY, float maxDistance) {
+
+        mQueryX = x;
+        mQueryY = y;
+        mScaleX = Math.abs(scaleX);
+        mScaleY = Math.abs(scaleY);
+        mBestDistance = maxDistance * maxDistance;
+        mBestIndex = -1;
+
+        search(0, mSize, true);
+
+        return mBestIndex;
+    }
+
+    private void search(int from, int to, boolean splitX) {
+
+        if (from >= to)
+            return;
+
+        final int mid = (from + to) >>> 1;
+
+        final float dx = (mQueryX - mX[mid]) * mScaleX;
+        final float dy = (mQueryY - mY[mid]) * mScaleY;
+        final float distance = dx * dx + dy * dy;
+
+        if (distance < mBestDistance) {
+            mBestDistance = distance;
+            mBestIndex = mIndex[mid];
+        }
+
+        final float diff = splitX ? dx : dy;
+
+        // search the half containing the position first, the other one only if it can hold
+        // a closer point
+        if (diff < 0) {
+            search(from, mid, !splitX);
+
+            if (diff * diff < mBestDistance)
+                search(mid + 1, to, !splitX);
+        } else {
+            search(mid + 1, to, !splitX);
+
+            if (diff * diff < mBestDistance)
+                search(from, mid, !splitX);
+        }
+    }
+
+    private void build(int from, int to, boolean splitX) {
+
+        if (to - from <= 1)
+            return;
+
+        final int mid = (from + to) >>> 1;
+
+        select(from, to - 1, mid, splitX ? mX : mY);
+
+        build(from, mid, !splitX);
+        build(mid + 1, to, !splitX);
+    }
+
+    /**
+     * Partially sorts the points from "left" to "right" (both inclusive) by the given
+     * coordinate, so that the point at index k is in its sorted position, all points before it
+     * are smaller or equal and all points behind it are larger or equal. Uses a three-way
+     * partition so that many equal coordinates do not degrade the selection.
+     */
+    private void select(int left, int right, int k, float[] keys) {
+
+        while (left < right) {
+
+            final float pivot = medianOfThree(keys[left], keys[(left + right) >>> 1], keys[right]);
+
+            int lt = left;
+            int gt = right;
+            int i = left;
+
+            while (i <= gt) {
+
+                if (keys[i] < pivot)
+                    swap(lt++, i++);
+                else if (keys[i] > pivot)
+                    swap(i, gt--);
+                else
+                    i++;
+            }
+
+            if (k < lt)
+                right = lt - 1;
+            else if (k > gt)
+                left = gt + 1;
+            else
+                return;
+        }
+    }
+
+    private static float medianOfThree(float a, float b, float c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private void swap(int i, int j) {
+
+        float x = mX[i];
+        mX[i] = mX[j];
+        mX[j] = x;
+
+        float y = mY[i];
+        mY[i] = mY[j];
+        mY[j] = y;
+
+        int index = mIndex[i];
+        mIndex[i] = mIndex[j];
+        mIndex[j] = index;
+    }
+}
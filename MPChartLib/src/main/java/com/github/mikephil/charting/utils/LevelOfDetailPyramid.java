@@ -0,0 +1,352 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.interfaces.datasets.IColumnarLineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * Multi-resolution summary of the y-values of a DataSet. Level k divides the entries into
+ * buckets of 2^k consecutive entries and stores the indices of the minimum and maximum
+ * y-value of every bucket, the first and last index of a bucket follow from its position.
+ * Drawing first, minimum, maximum and last of every bucket that is at most one pixel wide
+ * results in the same image as drawing all entries, without losing any spike.
+ * <p/>
+ * Level 0 (the entries themselves) is not stored. All levels together need memory for
+ * about four values per entry.
+ */
+public class LevelOfDetailPyramid {
+
+    /**
+     * indices of the minimum / maximum y-value of every bucket, per level (index 0 = level 1)
+     */
+    private int[][] mMinIndices = new int[0][];
+    private int[][] mMaxIndices = new int[0][];
+
+    /**
+     * minimum / maximum y-value of every bucket, per level (index 0 = level 1)
+     */
+    private float[][] mMinValues = new float[0][];
+    private float[][] mMaxValues = new float[0][];
+
+    /**
+     * the number of entries the pyramid was built from
+     */
+    private int mEntryCount = 0;
+
+    /**
+     * Rebuilds all levels from the entries of the given DataSet, O(n). Levels are built as long
+     * as they have at least two buckets.
+     *
+     * @param set
+     */
+    public void build(IDataSet<?> set) {
+
+        final int entryCount = set.getEntryCount();
+
+        int levelCount = 0;
+        for (int buckets = entryCount; buckets > 2; buckets = (buckets + 1) >> 1)
+            levelCount++;
+
+        if (mMinIndices.length != levelCount) {
+            mMinIndices = new int[levelCount][];
+            mMaxIndices = new int[levelCount][];
+            mMinValues = new float[levelCount][];
+            mMaxValues = new float[levelCount][];
+        }
+
+        mEntryCount = entryCount;
+
+        if (levelCount == 0)
+            return;
+
+        final IColumnarLineDataSet columnar = set instanceof IColumnarLineDataSet
+                ? (IColumnarLineDataSet) set : null;
+
+        // level 1 from the entries
+        int buckets = (entryCount + 1) >> 1;
+        allocateLevel(0, buckets);
+
+        int[] minIndices = mMinIndices[0];
+        int[] maxIndices = mMaxIndices[0];
+        float[] minValues = mMinValues[0];
+        float[] maxValues = mMaxValues[0];
+
+        for (int b = 0; b < buckets; b++) {
+
+            int i = b << 1;
+            float y1 = columnar != null ? columnar.getYForIndex(i) : set.getEntryForIndex(i).getY();
+
+            minIndices[b] = i;
+            maxIndices[b] = i;
+            minValues[b] = y1;
+            maxValues[b] = y1;
+
+            if (i + 1 < entryCount) {
+
+                float y2 = columnar != null
+                        ? columnar.getYForIndex(i + 1) : set.getEntryForIndex(i + 1).getY();
+
+                if (y2 < y1) {
+                    minIndices[b] = i + 1;
+                    minValues[b] = y2;
+                } else if (y2 > y1) {
+                    maxIndices[b] = i + 1;
+                    maxValues[b] = y2;
+                }
+            }
+        }
+
+        // every further level merges two buckets of the level below
+        for (int level = 1; level < levelCount; level++) {
+
+            int below = buckets;
+            buckets = (below + 1) >> 1;
+            allocateLevel(level, buckets);
+
+            int[] belowMinIndices = mMinIndices[level - 1];
+            int[] belowMaxIndices = mMaxIndices[level - 1];
+            float[] belowMinValues = mMinValues[level - 1];
+            float[] belowMaxValues = mMaxValues[level - 1];
+
+            minIndices = mMinIndices[level];
+            maxIndices = mMaxIndices[level];
+            minValues = mMinValues[level];
+            maxValues = mMaxValues[level];
+
+            for (int b = 0; b < buckets; b++) {
+
+                int left = b << 1;
+                int right = left + 1 < below ? left + 1 : left;
+
+                if (belowMinValues[right] < belowMinValues[left]) {
+                    minIndices[b] = belowMinIndices[right];
+                    minValues[b] = belowMinValues[right];
+                } else {
+                    minIndices[b] = belowMinIndices[left];
+                    minValues[b] = belowMinValues[left];
+                }
+
+                if (belowMaxValues[right] > belowMaxValues[left]) {
+                    maxIndices[b] = belowMaxIndices[right];
+                    maxValues[b] = belowMaxValues[right];
+                } else {
+                    maxIndices[b] = belowMaxIndices[left];
+                    maxValues[b] = belowMaxValues[left];
+                }
+            }
+        }
+    }
+
+    private void allocateLevel(int level, int buckets) {
+
+        if (mMinIndices[level] == null || mMinIndices[level].length != buckets) {
+            mMinIndices[level] = new int[buckets];
+            mMaxIndices[level] = new int[buckets];
+            mMinValues[level] = new float[buckets];
+            mMaxValues[level] = new float[buckets];
+        }
+    }
+
+    /**
+     * Returns the number of entries the pyramid was built from.
+     *
+     * @return
+     */
+    public int getEntryCount() {
+        return mEntryCount;
+    }
+
+    /**
+     * Returns the highest available level, 0 if the pyramid holds no levels.
+     *
+     * @return
+     */
+    public int getMaxLevel() {
+        return mMinIndices.length;
+    }
+
+    /**
+     * stack of (level, bucket) pairs for getIndices(IDataSet, ...)
+     */
+    private int[] mStack = new int[4];
+
+    private static float getX(IDataSet<?> set, IColumnarLineDataSet columnar, int index) {
+        return columnar != null ? columnar.getXForIndex(index) : set.getEntryForIndex(index).getX();
+    }
+
+    /**
+     * Returns the number of buckets of the given level (level >= 1).
+     *
+     * @param level
+     * @return
+     */
+    public int getBucketCount(int level) {
+        return mMinIndices[level - 1].length;
+    }
+
+    /**
+     * Returns the index of the entry with the minimum y-value in the given bucket of the given
+     * level (level >= 1).
+     *
+     * @param level
+     * @param bucket
+     * @return
+     */
+    public int getMinIndex(int level, int bucket) {
+        return mMinIndices[level - 1][bucket];
+    }
+
+    /**
+     * Returns the index of the entry with the maximum y-value in the given bucket of the given
+     * level (level >= 1).
+     *
+     * @param level
+     * @param bucket
+     * @return
+     */
+    public int getMaxIndex(int level, int bucket) {
+        return mMaxIndices[level - 1][bucket];
+    }
+
+    /**
+     * Writes the indices of the entries that represent the buckets covering the entries from
+     * index "from" to index "to" at the given level into the given array: first, minimum,
+     * maximum and last entry of every bucket in ascending order, without duplicates. The array
+     * must hold at least 4 indices per bucket. Returns the number of indices written.
+     *
+     * @param level
+     * @param from
+     * @param to
+     * @param out
+     * @return
+     */
+    public int getIndices(int level, int from, int to, int[] out) {
+
+        final int lastEntry = mEntryCount - 1;
+        final int bucketFrom = Math.max(from, 0) >> level;
+        final int bucketTo = Math.min(to, lastEntry) >> level;
+
+        final int[] minIndices = mMinIndices[level - 1];
+        final int[] maxIndices = mMaxIndices[level - 1];
+
+        int j = 0;
+        int last = -1;
+
+        for (int b = bucketFrom; b <= bucketTo; b++) {
+
+            int first = b << level;
+            int low = Math.min(minIndices[b], maxIndices[b]);
+            int high = Math.max(minIndices[b], maxIndices[b]);
+            int end = Math.min(((b + 1) << level) - 1, lastEntry);
+
+            if (first > last)
+                out[j++] = last = first;
+            if (low > last)
+                out[j++] = last = low;
+            if (high > last)
+                out[j++] = last = high;
+            if (end > last)
+                out[j++] = last = end;
+        }
+
+        return j;
+    }
+
+    /**
+     * Writes the indices of the entries that represent the entries from index "from" to index
+     * "to" into the given array, in ascending order and without duplicates. The level is chosen
+     * per region: a bucket whose first and last entry are at most maxXSpan apart on the x-axis
+     * (e.g. the value range of one pixel) is represented by its first, minimum, maximum and
+     * last entry, wider buckets are split into the two buckets of the level below, down to the
+     * entries themselves. Gaps in the x-values therefore only cost the buckets around them,
+     * the cost is proportional to the number of indices written plus the number of levels per
+     * gap.
+     * <p/>
+     * Returns the number of indices written, or -1 if the array is too small, then call again
+     * with a larger array.
+     *
+     * @param set      the DataSet the pyramid was built from
+     * @param from
+     * @param to
+     * @param maxXSpan the maximum x-distance between the first and last entry of a bucket
+     * @param out
+     * @return
+     */
+    public int getIndices(IDataSet<?> set, int from, int to, float maxXSpan, int[] out) {
+
+        final IColumnarLineDataSet columnar = set instanceof IColumnarLineDataSet
+                ? (IColumnarLineDataSet) set : null;
+
+        final int lastEntry = mEntryCount - 1;
+
+        from = Math.max(from, 0);
+        to = Math.min(to, lastEntry);
+
+        if (from > to)
+            return 0;
+
+        final int top = getMaxLevel();
+
+        if (mStack.length < (top + 2) * 4)
+            mStack = new int[(top + 2) * 4];
+
+        final int[] stack = mStack;
+        int size = 0;
+
+        // the buckets of the top level, the first one ends up on top of the stack
+        for (int b = to >> top; b >= from >> top; b--) {
+            stack[size++] = top;
+            stack[size++] = b;
+        }
+
+        int j = 0;
+        int last = -1;
+
+        while (size > 0) {
+
+            final int bucket = stack[--size];
+            final int level = stack[--size];
+
+            final int first = bucket << level;
+            final int end = Math.min(((bucket + 1) << level) - 1, lastEntry);
+
+            if (end < from || first > to)
+                continue;
+
+            if (j + 4 > out.length)
+                return -1;
+
+            if (level == 0) {
+
+                if (first > last)
+                    out[j++] = last = first;
+
+            } else if (getX(set, columnar, end) - getX(set, columnar, first) <= maxXSpan) {
+
+                int low = Math.min(mMinIndices[level - 1][bucket], mMaxIndices[level - 1][bucket]);
+                int high = Math.max(mMinIndices[level - 1][bucket], mMaxIndices[level - 1][bucket]);
+
+                if (first > last)
+                    out[j++] = last = first;
+                if (low > last)
+                    out[j++] = last = low;
+                if (high > last)
+                    out[j++] = last = high;
+                if (end > last)
+                    out[j++] = last = end;
+
+            } else {
+
+                // the right half first, so that the left half is taken next
+                if (((bucket << 1) + 1) << (level - 1) <= lastEntry) {
+                    stack[size++] = level - 1;
+                    stack[size++] = (bucket << 1) + 1;
+                }
+
+                stack[size++] = level - 1;
+                stack[size++] = bucket << 1;
+            }
+        }
+
+        return j;
+    }
+}
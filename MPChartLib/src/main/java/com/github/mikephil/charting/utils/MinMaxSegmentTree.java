@@ -0,0 +1,158 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.Arrays;
+
+/**
+ * Segment tree that answers minimum / maximum queries over an index range in O(log n).
+ * Every position holds a low and a high value (e.g. low and high of a candle, or the same
+ * y-value twice). Appending a value and changing a value are O(log n), appending grows the
+ * tree by doubling its capacity.
+ */
+public class MinMaxSegmentTree {
+
+    /**
+     * number of leaves, always a power of two
+     */
+    private int mCapacity;
+
+    /**
+     * number of positions in use
+     */
+    private int mSize = 0;
+
+    /**
+     * minimum and maximum of every node, the root is at index 1, the leaves start at mCapacity
+     */
+    private float[] mMin;
+    private float[] mMax;
+
+    public MinMaxSegmentTree(int initialCapacity) {
+        mCapacity = 1;
+
+        while (mCapacity < initialCapacity)
+            mCapacity <<= 1;
+
+        allocate();
+    }
+
+    private void allocate() {
+        mMin = new float[mCapacity * 2];
+        mMax = new float[mCapacity * 2];
+        Arrays.fill(mMin, Float.MAX_VALUE);
+        Arrays.fill(mMax, -Float.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of positions in use.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Removes all values, keeps the capacity.
+     */
+    public void clear() {
+        Arrays.fill(mMin, Float.MAX_VALUE);
+        Arrays.fill(mMax, -Float.MAX_VALUE);
+        mSize = 0;
+    }
+
+    /**
+     * Appends a value at position size().
+     *
+     * @param low
+     * @param high
+     */
+    public void add(float low, float high) {
+        set(mSize, low, high);
+    }
+
+    /**
+     * Sets the value at the given position. Positions beyond size() extend the tree, positions
+     * that have never been set do not take part in queries.
+     *
+     * @param index
+     * @param low
+     * @param high
+     */
+    public void set(int index, float low, float high) {
+
+        while (index >= mCapacity)
+            grow();
+
+        if (index >= mSize)
+            mSize = index + 1;
+
+        int node = index + mCapacity;
+
+        mMin[node] = low;
+        mMax[node] = high;
+
+        for (node >>= 1; node > 0; node >>= 1) {
+            mMin[node] = Math.min(mMin[2 * node], mMin[2 * node + 1]);
+            mMax[node] = Math.max(mMax[2 * node], mMax[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Writes the minimum (out[0]) and maximum (out[1]) of all positions from index "from" to
+     * index "to" (both inclusive) into the given array.
+     *
+     * @param from
+     * @param to
+     * @param out
+     */
+    public void query(int from, int to, float[] out) {
+
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+
+        int l = Math.max(from, 0) + mCapacity;
+        int r = Math.min(to, mSize - 1) + mCapacity + 1;
+
+        while (l < r) {
+
+            if ((l & 1) == 1) {
+                min = Math.min(min, mMin[l]);
+                max = Math.max(max, mMax[l]);
+                l++;
+            }
+
+            if ((r & 1) == 1) {
+                r--;
+                min = Math.min(min, mMin[r]);
+                max = Math.max(max, mMax[r]);
+            }
+
+            l >>= 1;
+            r >>= 1;
+        }
+
+        out[0] = min;
+        out[1] = max;
+    }
+
+    /**
+     * Doubles the capacity and rebuilds the inner nodes.
+     */
+    private void grow() {
+
+        float[] min = mMin;
+        float[] max = mMax;
+        int oldCapacity = mCapacity;
+
+        mCapacity *= 2;
+        allocate();
+
+        System.arraycopy(min, oldCapacity, mMin, mCapacity, oldCapacity);
+        System.arraycopy(max, oldCapacity, mMax, mCapacity, oldCapacity);
+
+        for (int node = mCapacity - 1; node > 0; node--) {
+            mMin[node] = Math.min(mMin[2 * node], mMin[2 * node + 1]);
+            mMax[node] = Math.max(mMax[2 * node], mMax[2 * node + 1]);
+        }
+    }
+}
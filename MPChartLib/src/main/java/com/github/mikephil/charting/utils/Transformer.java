@@ -9,6 +9,8 @@ import com.github.mikephil.charting.data.CandleEntry;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IColumnarLineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDoubleXLineDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 
@@ -34,6 +36,11 @@ public class Transformer {
 
     protected ViewPortHandler mViewPortHandler;
 
+    /**
+     * incremented whenever the value or offset matrix is prepared
+     */
+    protected int mMatrixVersion = 0;
+
     public Transformer(ViewPortHandler viewPortHandler) {
         this.mViewPortHandler = viewPortHandler;
     }
@@ -63,6 +70,8 @@ public class Transformer {
         mMatrixValueToPx.reset();
         mMatrixValueToPx.postTranslate(-xChartMin, -yChartMin);
         mMatrixValueToPx.postScale(scaleX, -scaleY);
+
+        mMatrixVersion++;
     }
 
     /**
@@ -84,6 +93,16 @@ public class Transformer {
                     .setTranslate(mViewPortHandler.offsetLeft(), -mViewPortHandler.offsetTop());
             mMatrixOffset.postScale(1.0f, -1.0f);
         }
+
+        mMatrixVersion++;
+    }
+
+    /**
+     * Call this after modifying the matrices returned by getValueMatrix() or getOffsetMatrix()
+     * directly, so that the combined value-to-pixel matrix is rebuilt.
+     */
+    public void invalidateMatrices() {
+        mMatrixVersion++;
     }
 
     protected float[] valuePointsForGenerateTransformedValuesScatter = new float[1];
@@ -118,7 +137,7 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints, 0, count / 2);
 
         return valuePoints;
     }
@@ -154,7 +173,7 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints, 0, count / 2);
 
         return valuePoints;
     }
@@ -179,20 +198,35 @@ public class Transformer {
         }
         float[] valuePoints = valuePointsForGenerateTransformedValuesLine;
 
-        for (int j = 0; j < count; j += 2) {
+        if (data instanceof IDoubleXLineDataSet) {
 
-            Entry e = data.getEntryForIndex(j / 2 + min);
+            // transform the double x-values without rounding them to float first
+            pointValuesToPixel((IDoubleXLineDataSet) data, min, min + count / 2 - 1, phaseY,
+                    valuePoints, 0);
+            return valuePoints;
 
-            if (e != null) {
-                valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
-            } else {
-                valuePoints[j] = 0;
-                valuePoints[j + 1] = 0;
+        } else if (data instanceof IColumnarLineDataSet) {
+
+            // copy straight from the value columns
+            ((IColumnarLineDataSet) data).copyValues(valuePoints, 0, min, min + count / 2 - 1, phaseY);
+
+        } else {
+
+            for (int j = 0; j < count; j += 2) {
+
+                Entry e = data.getEntryForIndex(j / 2 + min);
+
+                if (e != null) {
+                    valuePoints[j] = e.getX();
+                    valuePoints[j + 1] = e.getY() * phaseY;
+                } else {
+                    valuePoints[j] = 0;
+                    valuePoints[j + 1] = 0;
+                }
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints, 0, count / 2);
 
         return valuePoints;
     }
@@ -229,7 +263,7 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints, 0, count / 2);
 
         return valuePoints;
     }
@@ -242,9 +276,7 @@ public class Transformer {
      */
     public void pathValueToPixel(Path path) {
 
-        path.transform(mMatrixValueToPx);
-        path.transform(mViewPortHandler.getMatrixTouch());
-        path.transform(mMatrixOffset);
+        path.transform(getValueToPixelMatrix());
     }
 
     /**
@@ -266,10 +298,78 @@ public class Transformer {
      * @param pts
      */
     public void pointValuesToPixel(float[] pts) {
+        pointValuesToPixel(pts, 0, pts.length / 2);
+    }
+
+    /**
+     * Transform the given number of points, starting at the given offset, with all matrices.
+     * Only the used part of the array is mapped, which makes this the method of choice for
+     * large buffers that are only partially filled.
+     *
+     * @param pts
+     * @param offset     the index of the first x-value in the array
+     * @param pointCount the number of (x, y) pairs to transform
+     */
+    public void pointValuesToPixel(float[] pts, int offset, int pointCount) {
+
+        Matrix m = getValueToPixelMatrix();
 
-        mMatrixValueToPx.mapPoints(pts);
-        mViewPortHandler.getMatrixTouch().mapPoints(pts);
-        mMatrixOffset.mapPoints(pts);
+        if (!mScaleTranslateOnly) {
+            m.mapPoints(pts, offset, pts, offset, pointCount);
+            return;
+        }
+
+        // no rotation, skew or perspective, map the points without calling into the Matrix
+        final float scaleX = mScaleX;
+        final float scaleY = mScaleY;
+        final float transX = mTransX;
+        final float transY = mTransY;
+
+        final int end = offset + pointCount * 2;
+
+        for (int i = offset; i < end; i += 2) {
+            pts[i] = pts[i] * scaleX + transX;
+            pts[i + 1] = pts[i + 1] * scaleY + transY;
+        }
+    }
+
+    /**
+     * Transforms the values from index "from" to index "to" (both inclusive) of the given
+     * DataSet into pixels and writes them into the buffer as (x, y, x, y, ...) pairs, starting
+     * at the given offset. The y-values are multiplied with phaseY. The x-values are taken
+     * relative to the origin of the DataSet in double precision and only rounded to float as
+     * pixels, so that e.g. millisecond timestamps keep their precision.
+     *
+     * @param data
+     * @param from
+     * @param to
+     * @param phaseY
+     * @param pts
+     * @param offset
+     */
+    public void pointValuesToPixel(IDoubleXLineDataSet data, int from, int to, float phaseY,
+                                   float[] pts, int offset) {
+
+        Matrix m = getValueToPixelMatrix();
+
+        if (!mScaleTranslateOnly) {
+            data.copyValues(pts, offset, from, to, phaseY);
+            m.mapPoints(pts, offset, pts, offset, to - from + 1);
+            return;
+        }
+
+        final double origin = data.getXOrigin();
+        final double scaleX = mScaleX;
+        final double transX = mTransX;
+        final float scaleY = mScaleY;
+        final float transY = mTransY;
+
+        int j = offset;
+
+        for (int i = from; i <= to; i++) {
+            pts[j++] = (float) ((data.getXDoubleForIndex(i) - origin) * scaleX + transX);
+            pts[j++] = data.getYForIndex(i) * phaseY * scaleY + transY;
+        }
     }
 
     /**
@@ -279,9 +379,7 @@ public class Transformer {
      */
     public void rectValueToPixel(RectF r) {
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRect(r);
     }
 
     /**
@@ -296,9 +394,7 @@ public class Transformer {
         r.top *= phaseY;
         r.bottom *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRect(r);
     }
 
     public void rectToPixelPhaseHorizontal(RectF r, float phaseY) {
@@ -307,9 +403,7 @@ public class Transformer {
         r.left *= phaseY;
         r.right *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRect(r);
     }
 
     /**
@@ -319,9 +413,7 @@ public class Transformer {
      */
     public void rectValueToPixelHorizontal(RectF r) {
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRect(r);
     }
 
     /**
@@ -336,9 +428,7 @@ public class Transformer {
         r.left *= phaseY;
         r.right *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRect(r);
     }
 
     /**
@@ -348,10 +438,32 @@ public class Transformer {
      */
     public void rectValuesToPixel(List<RectF> rects) {
 
+        for (int i = 0; i < rects.size(); i++)
+            mapRect(rects.get(i));
+    }
+
+    /**
+     * Transforms a rectangle with the combined value-to-pixel matrix.
+     *
+     * @param r
+     */
+    private void mapRect(RectF r) {
+
         Matrix m = getValueToPixelMatrix();
 
-        for (int i = 0; i < rects.size(); i++)
-            m.mapRect(rects.get(i));
+        if (!mScaleTranslateOnly) {
+            m.mapRect(r);
+            return;
+        }
+
+        final float left = r.left * mScaleX + mTransX;
+        final float right = r.right * mScaleX + mTransX;
+        final float top = r.top * mScaleY + mTransY;
+        final float bottom = r.bottom * mScaleY + mTransY;
+
+        // like Matrix.mapRect(...), the mapped rect is sorted
+        r.set(Math.min(left, right), Math.min(top, bottom),
+                Math.max(left, right), Math.max(top, bottom));
     }
 
     protected Matrix mPixelToValueMatrixBuffer = new Matrix();
@@ -363,19 +475,7 @@ public class Transformer {
      * @param pixels
      */
     public void pixelsToValue(float[] pixels) {
-
-        Matrix tmp = mPixelToValueMatrixBuffer;
-        tmp.reset();
-
-        // invert all matrixes to convert back to the original value
-        mMatrixOffset.invert(tmp);
-        tmp.mapPoints(pixels);
-
-        mViewPortHandler.getMatrixTouch().invert(tmp);
-        tmp.mapPoints(pixels);
-
-        mMatrixValueToPx.invert(tmp);
-        tmp.mapPoints(pixels);
+        getPixelToValueMatrix().mapPoints(pixels);
     }
 
     /**
@@ -412,6 +512,30 @@ public class Transformer {
         outputPoint.y = ptsBuffer[1];
     }
 
+    /**
+     * Like getValuesByTouchPoint(x, y, outputPoint), but returns the absolute x-value for
+     * DataSets whose float x-values are relative to the given origin, see IDoubleXLineDataSet.
+     * The x-value is computed in double precision.
+     *
+     * @param x
+     * @param y
+     * @param xOrigin
+     * @param outputPoint
+     */
+    public void getValuesByTouchPoint(float x, float y, double xOrigin, MPPointD outputPoint) {
+
+        getValueToPixelMatrix();
+
+        if (!mScaleTranslateOnly || mScaleX == 0f || mScaleY == 0f) {
+            getValuesByTouchPoint(x, y, outputPoint);
+            outputPoint.x += xOrigin;
+            return;
+        }
+
+        outputPoint.x = (x - (double) mTransX) / mScaleX + xOrigin;
+        outputPoint.y = (y - (double) mTransY) / mScaleY;
+    }
+
     /**
      * Returns a recyclable MPPointD instance.
      * Returns the x and y coordinates (pixels) for a given x and y value in the chart.
@@ -443,17 +567,100 @@ public class Transformer {
 
     private Matrix mMBuffer1 = new Matrix();
 
+    /**
+     * versions of the matrices mMBuffer1 and mMBuffer2 were built from, -1 if not built yet
+     */
+    private int mValueToPixelVersion = -1;
+    private int mValueToPixelViewPortVersion = -1;
+    private int mPixelToValueVersion = -1;
+    private int mPixelToValueViewPortVersion = -1;
+
+    /**
+     * scale and translation of the combined matrix, valid if it neither rotates, skews nor
+     * applies a perspective
+     */
+    private boolean mScaleTranslateOnly = false;
+    private float mScaleX, mScaleY, mTransX, mTransY;
+
+    private float[] mMatrixValuesBuffer = new float[9];
+
+    /**
+     * Returns the matrix that combines the value, touch and offset matrix. It is cached and only
+     * rebuilt if one of them has changed since, so it must not be modified.
+     *
+     * @return
+     */
     public Matrix getValueToPixelMatrix() {
+
+        final int viewPortVersion = mViewPortHandler.getMatrixVersion();
+
+        if (mValueToPixelVersion == mMatrixVersion
+                && mValueToPixelViewPortVersion == viewPortVersion)
+            return mMBuffer1;
+
         mMBuffer1.set(mMatrixValueToPx);
         mMBuffer1.postConcat(mViewPortHandler.mMatrixTouch);
         mMBuffer1.postConcat(mMatrixOffset);
+
+        final float[] values = mMatrixValuesBuffer;
+        mMBuffer1.getValues(values);
+
+        mScaleTranslateOnly = values[Matrix.MSKEW_X] == 0f
+                && values[Matrix.MSKEW_Y] == 0f
+                && values[Matrix.MPERSP_0] == 0f
+                && values[Matrix.MPERSP_1] == 0f
+                && values[Matrix.MPERSP_2] == 1f;
+
+        mScaleX = values[Matrix.MSCALE_X];
+        mScaleY = values[Matrix.MSCALE_Y];
+        mTransX = values[Matrix.MTRANS_X];
+        mTransY = values[Matrix.MTRANS_Y];
+
+        mValueToPixelVersion = mMatrixVersion;
+        mValueToPixelViewPortVersion = viewPortVersion;
+
         return mMBuffer1;
     }
 
+    /**
+     * Writes the number of pixels per x- and per y-value into the given array, signed as they
+     * are mapped (y usually grows downwards). Returns false if the value-to-pixel matrix also
+     * rotates, skews or applies a perspective, the scale is not meaningful then.
+     *
+     * @param scale array of length 2
+     * @return
+     */
+    public boolean getPixelsPerValue(float[] scale) {
+
+        getValueToPixelMatrix();
+
+        scale[0] = mScaleX;
+        scale[1] = mScaleY;
+
+        return mScaleTranslateOnly;
+    }
+
     private Matrix mMBuffer2 = new Matrix();
 
+    /**
+     * Returns the inverse of getValueToPixelMatrix(). It is cached as well and must not be
+     * modified.
+     *
+     * @return
+     */
     public Matrix getPixelToValueMatrix() {
-        getValueToPixelMatrix().invert(mMBuffer2);
+
+        Matrix valueToPixel = getValueToPixelMatrix();
+
+        if (mPixelToValueVersion != mValueToPixelVersion
+                || mPixelToValueViewPortVersion != mValueToPixelViewPortVersion) {
+
+            valueToPixel.invert(mMBuffer2);
+
+            mPixelToValueVersion = mValueToPixelVersion;
+            mPixelToValueViewPortVersion = mValueToPixelViewPortVersion;
+        }
+
         return mMBuffer2;
     }
 }
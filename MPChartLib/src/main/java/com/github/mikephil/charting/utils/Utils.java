@@ -267,9 +267,31 @@ public abstract class Utils {
 
         char[] out = new char[35];
 
+        int length = formatNumber(number, digitCount, separateThousands, separateChar, out);
+
+        // use this instead of "new String(...)" because of issue < Android 4.0
+        return String.valueOf(out, 0, length);
+    }
+
+    /**
+     * Formats the given number to the given number of decimals into the given array, starting
+     * at index 0, without allocating. Returns the number of characters written. The array
+     * needs to hold at least 35 characters.
+     *
+     * @param number
+     * @param digitCount
+     * @param separateThousands set this to true to separate thousands values
+     * @param separateChar      a caracter to be paced between the "thousands"
+     * @param out               the array to write the characters into
+     * @return
+     */
+    public static int formatNumber(float number, int digitCount, boolean separateThousands,
+                                   char separateChar, char[] out) {
+
         boolean neg = false;
         if (number == 0) {
-            return "0";
+            out[0] = '0';
+            return 1;
         }
 
         boolean zero = false;
@@ -336,10 +358,10 @@ public abstract class Utils {
             charCount += 1;
         }
 
-        int start = out.length - charCount;
+        // the number was written from the end of the array backwards
+        System.arraycopy(out, out.length - charCount, out, 0, charCount);
 
-        // use this instead of "new String(...)" because of issue < Android 4.0
-        return String.valueOf(out, start, out.length - start);
+        return charCount;
     }
 
     /**
@@ -769,6 +791,47 @@ public abstract class Utils {
         );
     }
 
+    /**
+     * Returns true if the given class overrides the legacy overload of the method with the given
+     * name in a subclass of the class that last overrides its replacement, i.e. the legacy
+     * overload was customized without knowing about the replacement and the replacement has to
+     * go through it. Uses reflection, the result should be kept per class.
+     *
+     * @param clazz
+     * @param name
+     * @param legacyParameterTypes the parameter types of the legacy overload
+     * @param parameterTypes       the parameter types of the replacement
+     * @return
+     */
+    public static boolean isLegacyOverloadOverridden(Class<?> clazz, String name,
+                                                     Class<?>[] legacyParameterTypes,
+                                                     Class<?>[] parameterTypes) {
+
+        Class<?> legacy = getDeclaringClass(clazz, name, legacyParameterTypes);
+        Class<?> replacement = getDeclaringClass(clazz, name, parameterTypes);
+
+        return legacy != null && replacement != null && legacy != replacement
+                && replacement.isAssignableFrom(legacy);
+    }
+
+    /**
+     * Returns the most derived class in the hierarchy of the given class that declares the
+     * given method, of any visibility, null if there is none.
+     */
+    private static Class<?> getDeclaringClass(Class<?> clazz, String name, Class<?>[] parameterTypes) {
+
+        for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(name, parameterTypes);
+                return c;
+            } catch (NoSuchMethodException e) {
+                // declared further up
+            }
+        }
+
+        return null;
+    }
+
     public static int getSDKInt() {
         return android.os.Build.VERSION.SDK_INT;
     }
@@ -26,6 +26,11 @@ public class ViewPortHandler {
     protected float mChartWidth = 0f;
     protected float mChartHeight = 0f;
 
+    /**
+     * incremented on every change of the touch matrix or the content rect
+     */
+    protected int mMatrixVersion = 0;
+
     /**
      * minimum scale value on the y-axis
      */
@@ -114,6 +119,26 @@ public class ViewPortHandler {
                                  float offsetBottom) {
         mContentRect.set(offsetLeft, offsetTop, mChartWidth - offsetRight, mChartHeight
                 - offsetBottom);
+
+        mMatrixVersion++;
+    }
+
+    /**
+     * Returns a counter that changes whenever the touch matrix or the content rect changes.
+     * Transformers use it to find out whether their cached matrices are still valid.
+     *
+     * @return
+     */
+    public int getMatrixVersion() {
+        return mMatrixVersion;
+    }
+
+    /**
+     * Call this after modifying the matrix returned by getMatrixTouch() directly, so that the
+     * cached matrices of all Transformers are rebuilt.
+     */
+    public void notifyMatrixChanged() {
+        mMatrixVersion++;
     }
 
     public float offsetLeft() {
@@ -473,6 +498,9 @@ public class ViewPortHandler {
         matrixBuffer[Matrix.MSCALE_Y] = mScaleY;
 
         matrix.setValues(matrixBuffer);
+
+        if (matrix == mMatrixTouch)
+            mMatrixVersion++;
     }
 
     /**
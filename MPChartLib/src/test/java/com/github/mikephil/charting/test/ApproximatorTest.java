@@ -6,9 +6,12 @@ import com.github.mikephil.charting.data.filter.Approximator;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
 
 /**
  * Created by philipp on 07/06/16.
@@ -40,4 +43,41 @@ public class ApproximatorTest {
 
         assertEquals(18, reduced.length);
     }
+
+    @Test
+    public void testIterativeDouglasPeucker() {
+
+        Random random = new Random(5);
+
+        float[] points = new float[500 * 2];
+        float y = 0f;
+
+        for (int i = 0; i < 500; i++) {
+            y += random.nextFloat() * 10f - 5f;
+            points[i * 2] = i;
+            points[i * 2 + 1] = y;
+        }
+
+        Approximator approximator = new Approximator();
+
+        float[] expected = approximator.reduceWithDouglasPeucker(points, 3f);
+
+        float[] out = new float[points.length];
+        int count = approximator.reduceWithDouglasPeucker(points, 0, 499, 3f, out);
+
+        assertTrue(count < 500);
+        assertTrue(Arrays.equals(expected, Arrays.copyOf(out, count * 2)));
+
+        // only the window from point 100 to point 200
+        float[] window = Arrays.copyOfRange(points, 200, 402);
+        expected = approximator.reduceWithDouglasPeucker(window, 3f);
+
+        count = approximator.reduceWithDouglasPeucker(points, 100, 200, 3f, out);
+
+        assertTrue(Arrays.equals(expected, Arrays.copyOf(out, count * 2)));
+
+        // a straight line is reduced to its end points
+        float[] line = new float[]{0, 0, 1, 1, 2, 2, 3, 3};
+        assertEquals(2, approximator.reduceWithDouglasPeucker(line, 0, 3, 0.1f, out));
+    }
 }
@@ -1,12 +1,14 @@
 package com.github.mikephil.charting.test;
 
 import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.renderer.AxisRenderer;
 import com.github.mikephil.charting.renderer.YAxisRenderer;
 
 import org.junit.Test;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
 
 /**
  * Created by philipp on 31/05/16.
@@ -102,4 +104,82 @@ public class AxisRendererTest {
         assertEquals(30, entries[2], 0.0001);
         assertEquals(90, entries[entries.length - 1], 0.0001);
     }
+
+    @Test
+    public void testComputeAxisMemoization() {
+
+        YAxis yAxis = new YAxis();
+        yAxis.setLabelCount(6);
+        AxisRenderer renderer = new YAxisRenderer(null, yAxis, null);
+
+        renderer.computeAxis(0, 100, false);
+        float[] entries = yAxis.mEntries;
+
+        renderer.computeAxis(0, 100, false);
+
+        assertEquals(1, renderer.getAxisValuesComputeCount());
+        assertSame(entries, yAxis.mEntries);
+
+        renderer.computeAxis(0, 200, false);
+        assertEquals(2, renderer.getAxisValuesComputeCount());
+        assertEquals(180, yAxis.mEntries[yAxis.mEntryCount - 1], 0.0001);
+
+        yAxis.setLabelCount(3);
+        renderer.computeAxis(0, 200, false);
+        assertEquals(3, renderer.getAxisValuesComputeCount());
+
+        yAxis.setGranularity(150f);
+        renderer.computeAxis(0, 200, false);
+        assertEquals(4, renderer.getAxisValuesComputeCount());
+
+        renderer.invalidateAxisValues();
+        renderer.computeAxis(0, 200, false);
+        assertEquals(5, renderer.getAxisValuesComputeCount());
+    }
+
+    @Test
+    public void testLabelCache() {
+
+        final int[] calls = new int[1];
+
+        YAxis yAxis = new YAxis();
+        yAxis.setLabelCount(6);
+        yAxis.setValueFormatter(new ValueFormatter() {
+            @Override
+            public String getFormattedValue(float value) {
+                calls[0]++;
+                return value >= 100 ? "wide" : "n";
+            }
+        });
+
+        AxisRenderer renderer = new YAxisRenderer(null, yAxis, null);
+        renderer.computeAxis(0, 100, false);
+
+        int count = yAxis.mEntries.length;
+
+        assertEquals("wide", yAxis.getLongestLabel());
+        assertEquals("n", yAxis.getFormattedLabel(0));
+        assertEquals(count, calls[0]);
+
+        // unchanged axis, nothing is formatted again
+        renderer.computeAxis(0, 100, false);
+        yAxis.getLongestLabel();
+        yAxis.getFormattedLabel(1);
+        assertEquals(count, calls[0]);
+
+        renderer.computeAxis(0, 50, false);
+        assertEquals("n", yAxis.getLongestLabel());
+        assertEquals(count + yAxis.mEntries.length, calls[0]);
+
+        // a new formatter discards the labels without computing the axis again
+        yAxis.setValueFormatter(new ValueFormatter() {
+            @Override
+            public String getFormattedValue(float value) {
+                return value == 0 ? "zero" : "x";
+            }
+        });
+
+        assertEquals("zero", yAxis.getLongestLabel());
+        assertEquals("x", yAxis.getFormattedLabel(1));
+    }
 }
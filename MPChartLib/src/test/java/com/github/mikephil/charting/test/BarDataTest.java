@@ -1,5 +1,6 @@
 package com.github.mikephil.charting.test;
 
+import com.github.mikephil.charting.buffer.BarBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarDataSet;
 import com.github.mikephil.charting.data.BarEntry;
@@ -69,4 +70,32 @@ public class BarDataTest {
         assertEquals(15f, values1.get(1).getX(), 0.01f);
         assertEquals(26f, values2.get(1).getX(), 0.01f);
     }
+
+    @Test
+    public void testFeedVisibleRange() {
+
+        List<BarEntry> values = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            if (i % 2 == 0)
+                values.add(new BarEntry(i, 10));
+            else
+                values.add(new BarEntry(i, new float[]{5, 5}));
+        }
+
+        BarDataSet set = new BarDataSet(values, "");
+
+        BarBuffer buffer = new BarBuffer(0, 1, true);
+        buffer.setBarWidth(0.5f);
+        buffer.limitFrom(100);
+        buffer.limitTo(103);
+        buffer.feed(set);
+
+        // 2 single bars and 2 stacks of 2
+        assertEquals(6 * 4, buffer.size());
+        assertEquals(99.75f, buffer.buffer[0], 0.01f);
+        assertEquals(10f, buffer.buffer[1], 0.01f);
+        assertEquals(103.25f, buffer.buffer[22], 0.01f);
+        assertEquals(100, buffer.getLimitFrom());
+    }
 }
@@ -0,0 +1,183 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.RingBufferLineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.utils.BezierControlPoints;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class BezierControlPointsTest {
+
+    private void assertSameSegments(ILineDataSet set, BezierControlPoints points) {
+
+        BezierControlPoints expected = new BezierControlPoints();
+        expected.update(set);
+
+        int count = set.getEntryCount();
+        float[] a = new float[count * 6];
+        float[] b = new float[count * 6];
+
+        int length = expected.copySegments(0, count - 1, 0.5f, a, 0);
+        assertEquals(length, points.copySegments(0, count - 1, 0.5f, b, 0));
+
+        for (int i = 0; i < length; i++)
+            assertEquals(a[i], b[i], 0f);
+    }
+
+    @Test
+    public void testAppend() {
+
+        for (LineDataSet.Mode mode : new LineDataSet.Mode[]{LineDataSet.Mode.CUBIC_BEZIER,
+                LineDataSet.Mode.HORIZONTAL_BEZIER}) {
+
+            Random random = new Random(3);
+            LineDataSet set = new LineDataSet(new ArrayList<Entry>(), "");
+            set.setMode(mode);
+
+            BezierControlPoints points = new BezierControlPoints();
+
+            for (int i = 0; i < 100; i++) {
+
+                set.addEntry(new Entry(i, random.nextFloat() * 100f));
+                points.update(set);
+                assertSameSegments(set, points);
+            }
+
+            // every append recomputes at most the last two segments
+            assertEquals(197, points.getComputedSegmentCount());
+
+            // modified without a count change
+            long computed = points.getComputedSegmentCount();
+            points.update(set);
+            assertEquals(computed, points.getComputedSegmentCount());
+
+            // entries changed directly are reported with notifyDataSetChanged()
+            set.getEntryForIndex(50).setY(-5f);
+            set.notifyDataSetChanged();
+            points.update(set);
+            assertEquals(computed + 99, points.getComputedSegmentCount());
+            assertSameSegments(set, points);
+        }
+    }
+
+    @Test
+    public void testRingBuffer() {
+
+        Random random = new Random(4);
+        RingBufferLineDataSet set = new RingBufferLineDataSet(20, "");
+        set.setMode(LineDataSet.Mode.CUBIC_BEZIER);
+
+        BezierControlPoints points = new BezierControlPoints();
+
+        for (int i = 0; i < 200; i++) {
+
+            set.addEntry(i, random.nextFloat() * 100f);
+            points.update(set);
+            assertSameSegments(set, points);
+        }
+
+        // never more than the first and the last two segments per entry
+        assertTrue(points.getComputedSegmentCount() < 200 * 3);
+    }
+
+    @Test
+    public void testEditAndAppend() {
+
+        Random random = new Random(5);
+        LineDataSet set = new LineDataSet(new ArrayList<Entry>(), "");
+        set.setMode(LineDataSet.Mode.CUBIC_BEZIER);
+
+        for (int i = 0; i < 50; i++)
+            set.addEntry(new Entry(i, random.nextFloat() * 100f));
+
+        BezierControlPoints points = new BezierControlPoints();
+        points.update(set);
+
+        // a middle entry is changed and an entry appended, first and last old entries match
+        set.getEntryForIndex(25).setY(-5f);
+        set.notifyDataSetChanged();
+        set.addEntry(new Entry(50, 10f));
+
+        points.update(set);
+        assertSameSegments(set, points);
+    }
+
+    @Test
+    public void testColumnarEdits() {
+
+        Random random = new Random(6);
+        ColumnarLineDataSet set = new ColumnarLineDataSet(16, "");
+        set.setMode(LineDataSet.Mode.CUBIC_BEZIER);
+
+        for (int i = 0; i < 50; i++)
+            set.addEntry(i, random.nextFloat() * 100f);
+
+        BezierControlPoints points = new BezierControlPoints();
+        points.update(set);
+
+        // appending is proven by the unchanged edit count, only the last segments are computed
+        long computed = points.getComputedSegmentCount();
+        set.addEntry(50, 10f);
+        points.update(set);
+        assertEquals(computed + 2, points.getComputedSegmentCount());
+        assertSameSegments(set, points);
+
+        // an inserted value and an append
+        set.addEntry(20.5f, -20f);
+        set.addEntry(51, 10f);
+        points.update(set);
+        assertSameSegments(set, points);
+
+        // a removed value and an append
+        set.removeEntry(30);
+        set.addEntry(52, 0f);
+        points.update(set);
+        assertSameSegments(set, points);
+    }
+
+    @Test
+    public void testStreamingLineDataSet() {
+
+        Random random = new Random(7);
+        LineDataSet set = new LineDataSet(new ArrayList<Entry>(), "");
+        set.setMode(LineDataSet.Mode.CUBIC_BEZIER);
+
+        LineData data = new LineData(set);
+
+        BezierControlPoints points = new BezierControlPoints();
+
+        for (int i = 0; i < 200; i++) {
+
+            // the pattern of the realtime example: append, drop the oldest, notify the data
+            data.addEntry(new Entry(i, random.nextFloat() * 100f), 0);
+
+            if (set.getEntryCount() > 50)
+                set.removeFirst();
+
+            data.notifyDataChanged();
+
+            points.update(set);
+            assertSameSegments(set, points);
+        }
+
+        // never more than the first and the last two segments per entry
+        assertTrue(points.getComputedSegmentCount() < 200 * 3);
+
+        // an entry inserted in between is not an append
+        long computed = points.getComputedSegmentCount();
+        set.addEntryOrdered(new Entry(170.5f, -10f));
+        points.update(set);
+        assertEquals(computed + set.getEntryCount() - 1, points.getComputedSegmentCount());
+        assertSameSegments(set, points);
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.formatter.CachingValueFormatter;
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+import com.github.mikephil.charting.formatter.StackedValueFormatter;
+import com.github.mikephil.charting.formatter.ValueFormatter;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class CachingValueFormatterTest {
+
+    @Test
+    public void testLru() {
+
+        CachingValueFormatter formatter = new CachingValueFormatter(new DefaultValueFormatter(1), 3);
+
+        String a = formatter.getFormattedValue(1f);
+        assertEquals("1.0", a);
+        assertSame(a, formatter.getPointLabel(new Entry(5f, 1f)));
+
+        formatter.getFormattedValue(2f);
+        formatter.getFormattedValue(3f);
+
+        // 1 is used again, so adding 4 drops 2
+        assertSame(a, formatter.getFormattedValue(1f));
+        formatter.getFormattedValue(4f);
+
+        assertEquals(2, formatter.getHitCount());
+        assertEquals(4, formatter.getMissCount());
+
+        assertSame(a, formatter.getFormattedValue(1f));
+        assertEquals("2.0", formatter.getFormattedValue(2f));
+        assertEquals(5, formatter.getMissCount());
+
+        // -0 and 0 have different bit patterns
+        assertEquals("-0.0", formatter.getFormattedValue(-0f));
+        assertEquals("0.0", formatter.getFormattedValue(0f));
+    }
+
+    @Test
+    public void testOverriddenLabels() {
+
+        CachingValueFormatter formatter = new CachingValueFormatter(
+                new StackedValueFormatter(false, "", 1), 16);
+
+        BarEntry entry = new BarEntry(0f, new float[]{1f, 2f});
+
+        // entry dependent, passed through
+        assertEquals("", formatter.getBarStackedLabel(1f, entry));
+        assertEquals("3.0", formatter.getBarStackedLabel(2f, entry));
+        assertEquals(0, formatter.getMissCount() + formatter.getHitCount());
+    }
+
+    @Test
+    public void testChartData() {
+
+        ArrayList<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(0f, 1f));
+
+        LineDataSet set = new LineDataSet(entries, "");
+        ValueFormatter valueFormatter = new DefaultValueFormatter(2);
+        set.setValueFormatter(valueFormatter);
+
+        LineData data = new LineData(set);
+
+        assertSame(valueFormatter, data.getLabelFormatter(valueFormatter));
+
+        data.setLabelCacheEnabled(true);
+        ValueFormatter cached = data.getLabelFormatter(valueFormatter);
+
+        assertNotSame(valueFormatter, cached);
+        assertSame(cached, data.getLabelFormatter(valueFormatter));
+
+        cached.getPointLabel(entries.get(0));
+        cached.getPointLabel(entries.get(0));
+
+        assertEquals(1, data.getLabelCacheHitCount());
+        assertEquals(1, data.getLabelCacheMissCount());
+
+        data.notifyDataChanged();
+        cached.getPointLabel(entries.get(0));
+
+        assertTrue(data.getLabelCacheMissCount() == 2);
+    }
+}
@@ -0,0 +1,162 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+import com.github.mikephil.charting.formatter.LargeValueFormatter;
+import com.github.mikephil.charting.formatter.ValueFormatter;
+import com.github.mikephil.charting.utils.Utils;
+
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+
+public class CharValueFormatterTest {
+
+    private final char[] mBuffer = new char[64];
+
+    private void assertSameLabel(ValueFormatter formatter, float value) {
+
+        int length = ((com.github.mikephil.charting.formatter.ICharValueFormatter) formatter)
+                .getFormattedValue(value, mBuffer);
+
+        assertEquals("value " + value, formatter.getFormattedValue(value),
+                String.valueOf(mBuffer, 0, length));
+    }
+
+    private float[] createValues() {
+
+        Random random = new Random(5);
+        float[] values = new float[3000];
+
+        for (int i = 0; i < values.length; i++) {
+
+            switch (i % 3) {
+                case 0:
+                    values[i] = (random.nextFloat() - 0.5f) * 200f;
+                    break;
+                case 1:
+                    values[i] = (float) ((random.nextBoolean() ? 1 : -1)
+                            * Math.pow(10, random.nextFloat() * 14));
+                    break;
+                default:
+                    // ties for half-even rounding
+                    values[i] = (random.nextInt(20000) - 10000) / 8f;
+                    break;
+            }
+        }
+
+        return values;
+    }
+
+    @Test
+    public void testDefaultValueFormatter() {
+
+        float[] special = new float[]{0f, -0f, -0.001f, 0.125f, 0.375f, 2.5f, 3.5f, 999.995f,
+                1234567.125f, 1e20f, Float.NaN, Float.POSITIVE_INFINITY};
+
+        for (int digits = 0; digits < 5; digits++) {
+
+            DefaultValueFormatter formatter = new DefaultValueFormatter(digits);
+
+            for (float value : special)
+                assertSameLabel(formatter, value);
+
+            for (float value : createValues())
+                assertSameLabel(formatter, value);
+        }
+    }
+
+    @Test
+    public void testLargeValueFormatter() {
+
+        assertSameLabels(new LargeValueFormatter());
+    }
+
+    private void assertSameLabels(LargeValueFormatter formatter) {
+
+        float[] special = new float[]{0f, -0f, 1f, 5.5f, 50.5f, 999.5f, 1100f, 5821f, 99999f,
+                10500f, 9500000f, 99500000000f, 1000000000000f, -1234.5f};
+
+        for (float value : special)
+            assertSameLabel(formatter, value);
+
+        for (float value : createValues()) {
+            if (!isIntegerTie(value))
+                assertSameLabel(formatter, value);
+        }
+
+        formatter.setAppendix(" $");
+        formatter.setMaxLength(4);
+
+        for (float value : createValues()) {
+            if (!isIntegerTie(value))
+                assertSameLabel(formatter, value);
+        }
+    }
+
+    @Test
+    public void testNonLatinLocales() {
+
+        Locale defaultLocale = Locale.getDefault();
+
+        // Arabic-Indic and Persian digits with two-char minus signs, Thai digits, a comma as
+        // decimal separator
+        String[] tags = new String[]{"ar-EG", "fa", "th-TH-u-nu-thai", "de-DE"};
+
+        try {
+
+            for (String tag : tags) {
+
+                Locale.setDefault(Locale.forLanguageTag(tag));
+
+                for (int digits = 0; digits < 3; digits++) {
+
+                    DefaultValueFormatter formatter = new DefaultValueFormatter(digits);
+
+                    for (float value : new float[]{0f, -0f, -0.001f, -1234567.125f})
+                        assertSameLabel(formatter, value);
+
+                    for (float value : createValues())
+                        assertSameLabel(formatter, value);
+                }
+
+                assertSameLabels(new LargeValueFormatter());
+            }
+
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    /**
+     * Returns true for integers of four and more digits that lie exactly between two values
+     * with three significant digits, e.g. 1005. The JDK rounds those up instead of half-even.
+     */
+    private boolean isIntegerTie(float value) {
+
+        float abs = Math.abs(value);
+
+        if (abs < 1000 || abs != (long) abs)
+            return false;
+
+        long divisor = 1;
+        while (abs / divisor >= 1000)
+            divisor *= 10;
+
+        return (long) abs % divisor * 2 == divisor;
+    }
+
+    @Test
+    public void testFormatNumber() {
+
+        char[] out = new char[35];
+
+        for (float value : createValues()) {
+
+            int length = Utils.formatNumber(value, 2, true, '.', out);
+            assertEquals(Utils.formatNumber(value, 2, true), String.valueOf(out, 0, length));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class ColumnarLineDataSetTest {
+
+    @Test
+    public void testCalcMinMax() {
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet(
+                new float[]{10, 15, 21}, new float[]{10, 2, 5}, "");
+
+        assertEquals(10f, set.getXMin(), 0.01f);
+        assertEquals(21f, set.getXMax(), 0.01f);
+
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        assertEquals(3, set.getEntryCount());
+
+        set.addEntry(25, 1);
+
+        assertEquals(25f, set.getXMax(), 0.01f);
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(4, set.getEntryCount());
+
+        set.removeEntry(3);
+
+        assertEquals(21, set.getXMax(), 0.01f);
+        assertEquals(2f, set.getYMin(), 0.01f);
+
+        set.calcMinMaxY(15, 21);
+
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(5f, set.getYMax(), 0.01f);
+    }
+
+    @Test
+    public void testAddRemoveOrdered() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(21, 5));
+        entries.add(new Entry(10, 10));
+        entries.add(new Entry(15, 2));
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet(entries, "");
+
+        // sorted on creation
+        assertEquals(10, set.getXForIndex(0), 0.01f);
+        assertEquals(15, set.getXForIndex(1), 0.01f);
+        assertEquals(21, set.getXForIndex(2), 0.01f);
+
+        // grows beyond the initial capacity, inserts in order
+        set.addEntry(5, 1);
+        set.addEntry(15, 3);
+        set.addEntryOrdered(new Entry(30, 7));
+
+        assertEquals(6, set.getEntryCount());
+
+        assertEquals(5, set.getXForIndex(0), 0.01f);
+        assertEquals(2, set.getYForIndex(2), 0.01f);
+        assertEquals(3, set.getYForIndex(3), 0.01f);
+        assertEquals(30, set.getXForIndex(5), 0.01f);
+
+        assertEquals(3, set.getEntryIndex(new Entry(15, 3)));
+        assertEquals(-1, set.getEntryIndex(new Entry(15, 4)));
+        assertTrue(set.contains(new Entry(21, 5)));
+
+        assertTrue(set.removeEntry(new Entry(15, 2)));
+        assertFalse(set.removeEntry(new Entry(15, 2)));
+
+        assertTrue(set.removeFirst());
+        assertTrue(set.removeLast());
+
+        assertEquals(3, set.getEntryCount());
+        assertEquals(10, set.getXForIndex(0), 0.01f);
+        assertEquals(21, set.getXForIndex(2), 0.01f);
+    }
+
+    @Test
+    public void testGetEntryForXValue() {
+
+        ColumnarLineDataSet set = new ColumnarLineDataSet(
+                new float[]{0, 10, 10, 10, 20}, new float[]{1, 2, 5, 8, 3}, "");
+
+        assertEquals(1, set.getEntryIndex(9, Float.NaN, DataSet.Rounding.CLOSEST));
+        assertEquals(0, set.getEntryIndex(9, Float.NaN, DataSet.Rounding.DOWN));
+        assertEquals(4, set.getEntryIndex(11, Float.NaN, DataSet.Rounding.UP));
+
+        Entry closest = set.getEntryForXValue(10, 6);
+        assertEquals(10, closest.getX(), 0.01f);
+        assertEquals(5, closest.getY(), 0.01f);
+
+        assertEquals(3, set.getEntriesForXValue(10).size());
+        assertEquals(0, set.getEntriesForXValue(11).size());
+
+        float[] buffer = new float[6];
+        assertEquals(6, set.copyValues(buffer, 0, 2, 4, 0.5f));
+        assertEquals(10, buffer[0], 0.01f);
+        assertEquals(2.5f, buffer[1], 0.01f);
+        assertEquals(20, buffer[4], 0.01f);
+        assertEquals(1.5f, buffer[5], 0.01f);
+    }
+}
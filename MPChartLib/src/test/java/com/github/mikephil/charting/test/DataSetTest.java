@@ -7,7 +7,9 @@ import com.github.mikephil.charting.data.ScatterDataSet;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
@@ -235,4 +237,164 @@ public class DataSetTest {
         assertEquals(1, entries.size());
         assertEquals(30, entries.get(0).getY(), 0.01f);
     }
+
+    @Test
+    public void testGetEntriesForXValueIntoList() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(1, 10));
+        entries.add(new Entry(2, 20));
+        entries.add(new Entry(2, 30));
+        entries.add(new Entry(3, 40));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        List<Entry> output = new ArrayList<Entry>();
+
+        set.getEntriesForXValue(2f, output);
+        assertEquals(2, output.size());
+        assertEquals(20, output.get(0).getY(), 0.01f);
+        assertEquals(30, output.get(1).getY(), 0.01f);
+
+        // the list is cleared before it is filled
+        set.getEntriesForXValue(3f, output);
+        assertEquals(1, output.size());
+        assertEquals(40, output.get(0).getY(), 0.01f);
+
+        set.getEntriesForXValue(2.5f, output);
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    public void testGetEntryIndexRange() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(0, 10));
+        entries.add(new Entry(10, 20));
+        entries.add(new Entry(20, 30));
+        entries.add(new Entry(30, 40));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        int[] range = new int[2];
+
+        set.getEntryIndexRange(11, 19, range);
+        assertEquals(1, range[0]);
+        assertEquals(2, range[1]);
+
+        set.getEntryIndexRange(-5, 100, range);
+        assertEquals(0, range[0]);
+        assertEquals(3, range[1]);
+
+        set.getEntryIndexRange(10, 10, range);
+        assertEquals(1, range[0]);
+        assertEquals(1, range[1]);
+
+        set.clear();
+
+        set.getEntryIndexRange(10, 20, range);
+        assertEquals(0, range[0]);
+        assertEquals(0, range[1]);
+    }
+
+    @Test
+    public void testYRangeIndex() {
+
+        Random random = new Random(3);
+
+        ScatterDataSet indexed = new ScatterDataSet(new ArrayList<Entry>(), "");
+        ScatterDataSet plain = new ScatterDataSet(new ArrayList<Entry>(), "");
+
+        indexed.setYRangeIndexEnabled(true);
+
+        for (int i = 0; i < 200; i++) {
+            float y = random.nextFloat() * 100f - 50f;
+            indexed.addEntry(new Entry(i, y));
+            plain.addEntry(new Entry(i, y));
+        }
+
+        assertYRangeEquals(plain, indexed, random);
+
+        // appended entries keep the index up to date
+        indexed.addEntry(new Entry(200, 500f));
+        plain.addEntry(new Entry(200, 500f));
+
+        indexed.calcMinMaxY(150, 200);
+        assertEquals(500f, indexed.getYMax(), 0f);
+
+        assertYRangeEquals(plain, indexed, random);
+
+        // removing entries rebuilds the index
+        for (int i = 0; i < 50; i++) {
+            int index = random.nextInt(indexed.getEntryCount());
+            Entry e = indexed.getEntryForIndex(index);
+            assertTrue(indexed.removeEntry(e));
+            assertTrue(plain.removeEntry(plain.getEntryForIndex(index)));
+        }
+
+        assertEquals(151, indexed.getEntryCount());
+        assertYRangeEquals(plain, indexed, random);
+    }
+
+    @Test
+    public void testColorArray() {
+
+        ScatterDataSet set = new ScatterDataSet(new ArrayList<Entry>(), "");
+
+        assertEquals(1, set.getColorArray().length);
+        assertEquals((int) set.getColors().get(0), set.getColorArray()[0]);
+
+        set.setColors(1, 2, 3);
+        assertEquals(3, set.getColorArray().length);
+        assertEquals(3, set.getColorArray()[2]);
+
+        set.addColor(4);
+        assertEquals(4, set.getColorArray().length);
+        assertEquals(4, set.getColorArray()[3]);
+
+        int[] colors = set.getColorArray();
+
+        set.setColor(5);
+        assertEquals(1, set.getColorArray().length);
+        assertEquals(5, set.getColorArray()[0]);
+
+        // arrays handed out before are not changed
+        assertEquals(1, colors[0]);
+
+        // colors added to the list directly are picked up
+        set.getColors().add(6);
+        assertEquals(2, set.getColorArray().length);
+        assertEquals(6, set.getColorArray()[1]);
+
+        // as are colors replaced in the list directly, without changing its size
+        colors = set.getColorArray();
+
+        set.getColors().set(0, 7);
+        assertEquals(2, set.getColorArray().length);
+        assertEquals(7, set.getColorArray()[0]);
+        assertEquals(5, colors[0]);
+
+        set.getColors().clear();
+        set.getColors().addAll(Arrays.asList(8, 9));
+        assertEquals(8, set.getColorArray()[0]);
+        assertEquals(9, set.getColorArray()[1]);
+
+        set.resetColors();
+        assertEquals(0, set.getColorArray().length);
+    }
+
+    private void assertYRangeEquals(ScatterDataSet plain, ScatterDataSet indexed, Random random) {
+
+        for (int i = 0; i < 100; i++) {
+
+            float from = random.nextFloat() * 220f - 10f;
+            float to = from + random.nextFloat() * 80f;
+
+            plain.calcMinMaxY(from, to);
+            indexed.calcMinMaxY(from, to);
+
+            assertEquals(plain.getYMin(), indexed.getYMin(), 0f);
+            assertEquals(plain.getYMax(), indexed.getYMax(), 0f);
+        }
+    }
 }
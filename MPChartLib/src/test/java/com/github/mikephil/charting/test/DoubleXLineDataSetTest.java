@@ -0,0 +1,63 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.DoubleXLineDataSet;
+import com.github.mikephil.charting.data.Entry;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class DoubleXLineDataSetTest {
+
+    @Test
+    public void testMillisecondTimestamps() {
+
+        // 2023-11-14, one value per millisecond, 1.7e12 does not fit into a float exactly
+        final double start = 1700000000000.0;
+
+        DoubleXLineDataSet set = new DoubleXLineDataSet(start, 16, "");
+
+        for (int i = 0; i < 1000; i++)
+            set.addEntry(start + i, i % 7);
+
+        assertEquals(1000, set.getEntryCount());
+        assertEquals(0f, set.getXMin(), 0f);
+        assertEquals(999f, set.getXMax(), 0f);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals((float) i, set.getXForIndex(i), 0f);
+            assertEquals(start + i, set.getXDoubleForIndex(i), 0.0);
+            assertEquals(i, set.getEntryIndex(start + i, Float.NaN, DataSet.Rounding.CLOSEST));
+            assertEquals(i, set.getEntryIndex((float) i, Float.NaN, DataSet.Rounding.CLOSEST));
+        }
+
+        assertEquals(3, set.getEntryIndex(start + 2.5, Float.NaN, DataSet.Rounding.UP));
+        assertEquals(2, set.getEntryIndex(start + 2.5, Float.NaN, DataSet.Rounding.DOWN));
+
+        Entry e = set.getEntryForIndex(500);
+        assertEquals(500f, e.getX(), 0f);
+        assertEquals(500, set.getEntryIndex(e));
+        assertEquals(start + 500, set.toAbsoluteX(e.getX()), 0.0);
+    }
+
+    @Test
+    public void testOrigin() {
+
+        DoubleXLineDataSet set = new DoubleXLineDataSet(1000.0,
+                new double[]{1000.0, 1001.0, 1003.0}, new float[]{1f, 2f, 3f}, "");
+
+        // out of order, relative to the origin
+        set.addEntry(new Entry(2f, 5f));
+
+        assertEquals(4, set.getEntryCount());
+        assertEquals(1002.0, set.getXDoubleForIndex(2), 0.0);
+        assertEquals(5f, set.getYMax(), 0f);
+
+        set.setXOrigin(1001.0);
+
+        assertEquals(-1f, set.getXMin(), 0f);
+        assertEquals(2f, set.getXMax(), 0f);
+        assertEquals(1, set.getEntriesForXValue(1f).size());
+    }
+}
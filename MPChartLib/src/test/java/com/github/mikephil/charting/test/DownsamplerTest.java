@@ -0,0 +1,95 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.filter.LttbDownsampler;
+import com.github.mikephil.charting.data.filter.M4Downsampler;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class DownsamplerTest {
+
+    private float[] createPoints(int count) {
+
+        Random random = new Random(11);
+        float[] points = new float[count * 2];
+
+        for (int i = 0; i < count; i++) {
+            points[i * 2] = i;
+            points[i * 2 + 1] = random.nextFloat() * 100f;
+        }
+
+        // a single spike
+        points[count + 1] = 1000f;
+
+        return points;
+    }
+
+    @Test
+    public void testLttb() {
+
+        float[] points = createPoints(1000);
+        float[] out = new float[100 * 2];
+
+        int count = new LttbDownsampler().downsample(points, 1000, 100, out);
+
+        assertEquals(100, count);
+        assertEquals(0f, out[0], 0f);
+        assertEquals(999f, out[198], 0f);
+
+        boolean spike = false;
+
+        for (int i = 1; i < count; i++) {
+            assertTrue(out[i * 2] > out[i * 2 - 2]);
+            spike |= out[i * 2 + 1] == 1000f;
+        }
+
+        assertTrue(spike);
+    }
+
+    @Test
+    public void testM4() {
+
+        float[] points = createPoints(1000);
+
+        M4Downsampler m4 = new M4Downsampler();
+
+        int target = m4.getTargetPointCount(50);
+        float[] out = new float[target * 2];
+
+        int count = m4.downsample(points, 1000, target, out);
+
+        assertTrue(count <= target);
+        assertEquals(0f, out[0], 0f);
+        assertEquals(999f, out[count * 2 - 2], 0f);
+
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+
+        for (int i = 0; i < 1000; i++) {
+            min = Math.min(min, points[i * 2 + 1]);
+            max = Math.max(max, points[i * 2 + 1]);
+        }
+
+        float outMin = Float.MAX_VALUE;
+        float outMax = -Float.MAX_VALUE;
+
+        for (int i = 0; i < count; i++) {
+
+            if (i > 0)
+                assertTrue(out[i * 2] > out[i * 2 - 2]);
+
+            outMin = Math.min(outMin, out[i * 2 + 1]);
+            outMax = Math.max(outMax, out[i * 2 + 1]);
+        }
+
+        assertEquals(min, outMin, 0f);
+        assertEquals(max, outMax, 0f);
+
+        // nothing to reduce
+        assertEquals(10, m4.downsample(points, 10, target, out));
+    }
+}
@@ -0,0 +1,417 @@
+package com.github.mikephil.charting.test;
+
+import android.content.Context;
+import android.graphics.RectF;
+
+import com.github.mikephil.charting.charts.BarChart;
+import com.github.mikephil.charting.charts.CombinedChart;
+import com.github.mikephil.charting.charts.HorizontalBarChart;
+import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.BarData;
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.data.BubbleData;
+import com.github.mikephil.charting.data.CandleData;
+import com.github.mikephil.charting.data.CombinedData;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.formatter.ValueFormatter;
+import com.github.mikephil.charting.highlight.BarHighlighter;
+import com.github.mikephil.charting.highlight.ChartHighlighter;
+import com.github.mikephil.charting.highlight.CombinedHighlighter;
+import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.highlight.HorizontalBarHighlighter;
+import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.interfaces.dataprovider.CombinedDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Tests the highlighters of the bar-line charts against a chart whose values are their pixel
+ * positions. The Matrix class is a stub on the JVM, so the Transformer maps points 1:1.
+ */
+public class HighlighterTest {
+
+    private static class IdentityTransformer extends Transformer {
+
+        IdentityTransformer() {
+            super(new ViewPortHandler());
+        }
+
+        @Override
+        public void pointValuesToPixel(float[] pts) {
+        }
+
+        @Override
+        public void pixelsToValue(float[] pixels) {
+        }
+    }
+
+    private static class StubChart implements CombinedDataProvider {
+
+        private final BarLineScatterCandleBubbleData mData;
+        private final Transformer mTransformer = new IdentityTransformer();
+
+        StubChart(BarLineScatterCandleBubbleData data) {
+            mData = data;
+        }
+
+        @Override
+        public Transformer getTransformer(YAxis.AxisDependency axis) {
+            return mTransformer;
+        }
+
+        @Override
+        public BarLineScatterCandleBubbleData getData() {
+            return mData;
+        }
+
+        @Override
+        public CombinedData getCombinedData() {
+            return (CombinedData) mData;
+        }
+
+        @Override
+        public BarData getBarData() {
+            if (mData instanceof CombinedData)
+                return ((CombinedData) mData).getBarData();
+            return mData instanceof BarData ? (BarData) mData : null;
+        }
+
+        @Override
+        public LineData getLineData() {
+            return mData instanceof LineData ? (LineData) mData : null;
+        }
+
+        @Override
+        public float getMaxHighlightDistance() {
+            return 500f;
+        }
+
+        @Override
+        public boolean isHighlightFullBarEnabled() {
+            return false;
+        }
+
+        @Override
+        public boolean isInverted(YAxis.AxisDependency axis) {
+            return false;
+        }
+
+        @Override
+        public YAxis getAxis(YAxis.AxisDependency dependency) {
+            return null;
+        }
+
+        @Override
+        public ScatterData getScatterData() {
+            return null;
+        }
+
+        @Override
+        public CandleData getCandleData() {
+            return null;
+        }
+
+        @Override
+        public BubbleData getBubbleData() {
+            return null;
+        }
+
+        @Override
+        public boolean isDrawBarShadowEnabled() {
+            return false;
+        }
+
+        @Override
+        public boolean isDrawValueAboveBarEnabled() {
+            return true;
+        }
+
+        @Override
+        public float getLowestVisibleX() {
+            return mData.getXMin();
+        }
+
+        @Override
+        public float getHighestVisibleX() {
+            return mData.getXMax();
+        }
+
+        @Override
+        public float getXChartMin() {
+            return mData.getXMin();
+        }
+
+        @Override
+        public float getXChartMax() {
+            return mData.getXMax();
+        }
+
+        @Override
+        public float getXRange() {
+            return mData.getXMax() - mData.getXMin();
+        }
+
+        @Override
+        public float getYChartMin() {
+            return mData.getYMin();
+        }
+
+        @Override
+        public float getYChartMax() {
+            return mData.getYMax();
+        }
+
+        @Override
+        public int getWidth() {
+            return 0;
+        }
+
+        @Override
+        public int getHeight() {
+            return 0;
+        }
+
+        @Override
+        public MPPointF getCenterOfView() {
+            return null;
+        }
+
+        @Override
+        public MPPointF getCenterOffsets() {
+            return null;
+        }
+
+        @Override
+        public RectF getContentRect() {
+            return null;
+        }
+
+        @Override
+        public ValueFormatter getDefaultValueFormatter() {
+            return null;
+        }
+
+        @Override
+        public int getMaxVisibleCount() {
+            return 100;
+        }
+    }
+
+    /**
+     * Two line DataSets, y = x and y = 2x for x = 0..9.
+     */
+    private LineData createLineData() {
+
+        List<Entry> first = new ArrayList<Entry>();
+        List<Entry> second = new ArrayList<Entry>();
+
+        for (int i = 0; i < 10; i++) {
+            first.add(new Entry(i, i));
+            second.add(new Entry(i, i * 2));
+        }
+
+        return new LineData(new LineDataSet(first, ""), new LineDataSet(second, ""));
+    }
+
+    /**
+     * A stacked bar with the values 2 and 3 at x = 1, 3 and 4 at x = 2.
+     */
+    private BarData createStackedBarData() {
+
+        List<BarEntry> entries = new ArrayList<BarEntry>();
+        entries.add(new BarEntry(1, new float[]{2, 3}));
+        entries.add(new BarEntry(2, new float[]{3, 4}));
+
+        return new BarData(new BarDataSet(entries, ""));
+    }
+
+    private void assertHighlight(Highlight h, float x, float y, int dataSetIndex, int stackIndex) {
+        assertEquals(x, h.getX(), 0f);
+        assertEquals(y, h.getY(), 0f);
+        assertEquals(dataSetIndex, h.getDataSetIndex());
+        assertEquals(stackIndex, h.getStackIndex());
+    }
+
+    @Test
+    public void testChartHighlighter() {
+
+        ChartHighlighter<BarLineScatterCandleBubbleDataProvider> highlighter =
+                new ChartHighlighter<BarLineScatterCandleBubbleDataProvider>(new StubChart(createLineData()));
+
+        Highlight out = new Highlight();
+
+        assertHighlight(highlighter.getHighlight(3.2f, 3.5f), 3, 3, 0, -1);
+        assertSame(out, highlighter.getHighlight(3.2f, 3.5f, out));
+        assertHighlight(out, 3, 3, 0, -1);
+
+        // kept results are not changed by later queries
+        Highlight kept = highlighter.getHighlight(5f, 9f);
+        assertHighlight(highlighter.getHighlight(5f, 9f, out), 5, 10, 1, -1);
+        highlighter.getHighlight(1f, 1f, out);
+        assertHighlight(kept, 5, 10, 1, -1);
+
+        // too far away from every value
+        assertNull(highlighter.getHighlight(5f, 800f, out));
+    }
+
+    @Test
+    public void testGetHighlightOverride() {
+
+        ChartHighlighter<BarLineScatterCandleBubbleDataProvider> highlighter =
+                new ChartHighlighter<BarLineScatterCandleBubbleDataProvider>(new StubChart(createLineData())) {
+
+                    @Override
+                    public Highlight getHighlight(float x, float y) {
+                        Highlight h = super.getHighlight(x, y);
+                        return h == null ? null : new Highlight(h.getX() + 100f, h.getY(), 1);
+                    }
+                };
+
+        Highlight out = new Highlight();
+
+        assertSame(out, highlighter.getHighlight(3.2f, 3.5f, out));
+        assertHighlight(out, 103, 3, 1, -1);
+    }
+
+    @Test
+    public void testBuildHighlightsOverride() {
+
+        ChartHighlighter<BarLineScatterCandleBubbleDataProvider> highlighter =
+                new ChartHighlighter<BarLineScatterCandleBubbleDataProvider>(new StubChart(createLineData())) {
+
+                    @Override
+                    protected List<Highlight> buildHighlights(IDataSet set, int dataSetIndex, float xVal,
+                                                              DataSet.Rounding rounding) {
+                        // the first DataSet cannot be highlighted
+                        if (dataSetIndex == 0)
+                            return new ArrayList<Highlight>();
+                        return super.buildHighlights(set, dataSetIndex, xVal, rounding);
+                    }
+                };
+
+        Highlight out = new Highlight();
+
+        assertHighlight(highlighter.getHighlight(3.2f, 3.5f), 3, 6, 1, -1);
+        assertHighlight(highlighter.getHighlight(3.2f, 3.5f, out), 3, 6, 1, -1);
+    }
+
+    @Test
+    public void testBarHighlighter() {
+
+        BarHighlighter highlighter = new BarHighlighter(new StubChart(createStackedBarData()));
+
+        Highlight out = new Highlight();
+
+        assertHighlight(highlighter.getHighlight(1.1f, 1f, out), 1, 5, 0, 0);
+        assertHighlight(highlighter.getHighlight(1.1f, 4f, out), 1, 5, 0, 1);
+        assertHighlight(highlighter.getHighlight(1.9f, 6f), 2, 7, 0, 1);
+    }
+
+    @Test
+    public void testHorizontalBarHighlighter() {
+
+        HorizontalBarHighlighter highlighter = new HorizontalBarHighlighter(new StubChart(createStackedBarData()));
+
+        Highlight out = new Highlight();
+
+        // the chart passes the touch point with x and y switched, the x-values are vertical
+        assertHighlight(highlighter.getHighlight(1f, 1f, out), 1, 5, 0, 0);
+        assertHighlight(highlighter.getHighlight(1.1f, 4f, out), 1, 5, 0, 1);
+        assertHighlight(highlighter.getHighlight(2f, 6f), 2, 7, 0, 1);
+    }
+
+    @Test
+    public void testCombinedHighlighter() {
+
+        CombinedData data = new CombinedData();
+        data.setData(createLineData());
+        data.setData(createStackedBarData());
+
+        StubChart chart = new StubChart(data);
+        CombinedHighlighter highlighter = new CombinedHighlighter(chart, chart);
+
+        Highlight out = new Highlight();
+
+        // the line values come first in the combined data
+        highlighter.getHighlight(3.1f, 6.2f, out);
+        assertHighlight(out, 3, 6, 1, -1);
+        assertEquals(0, out.getDataIndex());
+
+        Highlight h = highlighter.getHighlight(1f, 4.5f);
+        assertHighlight(h, 1, 5, 0, 1);
+        assertEquals(1, h.getDataIndex());
+
+        // the override of the legacy method is used for the DataSets of the non-bar data
+        highlighter = new CombinedHighlighter(chart, chart) {
+
+            @Override
+            protected List<Highlight> buildHighlights(IDataSet set, int dataSetIndex, float xVal,
+                                                      DataSet.Rounding rounding) {
+                if (dataSetIndex == 1)
+                    return new ArrayList<Highlight>();
+                return super.buildHighlights(set, dataSetIndex, xVal, rounding);
+            }
+        };
+
+        // the bar at x = 2 is closer than the first line DataSet
+        highlighter.getHighlight(3.1f, 6.2f, out);
+        assertHighlight(out, 2, 7, 0, 1);
+        assertEquals(1, out.getDataIndex());
+    }
+
+    /**
+     * A chart that customizes touch highlighting through the legacy method only.
+     */
+    private static class LegacyLineChart extends LineChart {
+
+        public LegacyLineChart(Context context) {
+            super(context);
+        }
+
+        @Override
+        public Highlight getHighlightByTouchPoint(float x, float y) {
+            return null;
+        }
+    }
+
+    @Test
+    public void testLegacyOverloadDetection() {
+
+        Class<?>[] legacy = new Class<?>[]{float.class, float.class};
+        Class<?>[] pooled = new Class<?>[]{float.class, float.class, Highlight.class};
+
+        assertFalse(Utils.isLegacyOverloadOverridden(ChartHighlighter.class, "getHighlight", legacy, pooled));
+        assertFalse(Utils.isLegacyOverloadOverridden(BarHighlighter.class, "getHighlight", legacy, pooled));
+        assertFalse(Utils.isLegacyOverloadOverridden(HorizontalBarHighlighter.class, "getHighlight", legacy, pooled));
+        assertFalse(Utils.isLegacyOverloadOverridden(CombinedHighlighter.class, "getHighlight", legacy, pooled));
+
+        // the library charts override both methods
+        assertFalse(Utils.isLegacyOverloadOverridden(LineChart.class, "getHighlightByTouchPoint", legacy, pooled));
+        assertFalse(Utils.isLegacyOverloadOverridden(BarChart.class, "getHighlightByTouchPoint", legacy, pooled));
+        assertFalse(Utils.isLegacyOverloadOverridden(HorizontalBarChart.class, "getHighlightByTouchPoint", legacy, pooled));
+        assertFalse(Utils.isLegacyOverloadOverridden(CombinedChart.class, "getHighlightByTouchPoint", legacy, pooled));
+
+        assertTrue(Utils.isLegacyOverloadOverridden(LegacyLineChart.class, "getHighlightByTouchPoint", legacy, pooled));
+    }
+}
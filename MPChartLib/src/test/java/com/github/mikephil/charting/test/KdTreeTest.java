@@ -0,0 +1,98 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.utils.KdTree;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+
+public class KdTreeTest {
+
+    private int bruteForceNearest(ScatterDataSet set, float x, float y, float scaleX,
+                                  float scaleY, float maxDistance) {
+
+        int nearest = -1;
+        float best = maxDistance * maxDistance;
+
+        for (int i = 0; i < set.getEntryCount(); i++) {
+
+            Entry e = set.getEntryForIndex(i);
+            float dx = (x - e.getX()) * scaleX;
+            float dy = (y - e.getY()) * scaleY;
+            float distance = dx * dx + dy * dy;
+
+            if (distance < best) {
+                best = distance;
+                nearest = i;
+            }
+        }
+
+        return nearest;
+    }
+
+    @Test
+    public void testNearest() {
+
+        Random random = new Random(7);
+        ArrayList<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            // only 50 distinct x-values
+            entries.add(new Entry(random.nextInt(50), random.nextFloat() * 1000f));
+        }
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        assertNull(set.getSpatialIndex());
+        set.setSpatialIndexEnabled(true);
+
+        KdTree index = set.getSpatialIndex();
+        assertEquals(5000, index.size());
+
+        for (int i = 0; i < 500; i++) {
+
+            float x = random.nextFloat() * 60f - 5f;
+            float y = random.nextFloat() * 1100f - 50f;
+
+            int expected = bruteForceNearest(set, x, y, 20f, -0.5f, 30f);
+            int actual = index.nearest(x, y, 20f, -0.5f, 30f);
+
+            if (expected != actual) {
+                // ties are allowed to resolve differently
+                Entry a = set.getEntryForIndex(expected);
+                Entry b = set.getEntryForIndex(actual);
+                assertEquals(Math.hypot((x - a.getX()) * 20f, (y - a.getY()) * 0.5f),
+                        Math.hypot((x - b.getX()) * 20f, (y - b.getY()) * 0.5f), 1e-3);
+            }
+        }
+    }
+
+    @Test
+    public void testRebuild() {
+
+        ScatterDataSet set = new ScatterDataSet(new ArrayList<Entry>(), "");
+        set.setSpatialIndexEnabled(true);
+
+        assertEquals(-1, set.getSpatialIndex().nearest(0f, 0f, 1f, 1f, 10f));
+
+        set.addEntry(new Entry(1f, 1f));
+        set.addEntry(new Entry(5f, 5f));
+
+        assertEquals(1, set.getSpatialIndex().nearest(4f, 4f, 1f, 1f, 10f));
+
+        // too far away
+        assertEquals(-1, set.getSpatialIndex().nearest(20f, 20f, 1f, 1f, 10f));
+
+        set.getEntryForIndex(1).setY(50f);
+        set.notifyDataSetChanged();
+
+        assertEquals(0, set.getSpatialIndex().nearest(4f, 4f, 1f, 1f, 10f));
+        assertEquals(1, set.getSpatialIndex().nearest(5f, 50f, 1f, 1f, 1f));
+    }
+}
@@ -0,0 +1,191 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.utils.LevelOfDetailPyramid;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class LevelOfDetailPyramidTest {
+
+    @Test
+    public void testBuckets() {
+
+        Random random = new Random(3);
+
+        List<Entry> entries = new ArrayList<Entry>();
+        for (int i = 0; i < 1001; i++) {
+            entries.add(new Entry(i, random.nextFloat() * 100f));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        assertNull(set.getLevelOfDetail());
+
+        set.setLevelOfDetailEnabled(true);
+        LevelOfDetailPyramid lod = set.getLevelOfDetail();
+
+        assertEquals(1001, lod.getEntryCount());
+        assertEquals(9, lod.getMaxLevel());
+
+        for (int level = 1; level <= lod.getMaxLevel(); level++) {
+
+            int bucketSize = 1 << level;
+
+            for (int b = 0; b < lod.getBucketCount(level); b++) {
+
+                float min = Float.MAX_VALUE;
+                float max = -Float.MAX_VALUE;
+
+                for (int i = b * bucketSize; i < Math.min((b + 1) * bucketSize, 1001); i++) {
+                    min = Math.min(min, entries.get(i).getY());
+                    max = Math.max(max, entries.get(i).getY());
+                }
+
+                assertEquals(min, entries.get(lod.getMinIndex(level, b)).getY(), 0f);
+                assertEquals(max, entries.get(lod.getMaxIndex(level, b)).getY(), 0f);
+            }
+        }
+
+        int[] indices = new int[4 * 20];
+        int count = lod.getIndices(4, 10, 100, indices);
+
+        assertEquals(0, indices[0]);
+        assertEquals(111, indices[count - 1]);
+
+        for (int i = 1; i < count; i++) {
+            assertTrue(indices[i] > indices[i - 1]);
+        }
+
+        // appending invalidates the pyramid
+        set.addEntry(new Entry(1001, 500f));
+        lod = set.getLevelOfDetail();
+
+        assertEquals(1002, lod.getEntryCount());
+        assertEquals(1001, lod.getMaxIndex(lod.getMaxLevel(), lod.getBucketCount(lod.getMaxLevel()) - 1));
+    }
+
+    /**
+     * Asserts that the given indices are ascending, cover the entries from index "from" to
+     * index "to" and only skip entries within one bucket of at most maxXSpan.
+     */
+    private void assertRepresents(LineDataSet set, int[] indices, int count, int from, int to,
+                                  float maxXSpan) {
+
+        assertTrue(count > 1);
+        assertTrue(indices[0] <= from);
+        assertTrue(indices[count - 1] >= to);
+
+        for (int i = 1; i < count; i++) {
+
+            assertTrue(indices[i] > indices[i - 1]);
+
+            if (indices[i] > indices[i - 1] + 1) {
+                float span = set.getEntryForIndex(indices[i]).getX()
+                        - set.getEntryForIndex(indices[i - 1]).getX();
+                assertTrue(span <= maxXSpan);
+            }
+        }
+    }
+
+    private boolean contains(int[] indices, int count, int index) {
+
+        for (int i = 0; i < count; i++) {
+            if (indices[i] == index)
+                return true;
+        }
+
+        return false;
+    }
+
+    @Test
+    public void testUnevenSpacing() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        // dense values, 100 per x-unit
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new Entry(i * 0.01f, i % 10));
+        }
+
+        // followed by sparse values, one every 10 x-units
+        for (int i = 0; i < 24; i++) {
+            entries.add(new Entry(10f + i * 10f, i % 3));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+        set.setLevelOfDetailEnabled(true);
+        LevelOfDetailPyramid lod = set.getLevelOfDetail();
+
+        int[] indices = new int[2048];
+
+        // the dense values are drawn from buckets of 16, the sparse ones all
+        int count = lod.getIndices(set, 0, 1023, 0.2f, indices);
+
+        assertRepresents(set, indices, count, 0, 1023, 0.2f);
+        assertTrue(count < 1000 / 16 * 4 + 24 + 8);
+
+        for (int i = 1000; i < 1024; i++) {
+            assertTrue(contains(indices, count, i));
+        }
+
+        // the two buckets of the top level fit if the pixels are wide enough
+        count = lod.getIndices(set, 0, 1023, 1000f, indices);
+        assertRepresents(set, indices, count, 0, 1023, 1000f);
+        assertTrue(count <= 8);
+
+        // too small arrays are reported
+        assertEquals(-1, lod.getIndices(set, 0, 1023, 0.2f, new int[16]));
+    }
+
+    @Test
+    public void testGapNearEnd() {
+
+        Random random = new Random(5);
+        List<Entry> entries = new ArrayList<Entry>();
+
+        // dense values with a dropout near the end of the range
+        for (int i = 0; i < 10000; i++) {
+            float x = i * 0.01f + (i >= 9990 ? 50f : 0f);
+            entries.add(new Entry(x, random.nextFloat() * 100f));
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+        set.setLevelOfDetailEnabled(true);
+        LevelOfDetailPyramid lod = set.getLevelOfDetail();
+
+        int[] indices = new int[10000];
+        int count = lod.getIndices(set, 0, 9999, 1f, indices);
+
+        assertRepresents(set, indices, count, 0, 9999, 1f);
+
+        // buckets of 64 entries fit into a pixel, only the buckets around the gap are split
+        assertTrue(count < 10000 / 64 * 4 + 64 * 4);
+
+        // both sides of the gap are drawn
+        assertTrue(contains(indices, count, 9989));
+        assertTrue(contains(indices, count, 9990));
+
+        // the minimum and maximum of the visible entries are kept
+        int min = 0;
+        int max = 0;
+
+        for (int i = 1; i < 10000; i++) {
+            if (entries.get(i).getY() < entries.get(min).getY())
+                min = i;
+            if (entries.get(i).getY() > entries.get(max).getY())
+                max = i;
+        }
+
+        assertTrue(contains(indices, count, min));
+        assertTrue(contains(indices, count, max));
+    }
+}
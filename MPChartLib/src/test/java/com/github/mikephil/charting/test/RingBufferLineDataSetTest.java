@@ -0,0 +1,145 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.RingBufferLineDataSet;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class RingBufferLineDataSetTest {
+
+    @Test
+    public void testEviction() {
+
+        RingBufferLineDataSet set = new RingBufferLineDataSet(3, "");
+
+        set.addEntry(0, 5);
+        set.addEntry(1, 1);
+        set.addEntry(2, 3);
+
+        assertTrue(set.isFull());
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(5f, set.getYMax(), 0.01f);
+
+        // evicts (0, 5)
+        set.addEntry(3, 2);
+
+        assertEquals(3, set.getEntryCount());
+        assertEquals(1f, set.getXMin(), 0.01f);
+        assertEquals(3f, set.getXMax(), 0.01f);
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(3f, set.getYMax(), 0.01f);
+
+        assertEquals(1f, set.getEntryForIndex(0).getX(), 0.01f);
+        assertEquals(2f, set.getEntryForIndex(2).getY(), 0.01f);
+        assertEquals(2, set.getEntryIndex(3f, Float.NaN, DataSet.Rounding.CLOSEST));
+
+        float[] buffer = new float[6];
+        set.copyValues(buffer, 0, 0, 2, 1f);
+        assertEquals(1f, buffer[0], 0.01f);
+        assertEquals(3f, buffer[4], 0.01f);
+
+        assertTrue(set.removeLast());
+        assertEquals(2, set.getEntryCount());
+        assertEquals(3f, set.getYMax(), 0.01f);
+
+        assertTrue(set.removeEntry(new Entry(1, 1)));
+        assertEquals(1, set.getEntryCount());
+        assertEquals(3f, set.getYMin(), 0.01f);
+    }
+
+    @Test
+    public void testRemoveFirstUntilEmpty() {
+
+        RingBufferLineDataSet set = new RingBufferLineDataSet(4, "");
+
+        set.addEntry(0, 5);
+        set.addEntry(1, -2);
+
+        assertTrue(set.removeFirst());
+        assertTrue(set.removeFirst());
+        assertEquals(0, set.getEntryCount());
+
+        // no values left, the range must not keep the removed ones
+        assertEquals(Float.MAX_VALUE, set.getXMin(), 0.01f);
+        assertEquals(-Float.MAX_VALUE, set.getXMax(), 0.01f);
+        assertEquals(Float.MAX_VALUE, set.getYMin(), 0.01f);
+        assertEquals(-Float.MAX_VALUE, set.getYMax(), 0.01f);
+
+        set.addEntry(2, 7);
+
+        assertEquals(2f, set.getXMin(), 0.01f);
+        assertEquals(2f, set.getXMax(), 0.01f);
+        assertEquals(7f, set.getYMin(), 0.01f);
+        assertEquals(7f, set.getYMax(), 0.01f);
+    }
+
+    @Test
+    public void testRunningMinMax() {
+
+        Random random = new Random(42);
+
+        int capacity = 50;
+        float[] ys = new float[1000];
+
+        RingBufferLineDataSet set = new RingBufferLineDataSet(capacity, "");
+
+        for (int i = 0; i < ys.length; i++) {
+
+            ys[i] = random.nextFloat() * 100f;
+            set.addEntry(i, ys[i]);
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+
+            for (int j = Math.max(0, i - capacity + 1); j <= i; j++) {
+                min = Math.min(min, ys[j]);
+                max = Math.max(max, ys[j]);
+            }
+
+            assertEquals(min, set.getYMin(), 0f);
+            assertEquals(max, set.getYMax(), 0f);
+            assertEquals(Math.min(i + 1, capacity), set.getEntryCount());
+        }
+    }
+
+    @Test
+    public void testYRangeIndex() {
+
+        Random random = new Random(7);
+
+        int capacity = 40;
+        float[] ys = new float[300];
+
+        RingBufferLineDataSet set = new RingBufferLineDataSet(capacity, "");
+        set.setYRangeIndexEnabled(true);
+
+        for (int i = 0; i < ys.length; i++) {
+
+            ys[i] = random.nextFloat() * 100f - 50f;
+            set.addEntry(i, ys[i]);
+
+            int first = Math.max(0, i - capacity + 1);
+            int from = first + random.nextInt(i - first + 1);
+            int to = from + random.nextInt(i - from + 1);
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+
+            for (int j = from; j <= to; j++) {
+                min = Math.min(min, ys[j]);
+                max = Math.max(max, ys[j]);
+            }
+
+            set.calcMinMaxY(from, to);
+
+            assertEquals(min, set.getYMin(), 0f);
+            assertEquals(max, set.getYMax(), 0f);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.mikephil.charting.test;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Compares the scale + translate fast path of Transformer.pointValuesToPixel(...) with mapping
+ * the points through the value, touch and offset matrix one after the other. The Matrix class
+ * is a stub on the JVM, so both are emulated with the float arithmetic the Matrix uses for
+ * scale + translate matrices: concatenating computes the scale as product and the translation
+ * as scale * translation + translation, mapping computes value * scale + translation.
+ * <p/>
+ * Matrices are {scaleX, scaleY, transX, transY}.
+ */
+public class TransformerTest {
+
+    /**
+     * Returns other * m, like m.postConcat(other).
+     */
+    private static float[] postConcat(float[] m, float[] other) {
+        return new float[]{
+                other[0] * m[0],
+                other[1] * m[1],
+                other[0] * m[2] + other[2],
+                other[1] * m[3] + other[3]
+        };
+    }
+
+    private static float map(float value, float scale, float trans) {
+        return value * scale + trans;
+    }
+
+    /**
+     * Returns the largest difference in pixels between the fast path and the three mapping steps
+     * for random charts whose value range starts at most "offset" spans away from zero.
+     */
+    private float maxDifference(Random random, float offset) {
+
+        float max = 0f;
+
+        for (int chart = 0; chart < 500; chart++) {
+
+            float width = 300f + random.nextFloat() * 1500f;
+            float height = 300f + random.nextFloat() * 1500f;
+            float offsetLeft = random.nextFloat() * 100f;
+            float offsetBottom = random.nextFloat() * 100f;
+
+            float deltaX = 1f + random.nextFloat() * 1000f;
+            float deltaY = 1f + random.nextFloat() * 1000f;
+            float xMin = (random.nextFloat() - 0.5f) * 2f * deltaX * offset;
+            float yMin = (random.nextFloat() - 0.5f) * 2f * deltaY * offset;
+
+            float zoomX = 1f + random.nextFloat() * 20f;
+            float zoomY = 1f + random.nextFloat() * 5f;
+
+            float scaleX = width / deltaX;
+            float scaleY = height / deltaY;
+
+            // prepareMatrixValuePx(...): postTranslate(-xMin, -yMin), postScale(scaleX, -scaleY)
+            float[] value = {scaleX, -scaleY, -xMin * scaleX, -yMin * -scaleY};
+            float[] touch = {zoomX, zoomY,
+                    -random.nextFloat() * width * (zoomX - 1f),
+                    -random.nextFloat() * height * (zoomY - 1f)};
+            // prepareMatrixOffset(false)
+            float[] offsetMatrix = {1f, 1f, offsetLeft, height + offsetBottom};
+
+            // getValueToPixelMatrix(): value, touch, offset
+            float[] combined = postConcat(postConcat(value, touch), offsetMatrix);
+
+            for (int i = 0; i < 200; i++) {
+
+                float x = xMin + random.nextFloat() * deltaX;
+                float y = yMin + random.nextFloat() * deltaY;
+
+                float fastX = map(x, combined[0], combined[2]);
+                float fastY = map(y, combined[1], combined[3]);
+
+                float stepsX = map(map(map(x, value[0], value[2]), touch[0], touch[2]),
+                        offsetMatrix[0], offsetMatrix[2]);
+                float stepsY = map(map(map(y, value[1], value[3]), touch[1], touch[3]),
+                        offsetMatrix[1], offsetMatrix[3]);
+
+                max = Math.max(max, Math.abs(fastX - stepsX));
+                max = Math.max(max, Math.abs(fastY - stepsY));
+            }
+        }
+
+        return max;
+    }
+
+    @Test
+    public void testFastPathMatchesMatrixSteps() {
+
+        Random random = new Random(7);
+
+        // value ranges around zero, up to a zoom of 21
+        assertTrue(maxDifference(random, 0f) < 0.01f);
+        assertTrue(maxDifference(random, 1f) < 0.02f);
+
+        // ranges that start up to 10 spans away from zero still map to the same pixel
+        assertTrue(maxDifference(random, 10f) < 0.1f);
+    }
+
+    @Test
+    public void testUnzoomed() {
+
+        // without touch transformation the steps reduce to the same two operations
+        float[] value = {2.5f, -1.5f, -25f, 30f};
+        float[] touch = {1f, 1f, 0f, 0f};
+        float[] offset = {1f, 1f, 20f, 900f};
+
+        float[] combined = postConcat(postConcat(value, touch), offset);
+
+        for (int x = -100; x <= 100; x++) {
+
+            float steps = map(map(map(x, value[0], value[2]), touch[0], touch[2]),
+                    offset[0], offset[2]);
+
+            assertEquals(steps, map(x, combined[0], combined[2]), 0.0001f);
+        }
+    }
+}